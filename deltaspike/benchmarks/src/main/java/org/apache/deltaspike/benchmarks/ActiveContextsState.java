@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks;
+
+import org.apache.deltaspike.cdise.api.ContextControl;
+import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.apache.deltaspike.core.spi.scope.window.WindowContext;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.SessionScoped;
+
+/**
+ * Starts the request- and session-context for the current benchmark-thread and activates a window for it.
+ * Contexts are bound to threads, therefore this state has to be {@link Scope#Thread}.
+ */
+@State(Scope.Thread)
+public class ActiveContextsState
+{
+    private ContextControl contextControl;
+    private WindowContext windowContext;
+    private String windowId;
+
+    @Setup(Level.Trial)
+    public void startContexts(CdiContainerState cdiContainerState)
+    {
+        this.contextControl = cdiContainerState.getCdiContainer().getContextControl();
+        this.contextControl.startContext(SessionScoped.class);
+        this.contextControl.startContext(RequestScoped.class);
+
+        this.windowId = "benchmarkWindow-" + Thread.currentThread().getId();
+        this.windowContext = BeanProvider.getContextualReference(WindowContext.class);
+        this.windowContext.activateWindow(this.windowId);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContexts()
+    {
+        this.windowContext.closeWindow(this.windowId);
+        this.contextControl.stopContext(RequestScoped.class);
+        this.contextControl.stopContext(SessionScoped.class);
+    }
+
+    public WindowContext getWindowContext()
+    {
+        return this.windowContext;
+    }
+
+    public String getWindowId()
+    {
+        return this.windowId;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks;
+
+import org.apache.deltaspike.cdise.api.CdiContainer;
+import org.apache.deltaspike.cdise.api.CdiContainerLoader;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.spi.BeanManager;
+
+/**
+ * Boots the CDI container (provided by the active cdictrl profile) once per benchmark-run.
+ */
+@State(Scope.Benchmark)
+public class CdiContainerState
+{
+    private CdiContainer cdiContainer;
+
+    @Setup(Level.Trial)
+    public void bootContainer()
+    {
+        this.cdiContainer = CdiContainerLoader.getCdiContainer();
+        this.cdiContainer.boot();
+        this.cdiContainer.getContextControl().startContext(ApplicationScoped.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownContainer()
+    {
+        //stopping the application-context manually doesn't work with weld - see WELD-1072
+        this.cdiContainer.shutdown();
+    }
+
+    public CdiContainer getCdiContainer()
+    {
+        return this.cdiContainer;
+    }
+
+    public BeanManager getBeanManager()
+    {
+        return this.cdiContainer.getBeanManager();
+    }
+}
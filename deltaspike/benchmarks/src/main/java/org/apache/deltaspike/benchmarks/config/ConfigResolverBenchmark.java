@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.config;
+
+import org.apache.deltaspike.benchmarks.CdiContainerState;
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups via {@link ConfigResolver} with the config-sources of a booted container.
+ * The values are defined in META-INF/apache-deltaspike.properties of this module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ConfigResolverBenchmark
+{
+    @Benchmark
+    public String existingProperty(CdiContainerState cdiContainerState)
+    {
+        return ConfigResolver.getPropertyValue("deltaspike.benchmarks.existing_value");
+    }
+
+    @Benchmark
+    public String missingPropertyWithDefault(CdiContainerState cdiContainerState)
+    {
+        return ConfigResolver.getPropertyValue("deltaspike.benchmarks.missing_value", "default");
+    }
+
+    @Benchmark
+    public String projectStageAwareProperty(CdiContainerState cdiContainerState)
+    {
+        return ConfigResolver.getProjectStageAwarePropertyValue("deltaspike.benchmarks.existing_value");
+    }
+
+    @Benchmark
+    public Integer typedProperty(CdiContainerState cdiContainerState)
+    {
+        return ConfigResolver.resolve("deltaspike.benchmarks.numeric_value").as(Integer.class).getValue();
+    }
+}
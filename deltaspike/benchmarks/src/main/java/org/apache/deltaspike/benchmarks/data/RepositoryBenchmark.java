@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.data;
+
+import org.apache.deltaspike.benchmarks.ActiveContextsState;
+import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invocations of the methods of a data-module repository.
+ * The {@link javax.persistence.EntityManager} is a {@link org.apache.deltaspike.benchmarks.jpa.EntityManagerStub},
+ * therefore the results only contain the overhead of the data-module.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RepositoryBenchmark
+{
+    private BenchmarkEntityRepository repository;
+
+    @Setup(Level.Trial)
+    public void lookupRepository(ActiveContextsState activeContextsState)
+    {
+        this.repository = BeanProvider.getContextualReference(BenchmarkEntityRepository.class);
+    }
+
+    @Benchmark
+    public BenchmarkEntity findBy()
+    {
+        return this.repository.findBy(1L);
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> findAll()
+    {
+        return this.repository.findAll();
+    }
+
+    @Benchmark
+    public Long count()
+    {
+        return this.repository.count();
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> methodExpression()
+    {
+        return this.repository.findByName("DeltaSpike");
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> annotatedQuery()
+    {
+        return this.repository.findWithQuery("DeltaSpike");
+    }
+
+    @Benchmark
+    public BenchmarkEntity save()
+    {
+        BenchmarkEntity entity = new BenchmarkEntity();
+        entity.setName("DeltaSpike");
+        return this.repository.save(entity);
+    }
+}
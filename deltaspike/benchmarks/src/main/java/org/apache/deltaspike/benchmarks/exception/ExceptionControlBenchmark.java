@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.exception;
+
+import org.apache.deltaspike.benchmarks.CdiContainerState;
+import org.apache.deltaspike.core.api.exception.control.event.ExceptionToCatchEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.enterprise.inject.spi.BeanManager;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatching of exceptions to the handlers of {@link BenchmarkExceptionHandler}.
+ * The exceptions get created once, since the creation of the stack-traces would dominate the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExceptionControlBenchmark
+{
+    private BeanManager beanManager;
+
+    private Throwable simpleException;
+    private Throwable wrappedException;
+
+    @Setup(Level.Trial)
+    public void createExceptions(CdiContainerState cdiContainerState)
+    {
+        this.beanManager = cdiContainerState.getBeanManager();
+
+        this.simpleException = new IllegalStateException("simple");
+        this.wrappedException = new RuntimeException(new IllegalStateException(new UnsupportedOperationException()));
+    }
+
+    @Benchmark
+    public ExceptionToCatchEvent simpleException()
+    {
+        return fire(this.simpleException);
+    }
+
+    @Benchmark
+    public ExceptionToCatchEvent wrappedException()
+    {
+        return fire(this.wrappedException);
+    }
+
+    private ExceptionToCatchEvent fire(Throwable exception)
+    {
+        ExceptionToCatchEvent exceptionToCatchEvent = new ExceptionToCatchEvent(exception);
+        this.beanManager.fireEvent(exceptionToCatchEvent);
+        return exceptionToCatchEvent;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.jpa;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import javax.persistence.FlushModeType;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link EntityManager} without persistence-provider and database.
+ * It allows to measure the overhead of DeltaSpike (interceptors, repositories,...) without the costs of
+ * a real persistence-provider which would dominate the results.
+ */
+public final class EntityManagerStub
+{
+    private EntityManagerStub()
+    {
+    }
+
+    public static EntityManager createEntityManager()
+    {
+        return createProxy(EntityManager.class, new EntityManagerHandler());
+    }
+
+    private static <T> T createProxy(Class<T> type, InvocationHandler invocationHandler)
+    {
+        return type.cast(Proxy.newProxyInstance(
+                EntityManagerStub.class.getClassLoader(), new Class<?>[] { type }, invocationHandler));
+    }
+
+    private abstract static class AbstractStubHandler implements InvocationHandler
+    {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            String methodName = method.getName();
+
+            if ("equals".equals(methodName) && args != null && args.length == 1)
+            {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(methodName) && args == null)
+            {
+                return System.identityHashCode(proxy);
+            }
+            if ("toString".equals(methodName) && args == null)
+            {
+                return getClass().getSimpleName();
+            }
+
+            Object result = handle(proxy, method, args);
+
+            if (result == null && method.getReturnType().isPrimitive())
+            {
+                return defaultValue(method.getReturnType());
+            }
+            return result;
+        }
+
+        protected abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        private static Object defaultValue(Class<?> primitiveType)
+        {
+            if (boolean.class.equals(primitiveType))
+            {
+                return Boolean.FALSE;
+            }
+            if (int.class.equals(primitiveType))
+            {
+                return 0;
+            }
+            if (long.class.equals(primitiveType))
+            {
+                return 0L;
+            }
+            return null; //void
+        }
+    }
+
+    private static class EntityManagerHandler extends AbstractStubHandler
+    {
+        private final EntityTransaction transaction = createProxy(EntityTransaction.class, new TransactionHandler());
+
+        private final EntityManagerFactory entityManagerFactory =
+            createProxy(EntityManagerFactory.class, new EntityManagerFactoryHandler());
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            String methodName = method.getName();
+
+            if ("getTransaction".equals(methodName))
+            {
+                return this.transaction;
+            }
+            if ("getEntityManagerFactory".equals(methodName))
+            {
+                return this.entityManagerFactory;
+            }
+            if ("isOpen".equals(methodName))
+            {
+                return Boolean.TRUE;
+            }
+            if ("getFlushMode".equals(methodName))
+            {
+                return FlushModeType.AUTO;
+            }
+            if ("find".equals(methodName))
+            {
+                return ((Class<?>) args[0]).newInstance();
+            }
+            if ("merge".equals(methodName))
+            {
+                return args[0];
+            }
+            if (methodName.startsWith("create") && methodName.endsWith("Query"))
+            {
+                return createProxy(TypedQuery.class, new QueryHandler());
+            }
+            return null;
+        }
+    }
+
+    private static class EntityManagerFactoryHandler extends AbstractStubHandler
+    {
+        private final PersistenceUnitUtil persistenceUnitUtil =
+            createProxy(PersistenceUnitUtil.class, new AbstractStubHandler()
+            {
+                @Override
+                protected Object handle(Object proxy, Method method, Object[] args)
+                {
+                    return null; //every entity is new
+                }
+            });
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args)
+        {
+            if ("getPersistenceUnitUtil".equals(method.getName()))
+            {
+                return this.persistenceUnitUtil;
+            }
+            if ("isOpen".equals(method.getName()))
+            {
+                return Boolean.TRUE;
+            }
+            return null;
+        }
+    }
+
+    private static class TransactionHandler extends AbstractStubHandler
+    {
+        private boolean active;
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args)
+        {
+            String methodName = method.getName();
+
+            if ("begin".equals(methodName))
+            {
+                this.active = true;
+            }
+            else if ("commit".equals(methodName) || "rollback".equals(methodName))
+            {
+                this.active = false;
+            }
+            else if ("isActive".equals(methodName))
+            {
+                return this.active;
+            }
+            return null;
+        }
+    }
+
+    private static class QueryHandler extends AbstractStubHandler
+    {
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args)
+        {
+            Class<?> returnType = method.getReturnType();
+
+            if (Query.class.isAssignableFrom(returnType))
+            {
+                return proxy; //setters of the fluent api
+            }
+            if (List.class.equals(returnType))
+            {
+                return new ArrayList<Object>();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.jpa;
+
+import org.apache.deltaspike.benchmarks.ActiveContextsState;
+import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the interceptor for &#064;Transactional (with the default ResourceLocalTransactionStrategy).
+ * The {@link javax.persistence.EntityManager} is a {@link EntityManagerStub}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TransactionalBenchmark
+{
+    private TransactionalService transactionalService;
+    private OuterTransactionalService outerTransactionalService;
+
+    @Setup(Level.Trial)
+    public void lookupServices(ActiveContextsState activeContextsState)
+    {
+        this.transactionalService = BeanProvider.getContextualReference(TransactionalService.class);
+        this.outerTransactionalService = BeanProvider.getContextualReference(OuterTransactionalService.class);
+    }
+
+    @Benchmark
+    public boolean transaction()
+    {
+        return this.transactionalService.executeInTransaction();
+    }
+
+    @Benchmark
+    public boolean nestedTransaction()
+    {
+        return this.outerTransactionalService.executeNestedTransaction();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.message;
+
+import org.apache.deltaspike.benchmarks.CdiContainerState;
+import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.apache.deltaspike.core.impl.message.MessageFormatMessageInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of messages via a type-safe {@link org.apache.deltaspike.core.api.message.MessageBundle}.
+ * The beans.xml of this module enables the
+ * {@link MessageFormatMessageInterpolator}.
+ *
+ * The interpolation benchmarks format the template of {@link BenchmarkMessages#incomeSinceDays(int, float)}
+ * without the bundle lookup. {@link #uncachedMessageFormat()} parses the template for every invocation,
+ * like the interpolator did before it cached the parsed formats, and serves as baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MessageBundleBenchmark
+{
+    private static final String TEMPLATE = "The income since {0} days is {1}";
+
+    private BenchmarkMessages messages;
+
+    private final MessageFormatMessageInterpolator interpolator = new MessageFormatMessageInterpolator();
+    private final Serializable[] arguments = new Serializable[] {7, 1234.5f};
+    private final Locale locale = Locale.getDefault();
+
+    @Setup(Level.Trial)
+    public void lookupMessageBundle(CdiContainerState cdiContainerState)
+    {
+        this.messages = BeanProvider.getContextualReference(MessageBundleHolder.class).getMessages();
+    }
+
+    @Benchmark
+    public String resourceBundleTemplate()
+    {
+        return this.messages.welcomeTo("DeltaSpike");
+    }
+
+    @Benchmark
+    public String resourceBundleTemplateWithNumbers()
+    {
+        return this.messages.incomeSinceDays(7, 1234.5f);
+    }
+
+    @Benchmark
+    public String inlineTemplate()
+    {
+        return this.messages.inlineTemplate("DeltaSpike");
+    }
+
+    @Benchmark
+    public String cachedInterpolator()
+    {
+        return this.interpolator.interpolate(TEMPLATE, this.arguments, this.locale);
+    }
+
+    @Benchmark
+    public String uncachedMessageFormat()
+    {
+        return new MessageFormat(TEMPLATE, this.locale).format(this.arguments);
+    }
+}
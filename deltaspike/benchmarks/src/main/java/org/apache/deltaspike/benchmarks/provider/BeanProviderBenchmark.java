@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.provider;
+
+import org.apache.deltaspike.benchmarks.CdiContainerState;
+import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.apache.deltaspike.core.api.provider.DependentProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manual lookups via {@link BeanProvider}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BeanProviderBenchmark
+{
+    @Benchmark
+    public int contextualReferenceByType(CdiContainerState cdiContainerState)
+    {
+        return BeanProvider.getContextualReference(ApplicationScopedService.class).getValue();
+    }
+
+    @Benchmark
+    public int contextualReferenceByName(CdiContainerState cdiContainerState)
+    {
+        return BeanProvider.getContextualReference("applicationScopedService", false, ApplicationScopedService.class)
+                .getValue();
+    }
+
+    @Benchmark
+    public int dependentReference(CdiContainerState cdiContainerState)
+    {
+        DependentProvider<DependentService> dependentProvider = BeanProvider.getDependent(DependentService.class);
+
+        try
+        {
+            return dependentProvider.get().getValue();
+        }
+        finally
+        {
+            dependentProvider.destroy();
+        }
+    }
+}
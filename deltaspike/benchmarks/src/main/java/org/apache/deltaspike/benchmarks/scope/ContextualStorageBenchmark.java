@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.scope;
+
+import org.apache.deltaspike.benchmarks.CdiContainerState;
+import org.apache.deltaspike.core.util.context.AbstractContext;
+import org.apache.deltaspike.core.util.context.ContextualStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.BeanManager;
+import java.lang.annotation.Annotation;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent access to a single {@link ContextualStorage} like it happens for contexts which are shared
+ * between threads (e.g. a window which gets used by parallel requests).
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ContextualStorageBenchmark
+{
+    @Param({ "16", "256" })
+    private int beanCount;
+
+    /**
+     * Passivation capable storages use the interned bean keys instead of the beans as keys
+     */
+    @Param({ "false", "true" })
+    private boolean passivationCapable;
+
+    private final CreationalContext<Object> creationalContext = new SimpleContextual.SimpleCreationalContext();
+
+    private SimpleContextual[] beans;
+    private SharedStorageContext context;
+
+    @Setup(Level.Trial)
+    public void createBeans(CdiContainerState cdiContainerState)
+    {
+        this.beans = SimpleContextual.createContextuals("contended", this.beanCount);
+        this.context = new SharedStorageContext(cdiContainerState.getBeanManager(), this.passivationCapable);
+
+        for (SimpleContextual bean : this.beans)
+        {
+            this.context.get(bean, this.creationalContext);
+        }
+    }
+
+    @Benchmark
+    public Object getExisting(BeanCursor beanCursor)
+    {
+        return this.context.get(beanCursor.next(this.beans), this.creationalContext);
+    }
+
+    @Benchmark
+    public Object createAndDestroy(BeanCursor beanCursor)
+    {
+        SimpleContextual bean = beanCursor.nextOwnBean();
+        Object instance = this.context.get(bean, this.creationalContext);
+        this.context.destroy(bean);
+        return instance;
+    }
+
+    /**
+     * Every thread walks through the shared beans starting at a different position.
+     * Beans get only destroyed by the thread which owns them, since destroying a bean while it gets created
+     * by a different thread isn't a use-case of contexts.
+     */
+    @State(Scope.Thread)
+    public static class BeanCursor
+    {
+        private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+        private int position = new Random().nextInt(Integer.MAX_VALUE);
+        private SimpleContextual[] ownBeans;
+
+        @Setup(Level.Trial)
+        public void createOwnBeans(ContextualStorageBenchmark benchmark)
+        {
+            this.ownBeans = SimpleContextual.createContextuals(
+                "thread" + THREAD_COUNTER.incrementAndGet() + "-", benchmark.beanCount);
+        }
+
+        SimpleContextual next(SimpleContextual[] beans)
+        {
+            this.position++;
+            return beans[(this.position & Integer.MAX_VALUE) % beans.length];
+        }
+
+        SimpleContextual nextOwnBean()
+        {
+            return next(this.ownBeans);
+        }
+    }
+
+    private static class SharedStorageContext extends AbstractContext
+    {
+        private final ContextualStorage contextualStorage;
+
+        SharedStorageContext(BeanManager beanManager, boolean passivationCapable)
+        {
+            super(beanManager);
+            this.contextualStorage = new ContextualStorage(beanManager, true, passivationCapable);
+        }
+
+        @Override
+        protected ContextualStorage getContextualStorage(Contextual<?> contextual, boolean createIfNotExist)
+        {
+            return this.contextualStorage;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope()
+        {
+            return ApplicationScoped.class;
+        }
+
+        @Override
+        public boolean isActive()
+        {
+            return true;
+        }
+    }
+}
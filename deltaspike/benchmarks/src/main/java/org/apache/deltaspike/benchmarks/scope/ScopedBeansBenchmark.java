@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.scope;
+
+import org.apache.deltaspike.benchmarks.ActiveContextsState;
+import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.apache.deltaspike.core.spi.scope.conversation.GroupedConversationManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invocations of &#064;WindowScoped and &#064;GroupedConversationScoped beans via their proxies.
+ * The get-benchmarks reuse the existing instance, the create-benchmarks close the window or conversation before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ScopedBeansBenchmark
+{
+    private ActiveContextsState activeContextsState;
+    private GroupedConversationManager conversationManager;
+    private WindowScopedBean windowScopedBean;
+    private GroupedConversationScopedBean groupedConversationScopedBean;
+
+    @Setup(Level.Trial)
+    public void lookupBeans(ActiveContextsState activeContextsState)
+    {
+        this.activeContextsState = activeContextsState;
+        this.conversationManager = BeanProvider.getContextualReference(GroupedConversationManager.class);
+        this.windowScopedBean = BeanProvider.getContextualReference(WindowScopedBean.class);
+        this.groupedConversationScopedBean = BeanProvider.getContextualReference(GroupedConversationScopedBean.class);
+    }
+
+    @Benchmark
+    public int windowScopedGet()
+    {
+        return this.windowScopedBean.increment();
+    }
+
+    @Benchmark
+    public int windowScopedCreate()
+    {
+        String windowId = this.activeContextsState.getWindowId();
+        this.activeContextsState.getWindowContext().closeWindow(windowId);
+        this.activeContextsState.getWindowContext().activateWindow(windowId);
+
+        return this.windowScopedBean.increment();
+    }
+
+    @Benchmark
+    public int groupedConversationScopedGet()
+    {
+        return this.groupedConversationScopedBean.increment();
+    }
+
+    @Benchmark
+    public int groupedConversationScopedCreate()
+    {
+        this.conversationManager.closeConversation(GroupedConversationScopedBean.class);
+
+        return this.groupedConversationScopedBean.increment();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.scope;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.PassivationCapable;
+import java.io.Serializable;
+
+/**
+ * {@link Contextual} which isn't known by the container. It allows to benchmark contexts with an arbitrary number
+ * of beans without generating bean-classes.
+ */
+public class SimpleContextual implements Contextual<Object>, PassivationCapable, Serializable
+{
+    private static final long serialVersionUID = -4245541839405434591L;
+
+    private final String id;
+
+    public SimpleContextual(String id)
+    {
+        this.id = id;
+    }
+
+    public static SimpleContextual[] createContextuals(String prefix, int count)
+    {
+        SimpleContextual[] result = new SimpleContextual[count];
+
+        for (int i = 0; i < count; i++)
+        {
+            result[i] = new SimpleContextual(prefix + i);
+        }
+        return result;
+    }
+
+    @Override
+    public Object create(CreationalContext<Object> creationalContext)
+    {
+        return new StringBuilder(this.id);
+    }
+
+    @Override
+    public void destroy(Object instance, CreationalContext<Object> creationalContext)
+    {
+        creationalContext.release();
+    }
+
+    @Override
+    public String getId()
+    {
+        return this.id;
+    }
+
+    /**
+     * {@link CreationalContext} without dependent instances which can be shared between threads.
+     */
+    public static class SimpleCreationalContext implements CreationalContext<Object>, Serializable
+    {
+        private static final long serialVersionUID = 2591632546314389826L;
+
+        @Override
+        public void push(Object incompleteInstance)
+        {
+        }
+
+        @Override
+        public void release()
+        {
+        }
+    }
+}
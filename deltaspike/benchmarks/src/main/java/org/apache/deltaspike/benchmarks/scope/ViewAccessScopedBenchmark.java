@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.benchmarks.scope;
+
+import org.apache.deltaspike.benchmarks.ActiveContextsState;
+import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.apache.deltaspike.core.impl.scope.DeltaSpikeContextExtension;
+import org.apache.deltaspike.core.impl.scope.viewaccess.ViewAccessContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.enterprise.context.spi.CreationalContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Navigations between two views of a window with many &#064;ViewAccessScoped beans.
+ * Every invocation accesses the beans the way a rendering process would do it and finishes the view afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ViewAccessScopedBenchmark
+{
+    @Param({ "10", "100", "500" })
+    private int beanCount;
+
+    private final CreationalContext<Object> creationalContext = new SimpleContextual.SimpleCreationalContext();
+
+    private ViewAccessContext viewAccessContext;
+    private SimpleContextual[] beans;
+    private boolean firstView;
+
+    @Setup(Level.Trial)
+    public void createBeans(ActiveContextsState activeContextsState)
+    {
+        this.viewAccessContext =
+            BeanProvider.getContextualReference(DeltaSpikeContextExtension.class).getViewAccessScopedContext();
+        this.beans = SimpleContextual.createContextuals("viewAccess", this.beanCount);
+    }
+
+    @Benchmark
+    public int navigationKeepingAllBeans()
+    {
+        return accessBeans(1) + finishView();
+    }
+
+    @Benchmark
+    public int navigationDestroyingHalfOfTheBeans()
+    {
+        // re-creates the beans destroyed by the last invocation
+        int result = accessBeans(1) + finishView();
+        return result + accessBeans(2) + finishView();
+    }
+
+    private int accessBeans(int step)
+    {
+        int result = 0;
+        for (int i = 0; i < this.beans.length; i += step)
+        {
+            result += this.viewAccessContext.get(this.beans[i], this.creationalContext).hashCode();
+        }
+        return result;
+    }
+
+    private int finishView()
+    {
+        this.firstView = !this.firstView;
+
+        String viewId = this.firstView ? "/firstView.xhtml" : "/secondView.xhtml";
+        this.viewAccessContext.onProcessingViewFinished(viewId);
+        return viewId.length();
+    }
+}
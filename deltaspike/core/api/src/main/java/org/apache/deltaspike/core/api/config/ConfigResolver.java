@@ -18,14 +18,24 @@
  */
 package org.apache.deltaspike.core.api.config;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -35,6 +45,7 @@ import org.apache.deltaspike.core.api.projectstage.ProjectStage;
 import org.apache.deltaspike.core.spi.config.ConfigFilter;
 import org.apache.deltaspike.core.spi.config.ConfigSource;
 import org.apache.deltaspike.core.spi.config.ConfigSourceProvider;
+import org.apache.deltaspike.core.spi.config.VersionedConfigSource;
 import org.apache.deltaspike.core.util.ClassUtils;
 import org.apache.deltaspike.core.util.ProjectStageProducer;
 import org.apache.deltaspike.core.util.ServiceUtils;
@@ -49,22 +60,49 @@ import org.apache.deltaspike.core.util.ServiceUtils;
 @Typed()
 public final class ConfigResolver
 {
+    /**
+     * Config key to enable the cache for resolved config values (default: false).
+     * The cache only gets used if all {@link ConfigSource}s which change their values at runtime
+     * implement {@link VersionedConfigSource} or invoke {@link #invalidateCache()}.
+     */
+    public static final String CONFIG_CACHE_ENABLED_KEY = "deltaspike.config.cache.enabled";
+
+    /**
+     * Config key for the max. number of cached values per application (default: 1000).
+     */
+    public static final String CONFIG_CACHE_MAX_SIZE_KEY = "deltaspike.config.cache.max_size";
+
+    private static final int CONFIG_CACHE_MAX_SIZE_DEFAULT = 1000;
+
     private static final Logger LOG = Logger.getLogger(ConfigResolver.class.getName());
 
     /**
-     * The content of this map will get lazily initiated and will hold the
-     * sorted List of ConfigSources for each WebApp/EAR, etc (thus the
-     * ClassLoader).
+     * Gets incremented by {@link #invalidateCache()} and thus invalidates all cached values.
      */
-    private static Map<ClassLoader, ConfigSource[]> configSources
-        = new ConcurrentHashMap<ClassLoader, ConfigSource[]>();
+    private static final AtomicLong INVALIDATION_COUNTER = new AtomicLong();
 
     /**
-     * The content of this map will hold the List of ConfigFilters
+     * Converters which are available for all applications.
+     */
+    private static final Map<Class<?>, Converter<?>> DEFAULT_CONVERTERS = createDefaultConverters();
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPERS = createPrimitiveWrappers();
+
+    /**
+     * The content of this map will get lazily initiated and will hold an immutable
+     * {@link ConfigSnapshot} with the sorted ConfigSources, the ConfigFilters and the cache
+     * of resolved values for each WebApp/EAR, etc (thus the ClassLoader).
+     * Every change replaces the whole snapshot, therefore readers never need a lock.
+     */
+    private static ConcurrentMap<ClassLoader, ConfigSnapshot> configSnapshots
+        = new ConcurrentHashMap<ClassLoader, ConfigSnapshot>();
+
+    /**
+     * The content of this map will hold the {@link Converter}s registered
      * for each WebApp/EAR, etc (thus the ClassLoader).
      */
-    private static Map<ClassLoader, List<ConfigFilter>> configFilters
-        = new ConcurrentHashMap<ClassLoader, List<ConfigFilter>>();
+    private static Map<ClassLoader, ConcurrentMap<Class<?>, Converter<?>>> converters
+        = new ConcurrentHashMap<ClassLoader, ConcurrentMap<Class<?>, Converter<?>>>();
 
     private static volatile ProjectStage projectStage = null;
 
@@ -79,29 +117,82 @@ public final class ConfigResolver
      *
      * @param configSourcesToAdd the ConfigSources to add
      */
-    public static synchronized void addConfigSources(List<ConfigSource> configSourcesToAdd)
+    public static void addConfigSources(List<ConfigSource> configSourcesToAdd)
     {
-        // we first pickup all pre-configured ConfigSources...
-        getConfigSources();
-
-        // and now we can easily add our own
         ClassLoader currentClassLoader = ClassUtils.getClassLoader(null);
-        ConfigSource[] configuredConfigSources = configSources.get(currentClassLoader);
 
-        List<ConfigSource> allConfigSources = new ArrayList<ConfigSource>();
-        allConfigSources.addAll(Arrays.asList(configuredConfigSources));
-        allConfigSources.addAll(configSourcesToAdd);
+        ConfigSnapshot currentSnapshot;
+        ConfigSnapshot newSnapshot;
+        do
+        {
+            // we first pickup all pre-configured ConfigSources...
+            currentSnapshot = getConfigSnapshot(currentClassLoader);
+
+            // and now we can easily add our own
+            List<ConfigSource> allConfigSources = new ArrayList<ConfigSource>();
+            allConfigSources.addAll(Arrays.asList(currentSnapshot.configSources));
+            allConfigSources.addAll(configSourcesToAdd);
 
-        // finally put all the configSources back into the map
-        configSources.put(currentClassLoader, sortDescending(allConfigSources));
+            newSnapshot = new ConfigSnapshot(sortDescending(allConfigSources), currentSnapshot.configFilters);
+        }
+        // finally replace the snapshot, if nobody else changed it in the meantime
+        while (!replaceConfigSnapshot(currentClassLoader, currentSnapshot, newSnapshot));
     }
 
     /**
      * Clear all ConfigSources for the current ClassLoader
      */
-    public static synchronized void freeConfigSources()
+    public static void freeConfigSources()
     {
-        configSources.remove(ClassUtils.getClassLoader(null));
+        ClassLoader currentClassLoader = ClassUtils.getClassLoader(null);
+
+        ConfigSnapshot currentSnapshot;
+        do
+        {
+            currentSnapshot = configSnapshots.get(currentClassLoader);
+
+            if (currentSnapshot == null)
+            {
+                return;
+            }
+        }
+        // the ConfigFilters stay registered
+        while (!replaceConfigSnapshot(currentClassLoader, currentSnapshot,
+                new ConfigSnapshot(null, currentSnapshot.configFilters)));
+    }
+
+    /**
+     * Invalidates all cached config values of all applications.
+     * This method can be used by {@link ConfigSource}s which get notified about changes
+     * of their values and therefore don't implement {@link VersionedConfigSource}.
+     */
+    public static void invalidateCache()
+    {
+        INVALIDATION_COUNTER.incrementAndGet();
+    }
+
+    /**
+     * @return the number of lookups of the current application which were served by the cache
+     */
+    public static long getCacheHitCount()
+    {
+        return getConfigSnapshot().resolvedValueCache.hitCount.get();
+    }
+
+    /**
+     * @return the number of lookups of the current application which couldn't be served by the cache
+     */
+    public static long getCacheMissCount()
+    {
+        return getConfigSnapshot().resolvedValueCache.missCount.get();
+    }
+
+    /**
+     * @return the number of values which are currently cached for the current application
+     */
+    public static int getCacheSize()
+    {
+        return getConfigSnapshot().resolvedValueCache.values.size();
     }
 
     /**
@@ -112,25 +203,71 @@ public final class ConfigResolver
      */
     public static void addConfigFilter(ConfigFilter configFilter)
     {
+        ClassLoader currentClassLoader = ClassUtils.getClassLoader(null);
+
+        ConfigSnapshot currentSnapshot;
+        ConfigSnapshot newSnapshot;
+        do
+        {
+            currentSnapshot = configSnapshots.get(currentClassLoader);
+
+            List<ConfigFilter> allConfigFilters = new ArrayList<ConfigFilter>();
+            ConfigSource[] currentConfigSources = null;
+            if (currentSnapshot != null)
+            {
+                allConfigFilters.addAll(currentSnapshot.configFilters);
+                currentConfigSources = currentSnapshot.configSources;
+            }
+            allConfigFilters.add(configFilter);
 
-        List<ConfigFilter> currentConfigFilters = getConfigFilters();
-        currentConfigFilters.add(configFilter);
+            newSnapshot = new ConfigSnapshot(currentConfigSources, Collections.unmodifiableList(allConfigFilters));
+        }
+        while (!replaceConfigSnapshot(currentClassLoader, currentSnapshot, newSnapshot));
     }
 
     /**
-     * @return the {@link ConfigFilter}s for the current application.
+     * Remove a {@link ConfigFilter} which was added via {@link #addConfigFilter(ConfigFilter)}.
+     * This will only affect the current WebApp
+     * (or more precisely the current ClassLoader and it's children).
+     * @param configFilter
      */
-    public static List<ConfigFilter> getConfigFilters()
+    public static void removeConfigFilter(ConfigFilter configFilter)
     {
-        ClassLoader cl = ClassUtils.getClassLoader(null);
-        List<ConfigFilter> currentConfigFilters = configFilters.get(cl);
-        if (currentConfigFilters == null)
+        ClassLoader currentClassLoader = ClassUtils.getClassLoader(null);
+
+        ConfigSnapshot currentSnapshot;
+        ConfigSnapshot newSnapshot;
+        do
         {
-            currentConfigFilters = new ArrayList<ConfigFilter>();
-            configFilters.put(cl, currentConfigFilters);
+            currentSnapshot = configSnapshots.get(currentClassLoader);
+
+            if (currentSnapshot == null || !currentSnapshot.configFilters.contains(configFilter))
+            {
+                return;
+            }
+
+            List<ConfigFilter> allConfigFilters = new ArrayList<ConfigFilter>(currentSnapshot.configFilters);
+            allConfigFilters.remove(configFilter);
+
+            newSnapshot = new ConfigSnapshot(currentSnapshot.configSources,
+                    Collections.unmodifiableList(allConfigFilters));
         }
+        while (!replaceConfigSnapshot(currentClassLoader, currentSnapshot, newSnapshot));
+    }
 
-        return currentConfigFilters;
+    /**
+     * @return an unmodifiable List of the {@link ConfigFilter}s for the current application.
+     * New filters have to be added via {@link #addConfigFilter(ConfigFilter)}.
+     */
+    public static List<ConfigFilter> getConfigFilters()
+    {
+        ConfigSnapshot currentSnapshot = configSnapshots.get(ClassUtils.getClassLoader(null));
+
+        if (currentSnapshot == null)
+        {
+            return Collections.emptyList();
+        }
+        return currentSnapshot.configFilters;
     }
 
     /**
@@ -160,18 +297,24 @@ public final class ConfigResolver
      */
     public static String getPropertyValue(String key)
     {
-        ConfigSource[] appConfigSources = getConfigSources();
+        return getCachedPropertyValue(key, null);
+    }
 
+    private static String resolvePropertyValue(ConfigSnapshot snapshot, String key)
+    {
         String value;
-        for (ConfigSource configSource : appConfigSources)
+        for (ConfigSource configSource : snapshot.configSources)
         {
             value = configSource.getPropertyValue(key);
 
             if (value != null)
             {
-                LOG.log(Level.FINE, "found value {0} for key {1} in ConfigSource {2}.",
-                        new Object[]{filterConfigValueForLog(key, value), key, configSource.getConfigName()});
-                return filterConfigValue(key, value);
+                if (LOG.isLoggable(Level.FINE))
+                {
+                    LOG.log(Level.FINE, "found value {0} for key {1} in ConfigSource {2}.", new Object[]{
+                        filterConfigValueForLog(snapshot, key, value), key, configSource.getConfigName()});
+                }
+                return filterConfigValue(snapshot, key, value);
             }
 
             LOG.log(Level.FINER, "NO value found for key {0} in ConfigSource {1}.",
@@ -198,12 +341,15 @@ public final class ConfigResolver
      */
     public static String getProjectStageAwarePropertyValue(String key)
     {
-        ProjectStage ps = getProjectStage();
+        return getCachedPropertyValue(key, getProjectStage());
+    }
 
-        String value = getPropertyValue(key + '.' + ps);
+    private static String resolveProjectStageAwarePropertyValue(ConfigSnapshot snapshot, String key, ProjectStage ps)
+    {
+        String value = resolvePropertyValue(snapshot, key + '.' + ps);
         if (value == null)
         {
-            value = getPropertyValue(key);
+            value = resolvePropertyValue(snapshot, key);
         }
 
         return value;
@@ -303,8 +449,9 @@ public final class ConfigResolver
      */
     public static List<String> getAllPropertyValues(String key)
     {
+        ConfigSnapshot snapshot = getConfigSnapshot();
         List<ConfigSource> appConfigSources =
-                sortAscending(new ArrayList<ConfigSource>(Arrays.asList(getConfigSources())));
+                sortAscending(new ArrayList<ConfigSource>(Arrays.asList(snapshot.configSources)));
         List<String> result = new ArrayList<String>();
 
         String value;
@@ -314,7 +461,7 @@ public final class ConfigResolver
 
             if (value != null)
             {
-                value = filterConfigValue(key, value);
+                value = filterConfigValue(snapshot, key, value);
                 if (!result.contains(value))
                 {
                     result.add(value);
@@ -328,7 +475,7 @@ public final class ConfigResolver
     public static Map<String, String> getAllProperties()
     {
         List<ConfigSource> appConfigSources =
-                sortAscending(new ArrayList<ConfigSource>(Arrays.asList(getConfigSources())));
+                sortAscending(new ArrayList<ConfigSource>(Arrays.asList(getConfigSnapshot().configSources)));
         Map<String, String> result = new HashMap<String, String>();
 
         for (ConfigSource configSource : appConfigSources)
@@ -342,29 +489,401 @@ public final class ConfigResolver
         return Collections.unmodifiableMap(result);
     }
 
-    private static synchronized ConfigSource[] getConfigSources()
+    /**
+     * Resolve all properties whose key starts with the given prefix, e.g. all keys under
+     * <code>datasource.mysql.</code>. Like {@link #getAllProperties()} only scannable ConfigSources
+     * get taken into account.
+     *
+     * <p>The lookup is backed by a sorted index of the merged ConfigSources which only gets rebuilt
+     * if ConfigSources got added, a {@link VersionedConfigSource} changed or {@link #invalidateCache()}
+     * got called. Changes of other ConfigSources aren't visible before one of those events.</p>
+     *
+     * @param prefix the common prefix of the keys
+     * @return an unmodifiable Map with the filtered values of all keys starting with the given prefix
+     */
+    public static Map<String, String> getPropertiesWithPrefix(String prefix)
     {
-        ClassLoader currentClassLoader = ClassUtils.getClassLoader(null);
+        ConfigSnapshot snapshot = getConfigSnapshot();
+        SortedMap<String, String> section = snapshot.getPropertyIndex().subMap(prefix, prefix + Character.MAX_VALUE);
 
-        ConfigSource[] appConfigSources = configSources.get(currentClassLoader);
+        Map<String, String> result = new HashMap<String, String>(section.size() * 4 / 3 + 1);
+        for (Map.Entry<String, String> entry : section.entrySet())
+        {
+            result.put(entry.getKey(), filterConfigValue(snapshot, entry.getKey(), entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * <p>Binds all properties of a config section to a new instance of the given type.
+     * The type needs a default constructor. Every non-static and non-final field gets set to the
+     * value of the key <code>&lt;prefix&gt;.&lt;fieldName&gt;</code> converted via the {@link Converter}
+     * for the type of the field. Fields without a configured value keep their initial value.</p>
+     *
+     * <pre>
+     * public class DataSourceConfig
+     * {
+     *     private String url;
+     *     private int maxPoolSize = 10;
+     * }
+     *
+     * DataSourceConfig config = ConfigResolver.bindSection("datasource.mysql", DataSourceConfig.class);
+     * </pre>
+     *
+     * <p>All values get resolved with a single lookup of the section
+     * (see {@link #getPropertiesWithPrefix(String)}) and a ProjectStage specific value
+     * (e.g. <code>datasource.mysql.url.UnitTest</code>) overrules the default value.</p>
+     *
+     * @param prefix the prefix of the section with or without a trailing dot
+     * @param sectionType the type to create
+     * @param <T> section type
+     * @return a new instance of the given type with the configured values
+     * @throws IllegalArgumentException if the type can't be created or a value can't be converted
+     */
+    public static <T> T bindSection(String prefix, Class<T> sectionType)
+    {
+        String sectionPrefix = prefix.endsWith(".") ? prefix : prefix + '.';
+        Map<String, String> sectionValues = getPropertiesWithPrefix(sectionPrefix);
+        ProjectStage ps = getProjectStage();
 
-        if (appConfigSources == null)
+        T section;
+        try
+        {
+            section = sectionType.newInstance();
+        }
+        catch (Exception e)
         {
-            appConfigSources = sortDescending(resolveConfigSources());
+            throw new IllegalArgumentException("Can't create config section " + sectionType.getName(), e);
+        }
 
-            if (LOG.isLoggable(Level.FINE))
+        for (Class<?> currentType = sectionType; currentType != null && currentType != Object.class;
+             currentType = currentType.getSuperclass())
+        {
+            for (Field field : currentType.getDeclaredFields())
             {
-                for (ConfigSource cs : appConfigSources)
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()) ||
+                        field.isSynthetic())
+                {
+                    continue;
+                }
+
+                String key = sectionPrefix + field.getName();
+                String value = sectionValues.get(key + '.' + ps);
+                if (value == null)
+                {
+                    value = sectionValues.get(key);
+                }
+
+                if (value != null)
                 {
-                    LOG.log(Level.FINE, "Adding ordinal {0} ConfigSource {1}",
-                            new Object[]{cs.getOrdinal(), cs.getConfigName()});
+                    setSectionValue(section, field, key, value);
                 }
             }
+        }
+        return section;
+    }
+
+    /**
+     * <p>Creates a reusable handle for the lookup of the configured value of the given key.
+     * The handle can be configured once (e.g. stored in a static final field) and afterwards
+     * {@link TypedResolver#getValue()} only resolves the configured value and converts it
+     * if it changed since the last invocation.</p>
+     *
+     * <pre>
+     * private static final ConfigResolver.TypedResolver&lt;Integer&gt; PAGE_SIZE =
+     *     ConfigResolver.resolve("myapp.page_size").as(Integer.class).withDefault(20).withProjectStage(true);
+     * </pre>
+     *
+     * <p>The handle has to be configured before it gets shared between threads.</p>
+     *
+     * @param key the property key
+     * @return a handle for the configured value which can be further configured
+     */
+    public static UntypedResolver<String> resolve(String key)
+    {
+        return new TypedResolverImpl<String>(key);
+    }
+
+    /**
+     * Register a {@link Converter} for the given type for the current application.
+     * A registered Converter replaces the default Converter for the same type.
+     * Handles created via {@link #resolve(String)} look up the Converter
+     * once in {@link UntypedResolver#as(Class)}.
+     *
+     * @param targetType the type the Converter creates
+     * @param converter the Converter to register
+     * @param <T> target type
+     */
+    public static <T> void addConverter(Class<T> targetType, Converter<T> converter)
+    {
+        ClassLoader cl = ClassUtils.getClassLoader(null);
+        ConcurrentMap<Class<?>, Converter<?>> currentConverters = converters.get(cl);
+        if (currentConverters == null)
+        {
+            currentConverters = new ConcurrentHashMap<Class<?>, Converter<?>>();
+            converters.put(cl, currentConverters);
+        }
+
+        currentConverters.put(targetType, converter);
+    }
+
+    /**
+     * Primitive types are mapped to their wrapper types.
+     *
+     * @param targetType the type the Converter should create
+     * @param <T> target type
+     * @return the Converter for the given type or <code>null</code> if there is no Converter for it
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Converter<T> getConverter(Class<T> targetType)
+    {
+        Class<?> converterType = targetType;
+        if (converterType.isPrimitive())
+        {
+            converterType = PRIMITIVE_WRAPPERS.get(converterType);
+
+            if (converterType == null)
+            {
+                return null;
+            }
+        }
 
-            configSources.put(currentClassLoader, appConfigSources);
+        Map<Class<?>, Converter<?>> currentConverters = converters.get(ClassUtils.getClassLoader(null));
+
+        Converter<?> converter = null;
+        if (currentConverters != null)
+        {
+            converter = currentConverters.get(converterType);
         }
 
-        return appConfigSources;
+        if (converter == null)
+        {
+            converter = DEFAULT_CONVERTERS.get(converterType);
+        }
+        return (Converter<T>) converter;
+    }
+
+    private static void setSectionValue(Object section, Field field, String key, String value)
+    {
+        Converter<?> converter = getConverter(field.getType());
+        if (converter == null)
+        {
+            throw new IllegalArgumentException("There is no Converter for " + field.getType().getName() +
+                    " to bind property '" + key + "'");
+        }
+
+        Object convertedValue;
+        try
+        {
+            convertedValue = converter.convert(value);
+        }
+        catch (RuntimeException e)
+        {
+            throw new IllegalArgumentException("Error while converting " + field.getType().getName() +
+                    " property '" + key + "' value: " + value, e);
+        }
+
+        if (convertedValue == null && field.getType().isPrimitive())
+        {
+            return;
+        }
+
+        try
+        {
+            if (!field.isAccessible())
+            {
+                field.setAccessible(true);
+            }
+            field.set(section, convertedValue);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalArgumentException("Can't set property '" + key + "'", e);
+        }
+    }
+
+    private static ConfigSnapshot getConfigSnapshot()
+    {
+        return getConfigSnapshot(ClassUtils.getClassLoader(null));
+    }
+
+    private static ConfigSnapshot getConfigSnapshot(ClassLoader currentClassLoader)
+    {
+        ConfigSnapshot snapshot = configSnapshots.get(currentClassLoader);
+
+        if (snapshot == null || snapshot.configSources == null)
+        {
+            snapshot = initConfigSnapshot(currentClassLoader);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Only the initial lookup of the ConfigSources is synchronized to avoid resolving them several times.
+     */
+    private static synchronized ConfigSnapshot initConfigSnapshot(ClassLoader currentClassLoader)
+    {
+        ConfigSnapshot snapshot = configSnapshots.get(currentClassLoader);
+
+        if (snapshot != null && snapshot.configSources != null)
+        {
+            return snapshot;
+        }
+
+        ConfigSource[] appConfigSources = sortDescending(resolveConfigSources());
+
+        if (LOG.isLoggable(Level.FINE))
+        {
+            for (ConfigSource cs : appConfigSources)
+            {
+                LOG.log(Level.FINE, "Adding ordinal {0} ConfigSource {1}",
+                        new Object[]{cs.getOrdinal(), cs.getConfigName()});
+            }
+        }
+
+        ConfigSnapshot newSnapshot;
+        do
+        {
+            // ConfigFilters might get added in the meantime
+            snapshot = configSnapshots.get(currentClassLoader);
+            List<ConfigFilter> currentConfigFilters = Collections.emptyList();
+            if (snapshot != null)
+            {
+                currentConfigFilters = snapshot.configFilters;
+            }
+
+            newSnapshot = new ConfigSnapshot(appConfigSources, currentConfigFilters);
+        }
+        while (!replaceConfigSnapshot(currentClassLoader, snapshot, newSnapshot));
+
+        return newSnapshot;
+    }
+
+    private static boolean replaceConfigSnapshot(ClassLoader currentClassLoader,
+                                                 ConfigSnapshot currentSnapshot,
+                                                 ConfigSnapshot newSnapshot)
+    {
+        if (currentSnapshot == null)
+        {
+            return configSnapshots.putIfAbsent(currentClassLoader, newSnapshot) == null;
+        }
+        return configSnapshots.replace(currentClassLoader, currentSnapshot, newSnapshot);
+    }
+
+    /**
+     * @param key the property key
+     * @param ps the ProjectStage to take into account or <code>null</code> for a plain lookup
+     * @return the cached value or the resolved value if the cache isn't enabled or outdated
+     */
+    private static String getCachedPropertyValue(String key, ProjectStage ps)
+    {
+        ConfigSnapshot snapshot = getConfigSnapshot();
+        ResolvedValueCache cache = snapshot.resolvedValueCache;
+
+        if (!cache.enabled)
+        {
+            return resolveValue(snapshot, key, ps);
+        }
+
+        long currentVersion = snapshot.getCurrentVersion();
+        ResolvedValueCacheKey cacheKey = new ResolvedValueCacheKey(key, ps);
+        ResolvedValue cachedValue = cache.values.get(cacheKey);
+
+        if (cachedValue != null && cachedValue.version == currentVersion)
+        {
+            cache.hitCount.incrementAndGet();
+            return cachedValue.value;
+        }
+
+        cache.missCount.incrementAndGet();
+
+        String value = resolveValue(snapshot, key, ps);
+
+        if (cachedValue != null || cache.values.size() < cache.maxSize)
+        {
+            cache.values.put(cacheKey, new ResolvedValue(value, currentVersion));
+        }
+        return value;
+    }
+
+    private static String resolveValue(ConfigSnapshot snapshot, String key, ProjectStage ps)
+    {
+        if (ps == null)
+        {
+            return resolvePropertyValue(snapshot, key);
+        }
+        return resolveProjectStageAwarePropertyValue(snapshot, key, ps);
+    }
+
+    private static Map<Class<?>, Class<?>> createPrimitiveWrappers()
+    {
+        Map<Class<?>, Class<?>> result = new HashMap<Class<?>, Class<?>>();
+        result.put(boolean.class, Boolean.class);
+        result.put(int.class, Integer.class);
+        result.put(long.class, Long.class);
+        result.put(float.class, Float.class);
+        result.put(double.class, Double.class);
+        return result;
+    }
+
+    private static Map<Class<?>, Converter<?>> createDefaultConverters()
+    {
+        Map<Class<?>, Converter<?>> result = new HashMap<Class<?>, Converter<?>>();
+
+        result.put(String.class, new Converter<String>()
+        {
+            @Override
+            public String convert(String value)
+            {
+                return value;
+            }
+        });
+        result.put(Integer.class, new Converter<Integer>()
+        {
+            @Override
+            public Integer convert(String value)
+            {
+                return Integer.valueOf(value);
+            }
+        });
+        result.put(Long.class, new Converter<Long>()
+        {
+            @Override
+            public Long convert(String value)
+            {
+                return Long.valueOf(value);
+            }
+        });
+        result.put(Float.class, new Converter<Float>()
+        {
+            @Override
+            public Float convert(String value)
+            {
+                return Float.valueOf(value);
+            }
+        });
+        result.put(Double.class, new Converter<Double>()
+        {
+            @Override
+            public Double convert(String value)
+            {
+                return Double.valueOf(value);
+            }
+        });
+        result.put(Boolean.class, new Converter<Boolean>()
+        {
+            private final Set<String> trueValues =
+                new HashSet<String>(Arrays.asList("TRUE", "1", "YES", "Y", "JA", "J", "OUI"));
+
+            @Override
+            public Boolean convert(String value)
+            {
+                return trueValues.contains(value.toUpperCase(Locale.ENGLISH));
+            }
+        });
+
+        return Collections.unmodifiableMap(result);
     }
 
     private static List<ConfigSource> resolveConfigSources()
@@ -440,9 +959,9 @@ public final class ConfigResolver
         return value;
     }
 
-    private static String filterConfigValue(String key, String value)
+    private static String filterConfigValue(ConfigSnapshot snapshot, String key, String value)
     {
-        List<ConfigFilter> currentConfigFilters = getConfigFilters();
+        List<ConfigFilter> currentConfigFilters = snapshot.configFilters;
 
         String filteredValue = value;
 
@@ -453,9 +972,9 @@ public final class ConfigResolver
         return filteredValue;
     }
 
-    private static String filterConfigValueForLog(String key, String value)
+    private static String filterConfigValueForLog(ConfigSnapshot snapshot, String key, String value)
     {
-        List<ConfigFilter> currentConfigFilters = getConfigFilters();
+        List<ConfigFilter> currentConfigFilters = snapshot.configFilters;
 
         String logValue = value;
 
@@ -466,5 +985,488 @@ public final class ConfigResolver
         return logValue;
     }
 
+    /**
+     * Converts a configured value to the target type.
+     *
+     * @param <T> target type
+     */
+    public interface Converter<T>
+    {
+        /**
+         * @param value the configured value, never <code>null</code>
+         * @return the converted value
+         */
+        T convert(String value);
+    }
+
+    /**
+     * Reusable handle for a typed config value.
+     *
+     * @param <T> type of the config value
+     */
+    public interface TypedResolver<T>
+    {
+        /**
+         * @param value will be used if no configured value for the key could be found
+         * @return this handle
+         */
+        TypedResolver<T> withDefault(T value);
+
+        /**
+         * @param value will be converted and used if no configured value for the key could be found
+         * @return this handle
+         */
+        TypedResolver<T> withStringDefault(String value);
+
+        /**
+         * @param projectStageAware whether the current {@link ProjectStage} should be taken into account
+         * @return this handle
+         * @see ConfigResolver#getProjectStageAwarePropertyValue(String)
+         */
+        TypedResolver<T> withProjectStage(boolean projectStageAware);
+
+        /**
+         * @param property the property whose configured value will be appended to the key for the first lookup
+         * @return this handle
+         * @see ConfigResolver#getPropertyAwarePropertyValue(String, String)
+         */
+        TypedResolver<T> parameterizedBy(String property);
+
+        /**
+         * Skips the lookup of the configured value for the given time after the value got resolved.
+         *
+         * @param timeUnit unit of the given value
+         * @param value time to cache the value, <code>0</code> disables the cache
+         * @return this handle
+         */
+        TypedResolver<T> cacheFor(TimeUnit timeUnit, long value);
+
+        /**
+         * @return the converted config value or the default value if there is no configured value
+         */
+        T getValue();
+
+        /**
+         * @return the key of this handle
+         */
+        String getKey();
+    }
+
+    /**
+     * Handle for a config value which hasn't got a specific type yet.
+     *
+     * @param <T> type of the config value
+     */
+    public interface UntypedResolver<T> extends TypedResolver<T>
+    {
+        /**
+         * @param targetType the type of the config value, a {@link Converter} has to be registered for it
+         * @param <N> the new type of the config value
+         * @return this handle
+         */
+        <N> TypedResolver<N> as(Class<N> targetType);
+
+        /**
+         * @param targetType the type of the config value
+         * @param converter the converter which will be used by this handle
+         * @param <N> the new type of the config value
+         * @return this handle
+         */
+        <N> TypedResolver<N> as(Class<N> targetType, Converter<N> converter);
+    }
+
+    private static final class TypedResolverImpl<T> implements UntypedResolver<T>
+    {
+        private final String key;
+
+        private Class<?> targetType = String.class;
+        private Converter<?> converter = getConverter(String.class);
+
+        private T defaultValue;
+        private String stringDefaultValue;
+        private boolean projectStageAware;
+        private String parameterProperty;
+        private long cacheTimeMs;
+
+        private volatile TypedValue<T> lastValue;
+
+        private TypedResolverImpl(String key)
+        {
+            this.key = key;
+        }
+
+        @Override
+        public <N> TypedResolver<N> as(Class<N> targetType)
+        {
+            Converter<N> targetTypeConverter = getConverter(targetType);
+            if (targetTypeConverter == null)
+            {
+                throw new IllegalArgumentException("No Converter registered for type " + targetType.getName());
+            }
+            return as(targetType, targetTypeConverter);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <N> TypedResolver<N> as(Class<N> targetType, Converter<N> converter)
+        {
+            this.targetType = targetType;
+            this.converter = converter;
+            this.defaultValue = null;
+            this.lastValue = null;
+            return (TypedResolver<N>) this;
+        }
+
+        @Override
+        public TypedResolver<T> withDefault(T value)
+        {
+            defaultValue = value;
+            lastValue = null;
+            return this;
+        }
+
+        @Override
+        public TypedResolver<T> withStringDefault(String value)
+        {
+            stringDefaultValue = value;
+            lastValue = null;
+            return this;
+        }
+
+        @Override
+        public TypedResolver<T> withProjectStage(boolean projectStageAware)
+        {
+            this.projectStageAware = projectStageAware;
+            lastValue = null;
+            return this;
+        }
+
+        @Override
+        public TypedResolver<T> parameterizedBy(String property)
+        {
+            parameterProperty = property;
+            lastValue = null;
+            return this;
+        }
+
+        @Override
+        public TypedResolver<T> cacheFor(TimeUnit timeUnit, long value)
+        {
+            cacheTimeMs = timeUnit.toMillis(value);
+            lastValue = null;
+            return this;
+        }
+
+        @Override
+        public T getValue()
+        {
+            TypedValue<T> cachedValue = lastValue;
+            long now = 0;
+
+            if (cacheTimeMs > 0)
+            {
+                now = System.currentTimeMillis();
+                if (cachedValue != null && now < cachedValue.reloadAfter)
+                {
+                    return cachedValue.value;
+                }
+            }
+
+            String rawValue = resolveRawValue();
+
+            if (cachedValue != null &&
+                    (rawValue == null ? cachedValue.rawValue == null : rawValue.equals(cachedValue.rawValue)))
+            {
+                if (cacheTimeMs > 0)
+                {
+                    lastValue = new TypedValue<T>(rawValue, cachedValue.value, now + cacheTimeMs);
+                }
+                return cachedValue.value;
+            }
+
+            T value = convert(rawValue);
+            lastValue = new TypedValue<T>(rawValue, value, now + cacheTimeMs);
+            return value;
+        }
+
+        @Override
+        public String getKey()
+        {
+            return key;
+        }
+
+        private String resolveRawValue()
+        {
+            if (parameterProperty != null)
+            {
+                if (projectStageAware)
+                {
+                    return getPropertyAwarePropertyValue(key, parameterProperty);
+                }
+
+                String propertyValue = getPropertyValue(parameterProperty);
+                String value = null;
+                if (propertyValue != null && propertyValue.length() > 0)
+                {
+                    value = getPropertyValue(key + '.' + propertyValue);
+                }
+                if (value == null)
+                {
+                    value = getPropertyValue(key);
+                }
+                return value;
+            }
+
+            if (projectStageAware)
+            {
+                return getProjectStageAwarePropertyValue(key);
+            }
+            return getPropertyValue(key);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T convert(String rawValue)
+        {
+            String value = rawValue;
+
+            if (value == null || value.length() == 0)
+            {
+                if (defaultValue != null)
+                {
+                    return defaultValue;
+                }
+                if (stringDefaultValue != null)
+                {
+                    value = stringDefaultValue;
+                }
+                else if (value == null)
+                {
+                    return null;
+                }
+            }
+
+            try
+            {
+                return (T) converter.convert(value);
+            }
+            catch (RuntimeException e)
+            {
+                throw new IllegalArgumentException("Error while converting " + targetType.getSimpleName() +
+                        " property '" + key + "' value: " + value, e);
+            }
+        }
+    }
+
+    private static final class TypedValue<T>
+    {
+        private final String rawValue;
+        private final T value;
+        private final long reloadAfter;
+
+        private TypedValue(String rawValue, T value, long reloadAfter)
+        {
+            this.rawValue = rawValue;
+            this.value = value;
+            this.reloadAfter = reloadAfter;
+        }
+    }
+
+    /**
+     * Immutable state of a single application.
+     */
+    private static final class ConfigSnapshot
+    {
+        /**
+         * <code>null</code> if the ConfigSources haven't been resolved yet or got freed
+         */
+        private final ConfigSource[] configSources;
+        private final List<ConfigFilter> configFilters;
+        private final VersionedConfigSource[] versionedConfigSources;
+        private final ResolvedValueCache resolvedValueCache;
+
+        /**
+         * Lazily created, replaced as soon as the version changes
+         */
+        private volatile PropertyIndex propertyIndex;
+
+        private ConfigSnapshot(ConfigSource[] configSources, List<ConfigFilter> configFilters)
+        {
+            this.configSources = configSources;
+            this.configFilters = configFilters;
+
+            if (configSources == null)
+            {
+                versionedConfigSources = new VersionedConfigSource[0];
+                resolvedValueCache = new ResolvedValueCache(false, 0);
+            }
+            else
+            {
+                versionedConfigSources = findVersionedConfigSources(configSources);
+                resolvedValueCache = createResolvedValueCache();
+            }
+        }
+
+        /**
+         * Versions only increase, therefore the sum changes as soon as a single version changed.
+         */
+        private long getCurrentVersion()
+        {
+            long version = INVALIDATION_COUNTER.get();
+
+            for (VersionedConfigSource configSource : versionedConfigSources)
+            {
+                version += configSource.getVersion();
+            }
+            return version;
+        }
+
+        /**
+         * @return the merged properties of all scannable ConfigSources sorted by their key
+         */
+        private SortedMap<String, String> getPropertyIndex()
+        {
+            long currentVersion = getCurrentVersion();
+            PropertyIndex currentIndex = propertyIndex;
+
+            if (currentIndex == null || currentIndex.version != currentVersion)
+            {
+                // concurrent rebuilds are harmless, the index is immutable
+                currentIndex = new PropertyIndex(createSortedProperties(), currentVersion);
+                propertyIndex = currentIndex;
+            }
+            return currentIndex.properties;
+        }
+
+        private SortedMap<String, String> createSortedProperties()
+        {
+            TreeMap<String, String> result = new TreeMap<String, String>();
+
+            // configSources are sorted descending, the value of the highest ordinal has to win
+            for (int i = configSources.length - 1; i >= 0; i--)
+            {
+                if (configSources[i].isScannable())
+                {
+                    result.putAll(configSources[i].getProperties());
+                }
+            }
+            return Collections.unmodifiableSortedMap(result);
+        }
+
+        private static VersionedConfigSource[] findVersionedConfigSources(ConfigSource[] configSources)
+        {
+            List<VersionedConfigSource> result = new ArrayList<VersionedConfigSource>();
+            for (ConfigSource configSource : configSources)
+            {
+                if (configSource instanceof VersionedConfigSource)
+                {
+                    result.add((VersionedConfigSource) configSource);
+                }
+            }
+            return result.toArray(new VersionedConfigSource[result.size()]);
+        }
+
+        private ResolvedValueCache createResolvedValueCache()
+        {
+            boolean enabled = Boolean.parseBoolean(resolvePropertyValue(this, CONFIG_CACHE_ENABLED_KEY));
+
+            int maxSize = CONFIG_CACHE_MAX_SIZE_DEFAULT;
+            String configuredMaxSize = resolvePropertyValue(this, CONFIG_CACHE_MAX_SIZE_KEY);
+            if (configuredMaxSize != null)
+            {
+                try
+                {
+                    maxSize = Integer.parseInt(configuredMaxSize.trim());
+                }
+                catch (NumberFormatException e)
+                {
+                    LOG.log(Level.WARNING, "{0} isn't a valid integer. Invalid value: {1}",
+                            new Object[]{CONFIG_CACHE_MAX_SIZE_KEY, configuredMaxSize});
+                }
+            }
+
+            return new ResolvedValueCache(enabled, maxSize);
+        }
+    }
+
+    private static final class PropertyIndex
+    {
+        private final SortedMap<String, String> properties;
+        private final long version;
+
+        private PropertyIndex(SortedMap<String, String> properties, long version)
+        {
+            this.properties = properties;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Cache for resolved values of a single application.
+     */
+    private static final class ResolvedValueCache
+    {
+        private final boolean enabled;
+        private final int maxSize;
 
+        private final ConcurrentMap<ResolvedValueCacheKey, ResolvedValue> values
+            = new ConcurrentHashMap<ResolvedValueCacheKey, ResolvedValue>();
+
+        private final AtomicLong hitCount = new AtomicLong();
+        private final AtomicLong missCount = new AtomicLong();
+
+        private ResolvedValueCache(boolean enabled, int maxSize)
+        {
+            this.enabled = enabled;
+            this.maxSize = maxSize;
+        }
+    }
+
+    private static final class ResolvedValueCacheKey
+    {
+        private final String key;
+        private final ProjectStage projectStage;
+
+        private ResolvedValueCacheKey(String key, ProjectStage projectStage)
+        {
+            this.key = key;
+            this.projectStage = projectStage;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof ResolvedValueCacheKey))
+            {
+                return false;
+            }
+
+            ResolvedValueCacheKey other = (ResolvedValueCacheKey) o;
+            return key.equals(other.key) &&
+                    (projectStage == null ? other.projectStage == null : projectStage.equals(other.projectStage));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = key.hashCode();
+            result = 31 * result + (projectStage != null ? projectStage.hashCode() : 0);
+            return result;
+        }
+    }
+
+    private static final class ResolvedValue
+    {
+        private final String value;
+        private final long version;
+
+        private ResolvedValue(String value, long version)
+        {
+            this.value = value;
+            this.version = version;
+        }
+    }
 }
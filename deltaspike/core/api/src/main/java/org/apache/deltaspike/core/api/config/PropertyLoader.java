@@ -78,10 +78,12 @@ public class PropertyLoader
      * is not really defined. The Properties file which got found first will be
      * processed first and thus get overwritten by the one found later.</p> 
      *
+     * <p>This method doesn't hold any shared state and therefore isn't synchronized.</p>
+     *
      * @param propertyFileName the name of the properties file, without the extension '.properties'
      * @return the final property values
      */
-    public static synchronized Properties getProperties(String propertyFileName)
+    public static Properties getProperties(String propertyFileName)
     {
         if (propertyFileName == null)
         {
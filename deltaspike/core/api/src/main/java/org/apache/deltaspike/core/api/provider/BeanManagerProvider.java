@@ -28,6 +28,7 @@ import javax.naming.InitialContext;
 import javax.naming.NamingException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
 import org.apache.deltaspike.core.util.ClassUtils;
@@ -87,6 +88,12 @@ public class BeanManagerProvider implements Extension
          * as there is no reliable event for this status in EE6.
          */
         private boolean booted = false;
+
+        /**
+         * The beans resolved via the {@link BeanProvider} for the {@link #finalBm}.
+         */
+        private final ConcurrentMap<ContextualReferenceProvider.Key, ContextualReferenceProvider<?>> resolvedBeans =
+            new ConcurrentHashMap<ContextualReferenceProvider.Key, ContextualReferenceProvider<?>>();
     }
 
     /**
@@ -212,6 +219,26 @@ public class BeanManagerProvider implements Extension
         return result;
     }
 
+    /**
+     * The cache for beans resolved by the {@link BeanProvider}. It's only available
+     * for the final {@link BeanManager} of the current application and
+     * therefore not before the container has booted.
+     *
+     * @param beanManager the BeanManager used to resolve the beans
+     * @return the cache or <code>null</code> if beans resolved via the given BeanManager mustn't be cached
+     */
+    ConcurrentMap<ContextualReferenceProvider.Key, ContextualReferenceProvider<?>> getResolvedBeans(
+        BeanManager beanManager)
+    {
+        BeanManagerInfo bmi = getBeanManagerInfo(ClassUtils.getClassLoader(null));
+
+        if (!bmi.booted || bmi.finalBm != beanManager)
+        {
+            return null;
+        }
+        return bmi.resolvedBeans;
+    }
+
     /**
      * By cleaning the final BeanManager map after the Deployment got Validated,
      * we prevent premature loading of information from JNDI in cases where the
@@ -232,6 +259,7 @@ public class BeanManagerProvider implements Extension
         {
             bmi.finalBm = null;
             bmi.booted = true;
+            bmi.resolvedBeans.clear();
 
             /*possible issue with >weld< based servers:
             if #getBeanManager gets called in a custom AfterDeploymentValidation observer >after< this observer,
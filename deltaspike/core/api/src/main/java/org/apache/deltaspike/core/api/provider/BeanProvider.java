@@ -37,6 +37,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -60,6 +61,11 @@ public final class BeanProvider
 {
     private static final Logger LOG = Logger.getLogger(BeanProvider.class.getName());
 
+    /**
+     * Upper limit for the cached bean resolutions (e.g. in case of qualifiers with dynamic values).
+     */
+    private static final int MAX_RESOLVED_BEANS = 1000;
+
     private static final boolean LOG_DEPENDENT_WARNINGS;
     static {
         ProjectStage ps = ProjectStageProducer.getInstance().getProjectStage();
@@ -138,6 +144,80 @@ public final class BeanProvider
                                                boolean optional,
                                                Annotation... qualifiers)
     {
+        ContextualReferenceProvider<T> contextualReferenceProvider =
+            getContextualReferenceProvider(beanManager, type, optional, qualifiers);
+
+        if (contextualReferenceProvider == null)
+        {
+            return null;
+        }
+        return contextualReferenceProvider.get();
+    }
+
+    /**
+     * <p>Get a {@link ContextualReferenceProvider} for the bean with the given type and qualifiers.
+     * The bean gets resolved only once, therefore the provider should be used if the contextual reference
+     * is needed repeatedly. For &#064;NormalScoped beans the provider always returns the same
+     * contextual reference.</p>
+     *
+     * <p><b>Attention:</b> please see the notes on manually resolving &#064;Dependent bean
+     * in {@link #getContextualReference(Class, boolean, java.lang.annotation.Annotation...)}!</p>
+     *
+     * @param type the type of the bean in question
+     * @param optional if <code>true</code> it will return <code>null</code> if no bean could be found.
+     *                 Otherwise it will throw an {@code IllegalStateException}
+     * @param qualifiers additional qualifiers which further distinct the resolved bean
+     * @param <T> target type
+     * @return the provider for the resolved bean
+     */
+    public static <T> ContextualReferenceProvider<T> getContextualReferenceProvider(Class<T> type,
+                                                                                    boolean optional,
+                                                                                    Annotation... qualifiers)
+    {
+        BeanManager beanManager = getBeanManager();
+
+        return getContextualReferenceProvider(beanManager, type, optional, qualifiers);
+    }
+
+    /**
+     * {@link #getContextualReferenceProvider(Class, boolean, Annotation...)} for the given BeanManager.
+     * The resolved beans get cached once the container has booted and only for the BeanManager of the
+     * current application.
+     *
+     * @param beanManager the BeanManager to use
+     * @param type the type of the bean in question
+     * @param optional if <code>true</code> it will return <code>null</code> if no bean could be found.
+     *                 Otherwise it will throw an {@code IllegalStateException}
+     * @param qualifiers additional qualifiers which further distinct the resolved bean
+     * @param <T> target type
+     * @return the provider for the resolved bean
+     */
+    public static <T> ContextualReferenceProvider<T> getContextualReferenceProvider(BeanManager beanManager,
+                                                                                    Class<T> type,
+                                                                                    boolean optional,
+                                                                                    Annotation... qualifiers)
+    {
+        Map<ContextualReferenceProvider.Key, ContextualReferenceProvider<?>> resolvedBeans = null;
+        ContextualReferenceProvider.Key key = null;
+
+        if (BeanManagerProvider.isActive())
+        {
+            resolvedBeans = BeanManagerProvider.getInstance().getResolvedBeans(beanManager);
+        }
+
+        if (resolvedBeans != null)
+        {
+            key = new ContextualReferenceProvider.Key(type, qualifiers);
+
+            @SuppressWarnings("unchecked")
+            ContextualReferenceProvider<T> result = (ContextualReferenceProvider<T>) resolvedBeans.get(key);
+
+            if (result != null)
+            {
+                return result;
+            }
+        }
+
         Set<Bean<?>> beans = beanManager.getBeans(type, qualifiers);
 
         if (beans == null || beans.isEmpty())
@@ -151,7 +231,14 @@ public final class BeanProvider
                     + " and qualifiers:" + Arrays.toString(qualifiers));
         }
 
-        return getContextualReference(type, beanManager, beans);
+        Bean<?> bean = beanManager.resolve(beans);
+        ContextualReferenceProvider<T> result = new ContextualReferenceProvider<T>(beanManager, type, bean);
+
+        if (resolvedBeans != null && resolvedBeans.size() < MAX_RESOLVED_BEANS)
+        {
+            resolvedBeans.put(key.copy(), result);
+        }
+        return result;
     }
 
     /**
@@ -455,7 +542,7 @@ public final class BeanProvider
      * Scope &#064;Dependent as we cannot properly cleanup
      * the contextual instance afterwards.
      */
-    private static void logWarningIfDependent(Bean<?> bean)
+    static void logWarningIfDependent(Bean<?> bean)
     {
         if (LOG_DEPENDENT_WARNINGS && bean.getScope().equals(Dependent.class))
         {
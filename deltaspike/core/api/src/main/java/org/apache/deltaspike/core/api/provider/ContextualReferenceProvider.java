@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.api.provider;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Provider;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+/**
+ * A {@link Provider} for a bean which got resolved once by its type and qualifiers.
+ * Use it if a contextual reference is needed repeatedly, e.g. within a loop or for every request,
+ * and the bean lookup should be done only once.
+ *
+ * For &#064;NormalScoped beans the contextual reference (the client proxy) gets created once and
+ * {@link #get()} always returns the same proxy. For all other beans every call of {@link #get()}
+ * creates a new contextual reference, please see the notes on manually resolving &#064;Dependent beans in
+ * {@link BeanProvider#getContextualReference(Class, boolean, java.lang.annotation.Annotation...)}.
+ *
+ * Instances of this class can be retrieved using the {@link BeanProvider}.
+ */
+public class ContextualReferenceProvider<T> implements Provider<T>
+{
+    private final BeanManager beanManager;
+    private final Class<T> type;
+    private final Bean<?> bean;
+    private final T normalScopedReference;
+
+    ContextualReferenceProvider(BeanManager beanManager, Class<T> type, Bean<?> bean)
+    {
+        this.beanManager = beanManager;
+        this.type = type;
+        this.bean = bean;
+
+        if (beanManager.isNormalScope(bean.getScope()))
+        {
+            this.normalScopedReference = createContextualReference();
+        }
+        else
+        {
+            this.normalScopedReference = null;
+        }
+    }
+
+    @Override
+    public T get()
+    {
+        if (normalScopedReference != null)
+        {
+            return normalScopedReference;
+        }
+
+        BeanProvider.logWarningIfDependent(bean);
+        return createContextualReference();
+    }
+
+    /**
+     * @return the resolved bean
+     */
+    public Bean<?> getBean()
+    {
+        return bean;
+    }
+
+    private T createContextualReference()
+    {
+        CreationalContext<?> creationalContext = beanManager.createCreationalContext(bean);
+
+        @SuppressWarnings({ "unchecked", "UnnecessaryLocalVariable" })
+        T result = (T) beanManager.getReference(bean, type, creationalContext);
+        return result;
+    }
+
+    /**
+     * Key of a bean resolution: the requested type and qualifiers.
+     */
+    static final class Key
+    {
+        private final Class<?> type;
+        private final Annotation[] qualifiers;
+        private final int hashCode;
+
+        Key(Class<?> type, Annotation[] qualifiers)
+        {
+            this.type = type;
+            this.qualifiers = qualifiers;
+            this.hashCode = 31 * type.hashCode() + Arrays.hashCode(qualifiers);
+        }
+
+        /**
+         * @return a key which isn't affected by later changes of the given qualifier-array
+         */
+        Key copy()
+        {
+            return new Key(type, qualifiers.clone());
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return type.equals(key.type) && Arrays.equals(qualifiers, key.qualifiers);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+    }
+}
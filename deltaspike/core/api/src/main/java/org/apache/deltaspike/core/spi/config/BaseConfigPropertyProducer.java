@@ -18,9 +18,14 @@
  */
 package org.apache.deltaspike.core.spi.config;
 
+import javax.enterprise.inject.spi.Annotated;
+import javax.enterprise.inject.spi.AnnotatedParameter;
 import javax.enterprise.inject.spi.InjectionPoint;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Member;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.deltaspike.core.api.config.ConfigResolver;
 import org.apache.deltaspike.core.api.config.ConfigProperty;
@@ -87,6 +92,12 @@ import org.apache.deltaspike.core.util.BeanUtils;
  */
 public abstract class BaseConfigPropertyProducer
 {
+    /**
+     * Key is the injected {@link Member} or a {@link ParameterKey} for injected parameters
+     */
+    private final ConcurrentMap<Object, ConfigResolver.TypedResolver<?>> typedResolvers =
+        new ConcurrentHashMap<Object, ConfigResolver.TypedResolver<?>>();
+
     /**
      * <p>Inspects the given InjectionPoint and search for a {@link ConfigProperty}
      * annotation or an Annotation with a {@link ConfigProperty} meta-Annotation.
@@ -113,6 +124,96 @@ public abstract class BaseConfigPropertyProducer
         return configuredValue;
     }
 
+    /**
+     * <p>Inspects the given InjectionPoint like {@link #getStringPropertyValue(InjectionPoint)}
+     * and converts the configured value with the {@link ConfigResolver.Converter}
+     * registered for the given type.</p>
+     *
+     * <p>The underlying {@link ConfigResolver.TypedResolver} gets created once per
+     * injected field or parameter. Therefore neither the annotation has to be extracted again
+     * nor the configured value gets converted again if it didn't change.</p>
+     *
+     * @param injectionPoint current injection point
+     * @param targetType type of the configured value
+     * @param <T> type
+     * @return the converted value for the given InjectionPoint
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> T getTypedPropertyValue(InjectionPoint injectionPoint, Class<T> targetType)
+    {
+        Object resolverKey = createResolverKey(injectionPoint);
+        ConfigResolver.TypedResolver<T> typedResolver = null;
+
+        if (resolverKey != null)
+        {
+            typedResolver = (ConfigResolver.TypedResolver<T>) typedResolvers.get(resolverKey);
+        }
+
+        if (typedResolver == null)
+        {
+            typedResolver = createTypedResolver(injectionPoint, targetType);
+
+            if (resolverKey != null)
+            {
+                ConfigResolver.TypedResolver<T> existingTypedResolver =
+                    (ConfigResolver.TypedResolver<T>) typedResolvers.putIfAbsent(resolverKey, typedResolver);
+                if (existingTypedResolver != null)
+                {
+                    typedResolver = existingTypedResolver;
+                }
+            }
+        }
+
+        try
+        {
+            return typedResolver.getValue();
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new RuntimeException(e.getMessage() + " happening in bean " + injectionPoint.getBean(), e.getCause());
+        }
+    }
+
+    private <T> ConfigResolver.TypedResolver<T> createTypedResolver(InjectionPoint injectionPoint,
+                                                                    Class<T> targetType)
+    {
+        ConfigProperty configProperty = getAnnotation(injectionPoint, ConfigProperty.class);
+
+        if (configProperty == null)
+        {
+            throw new IllegalStateException("producer method called without @ConfigProperty being present!");
+        }
+
+        ConfigResolver.TypedResolver<T> typedResolver =
+            ConfigResolver.resolve(configProperty.name()).as(targetType).withProjectStage(true);
+
+        if (!ConfigProperty.NULL.equals(configProperty.defaultValue()))
+        {
+            typedResolver.withStringDefault(configProperty.defaultValue());
+        }
+        return typedResolver;
+    }
+
+    /**
+     * @return the injected member, a {@link ParameterKey} for parameters
+     *         or <code>null</code> if the InjectionPoint has no member
+     */
+    private static Object createResolverKey(InjectionPoint injectionPoint)
+    {
+        Member member = injectionPoint.getMember();
+        if (member == null)
+        {
+            return null;
+        }
+
+        Annotated annotated = injectionPoint.getAnnotated();
+        if (annotated instanceof AnnotatedParameter)
+        {
+            return new ParameterKey(member, ((AnnotatedParameter<?>) annotated).getPosition());
+        }
+        return member;
+    }
+
     /**
      * @param propertyName the name of the property key
      * @param defaultValue the default value to return if no configured property is found or
@@ -144,4 +245,38 @@ public abstract class BaseConfigPropertyProducer
     {
         return BeanUtils.extractAnnotation(injectionPoint.getAnnotated(), targetType);
     }
+
+    private static final class ParameterKey
+    {
+        private final Member member;
+        private final int position;
+
+        private ParameterKey(Member member, int position)
+        {
+            this.member = member;
+            this.position = position;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof ParameterKey))
+            {
+                return false;
+            }
+
+            ParameterKey that = (ParameterKey) o;
+            return position == that.position && member.equals(that.member);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * member.hashCode() + position;
+        }
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.spi.config;
+
+/**
+ * <p>A {@link ConfigSource} which is able to tell whether its content changed.</p>
+ *
+ * <p>The cache for resolved values in
+ * {@link org.apache.deltaspike.core.api.config.ConfigResolver} only stays valid
+ * as long as the versions of all VersionedConfigSources stay the same.
+ * ConfigSources which get notified about changes instead (e.g. by a listener)
+ * can also use {@link org.apache.deltaspike.core.api.config.ConfigResolver#invalidateCache()}.</p>
+ */
+public interface VersionedConfigSource extends ConfigSource
+{
+    /**
+     * The version must only increase and has to get incremented
+     * whenever a value provided by this ConfigSource got changed.
+     *
+     * @return the current version of the content of this ConfigSource
+     */
+    long getVersion();
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.spi.exception.control;
+
+import org.apache.deltaspike.core.api.exception.control.ExceptionHandlingFlow;
+import org.apache.deltaspike.core.api.exception.control.HandlerMethod;
+
+/**
+ * Records the timeline of the handling of a single exception.
+ * An instance is only used by the thread which handles the exception.
+ */
+public interface ExceptionHandlingTrace
+{
+    /**
+     * Called after a handler was notified.
+     *
+     * @param handler the notified handler
+     * @param cause the exception (of the exception stack) the handler was notified for
+     * @param flow the flow requested by the handler
+     * @param durationInNanos the time spent in the handler
+     */
+    void handlerNotified(HandlerMethod<?> handler, Throwable cause, ExceptionHandlingFlow flow, long durationInNanos);
+
+    /**
+     * Called once the handling of the exception is finished, also if a handler has thrown an exception.
+     *
+     * @param handled <code>true</code> if the exception was marked as handled
+     */
+    void finished(boolean handled);
+}
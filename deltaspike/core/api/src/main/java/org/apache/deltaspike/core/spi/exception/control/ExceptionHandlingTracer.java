@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.spi.exception.control;
+
+/**
+ * Entry point for tracing the handling of exceptions. The ExceptionHandlerBroadcaster uses the CDI bean
+ * which implements this interface, therefore a custom implementation can replace the default implementation
+ * e.g. via an alternative.
+ */
+public interface ExceptionHandlingTracer
+{
+    /**
+     * Called once the handling of an exception starts.
+     *
+     * @param exception the exception which will be handled
+     * @return the trace for the handling of the given exception or <code>null</code> if tracing is disabled
+     */
+    ExceptionHandlingTrace startTrace(Throwable exception);
+}
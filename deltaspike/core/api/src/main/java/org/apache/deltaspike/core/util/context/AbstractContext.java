@@ -112,8 +112,11 @@ public abstract class AbstractContext implements Context
 
         ContextualStorage storage = getContextualStorage(bean, true);
 
+        // the key gets computed once for the lookup and the creation
+        Object beanKey = storage.getBeanKey(bean);
+
         Map<Object, ContextualInstanceInfo<?>> contextMap = storage.getStorage();
-        ContextualInstanceInfo<?> contextualInstanceInfo = contextMap.get(storage.getBeanKey(bean));
+        ContextualInstanceInfo<?> contextualInstanceInfo = contextMap.get(beanKey);
 
         if (contextualInstanceInfo != null)
         {
@@ -126,7 +129,7 @@ public abstract class AbstractContext implements Context
             }
         }
 
-        return storage.createContextualInstance(bean, creationalContext);
+        return storage.createContextualInstance(bean, beanKey, creationalContext);
     }
 
     /**
@@ -199,6 +202,11 @@ public abstract class AbstractContext implements Context
 
     public static void destroyBean(Contextual bean, ContextualInstanceInfo<?> contextualInstanceInfo)
     {
+        if (contextualInstanceInfo.getContextualInstance() == null)
+        {
+            // placeholder of an instance which is still in creation or failed to get created
+            return;
+        }
         bean.destroy(contextualInstanceInfo.getContextualInstance(), contextualInstanceInfo.getCreationalContext());
     }
 
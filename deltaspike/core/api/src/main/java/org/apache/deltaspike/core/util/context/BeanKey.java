@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.util.context;
+
+import javax.enterprise.context.spi.Contextual;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * Interned key of a passivation capable bean in a {@link ContextualStorage}.
+ * There is only one instance per passivation id and ClassLoader, therefore keys usually
+ * get compared via their identity. Only the passivation id gets serialized.
+ *
+ * <p>Deserialized keys aren't interned, since the thread which deserializes them
+ * (e.g. during session replication) doesn't necessarily belong to the application.
+ * They are still equal to the interned key with the same passivation id.</p>
+ *
+ * @see BeanKeyRegistry
+ */
+public final class BeanKey implements Serializable
+{
+    private static final long serialVersionUID = -2389165398257411573L;
+
+    private final String id;
+
+    private final transient int hash;
+
+    /**
+     * The resolved bean, <code>null</code> if it isn't known yet
+     */
+    private transient volatile Contextual<?> bean;
+
+    BeanKey(String id, Contextual<?> bean)
+    {
+        this.id = id;
+        this.hash = id.hashCode();
+        this.bean = bean;
+    }
+
+    /**
+     * @return the passivation id of the bean
+     */
+    public String getId()
+    {
+        return id;
+    }
+
+    /**
+     * @return the bean or <code>null</code> if it isn't known yet
+     */
+    public Contextual<?> getBean()
+    {
+        return bean;
+    }
+
+    void setBean(Contextual<?> bean)
+    {
+        this.bean = bean;
+    }
+
+    /**
+     * Initializes the transient hash of the deserialized instance.
+     */
+    private Object readResolve() throws ObjectStreamException
+    {
+        return new BeanKey(id, null);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof BeanKey))
+        {
+            return false;
+        }
+
+        // interned keys with the same id are identical, therefore only deserialized keys can match
+        BeanKey beanKey = (BeanKey) o;
+        return hash == beanKey.hash && id.equals(beanKey.id);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        return id;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.util.context;
+
+import org.apache.deltaspike.core.util.ClassUtils;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.inject.spi.PassivationCapable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the interned {@link BeanKey}s of the passivation capable beans of an application
+ * (thus the ClassLoader). Beans which are known in advance can get registered during the bootstrapping
+ * process, all other keys get created lazily.
+ */
+public final class BeanKeyRegistry
+{
+    private static final ConcurrentMap<ClassLoader, BeanKeyRegistry> REGISTRIES =
+        new ConcurrentHashMap<ClassLoader, BeanKeyRegistry>();
+
+    private final ConcurrentMap<Contextual<?>, BeanKey> keysByBean = new ConcurrentHashMap<Contextual<?>, BeanKey>();
+
+    private final ConcurrentMap<String, BeanKey> keysById = new ConcurrentHashMap<String, BeanKey>();
+
+    private BeanKeyRegistry()
+    {
+    }
+
+    /**
+     * @return the registry for the current application
+     */
+    public static BeanKeyRegistry getInstance()
+    {
+        ClassLoader classLoader = ClassUtils.getClassLoader(null);
+        BeanKeyRegistry registry = REGISTRIES.get(classLoader);
+
+        if (registry == null)
+        {
+            registry = new BeanKeyRegistry();
+
+            BeanKeyRegistry existingRegistry = REGISTRIES.putIfAbsent(classLoader, registry);
+            if (existingRegistry != null)
+            {
+                registry = existingRegistry;
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Drops the registry of the current application.
+     */
+    public static void release()
+    {
+        REGISTRIES.remove(ClassUtils.getClassLoader(null));
+    }
+
+    /**
+     * Creates the keys of the given beans. Beans which aren't {@link PassivationCapable} get ignored.
+     *
+     * @param beans beans of passivating scopes
+     */
+    public void registerBeans(Iterable<? extends Contextual<?>> beans)
+    {
+        for (Contextual<?> bean : beans)
+        {
+            if (bean instanceof PassivationCapable)
+            {
+                getBeanKey(bean);
+            }
+        }
+    }
+
+    /**
+     * @param bean a passivation capable bean
+     * @return the interned key of the given bean
+     */
+    public BeanKey getBeanKey(Contextual<?> bean)
+    {
+        BeanKey beanKey = keysByBean.get(bean);
+
+        if (beanKey == null)
+        {
+            beanKey = getBeanKey(((PassivationCapable) bean).getId());
+
+            if (beanKey.getBean() == null)
+            {
+                beanKey.setBean(bean);
+            }
+            keysByBean.putIfAbsent(bean, beanKey);
+        }
+        return beanKey;
+    }
+
+    /**
+     * @param id the passivation id of a bean
+     * @return the interned key for the given id
+     */
+    public BeanKey getBeanKey(String id)
+    {
+        BeanKey beanKey = keysById.get(id);
+
+        if (beanKey == null)
+        {
+            beanKey = new BeanKey(id, null);
+
+            BeanKey existingBeanKey = keysById.putIfAbsent(id, beanKey);
+            if (existingBeanKey != null)
+            {
+                beanKey = existingBeanKey;
+            }
+        }
+        return beanKey;
+    }
+}
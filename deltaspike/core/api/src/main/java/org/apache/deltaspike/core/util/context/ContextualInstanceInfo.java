@@ -31,16 +31,17 @@ public class ContextualInstanceInfo<T> implements Serializable
     private static final long serialVersionUID = 6384932199958645324L;
 
     /**
-     * The actual Contextual Instance in the context
+     * The actual Contextual Instance in the context.
+     * Volatile since it gets read without locking in concurrent storages.
      */
-    private T contextualInstance;
+    private volatile T contextualInstance;
 
     /**
      * We need to store the CreationalContext as we need it for
      * properly destroying the contextual instance via
      * {@link javax.enterprise.context.spi.Contextual#destroy(Object, javax.enterprise.context.spi.CreationalContext)}
      */
-    private CreationalContext<T> creationalContext;
+    private volatile CreationalContext<T> creationalContext;
 
     /**
      * @return the CreationalContext of the bean
@@ -23,7 +23,6 @@ package org.apache.deltaspike.core.util.context;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.BeanManager;
-import javax.enterprise.inject.spi.PassivationCapable;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -48,6 +47,8 @@ public class ContextualStorage implements Serializable
 
     private final boolean passivationCapable;
 
+    private transient BeanKeyRegistry beanKeyRegistry;
+
     /**
      * @param beanManager is needed for serialisation
      * @param concurrent whether the ContextualStorage might get accessed concurrently by different threads
@@ -85,41 +86,87 @@ public class ContextualStorage implements Serializable
     }
 
     /**
+     * Creates the contextual instance of the given bean if it doesn't exist yet.
      *
-     * @param bean
-     * @param creationalContext
-     * @param <T>
-     * @return
+     * @param bean the bean to create the instance for
+     * @param creationalContext the CreationalContext to use for the creation
+     * @param <T> bean type
+     * @return the new or already existing contextual instance
      */
     public <T> T createContextualInstance(Contextual<T> bean, CreationalContext<T> creationalContext)
     {
-        Object beanKey = getBeanKey(bean);
+        return createContextualInstance(bean, getBeanKey(bean), creationalContext);
+    }
+
+    /**
+     * Creates the contextual instance of the given bean if it doesn't exist yet.
+     * In concurrent mode the {@link ContextualInstanceInfo} acts as placeholder (like a future) for the
+     * instance in creation. Only threads which need the same bean wait for its creation.
+     *
+     * @param bean the bean to create the instance for
+     * @param beanKey the key of the bean, see {@link #getBeanKey(javax.enterprise.context.spi.Contextual)}
+     * @param creationalContext the CreationalContext to use for the creation
+     * @param <T> bean type
+     * @return the new or already existing contextual instance
+     */
+    public <T> T createContextualInstance(Contextual<T> bean, Object beanKey, CreationalContext<T> creationalContext)
+    {
         if (isConcurrent())
         {
-            // locked approach
-            ContextualInstanceInfo<T> instanceInfo = new ContextualInstanceInfo<T>();
-
             ConcurrentMap<Object, ContextualInstanceInfo<?>> concurrentMap
-                = (ConcurrentHashMap<Object, ContextualInstanceInfo<?>>) contextualInstances;
-
-            ContextualInstanceInfo<T> oldInstanceInfo
-                = (ContextualInstanceInfo<T>) concurrentMap.putIfAbsent(beanKey, instanceInfo);
+                = (ConcurrentMap<Object, ContextualInstanceInfo<?>>) contextualInstances;
 
-            if (oldInstanceInfo != null)
-            {
-                instanceInfo = oldInstanceInfo;
-            }
-            synchronized (instanceInfo)
+            while (true)
             {
+                ContextualInstanceInfo<T> instanceInfo = (ContextualInstanceInfo<T>) concurrentMap.get(beanKey);
+
+                if (instanceInfo == null)
+                {
+                    // only allocate a placeholder if there is none yet
+                    ContextualInstanceInfo<T> newInstanceInfo = new ContextualInstanceInfo<T>();
+
+                    instanceInfo = (ContextualInstanceInfo<T>) concurrentMap.putIfAbsent(beanKey, newInstanceInfo);
+
+                    if (instanceInfo == null)
+                    {
+                        instanceInfo = newInstanceInfo;
+                    }
+                }
+
                 T instance = instanceInfo.getContextualInstance();
-                if (instance == null)
+                if (instance != null)
                 {
-                    instance = bean.create(creationalContext);
-                    instanceInfo.setContextualInstance(instance);
-                    instanceInfo.setCreationalContext(creationalContext);
+                    return instance;
                 }
 
-                return instance;
+                synchronized (instanceInfo)
+                {
+                    if (concurrentMap.get(beanKey) != instanceInfo)
+                    {
+                        // the placeholder got removed after a failed creation, start over with a new one
+                        continue;
+                    }
+
+                    instance = instanceInfo.getContextualInstance();
+                    if (instance == null)
+                    {
+                        try
+                        {
+                            instance = bean.create(creationalContext);
+                        }
+                        catch (RuntimeException e)
+                        {
+                            // don't keep an empty placeholder, the next invocation will try it again
+                            concurrentMap.remove(beanKey, instanceInfo);
+                            throw e;
+                        }
+                        instanceInfo.setCreationalContext(creationalContext);
+                        // published last, since readers don't lock
+                        instanceInfo.setContextualInstance(instance);
+                    }
+
+                    return instance;
+                }
             }
 
         }
@@ -138,7 +185,7 @@ public class ContextualStorage implements Serializable
 
     /**
      * If the context is a passivating scope then we return
-     * the passivationId of the Bean. Otherwise we use
+     * the interned {@link BeanKey} of the Bean. Otherwise we use
      * the Bean directly.
      * @return the key to use in the context map
      */
@@ -146,8 +193,7 @@ public class ContextualStorage implements Serializable
     {
         if (passivationCapable)
         {
-            // if the
-            return ((PassivationCapable) bean).getId();
+            return getBeanKeyRegistry().getBeanKey(bean);
         }
 
         return bean;
@@ -161,6 +207,19 @@ public class ContextualStorage implements Serializable
     {
         if (passivationCapable)
         {
+            if (beanKey instanceof BeanKey)
+            {
+                BeanKey internedBeanKey = (BeanKey) beanKey;
+                Contextual<?> bean = internedBeanKey.getBean();
+
+                if (bean == null)
+                {
+                    // e.g. after deserialization in a new application
+                    bean = beanManager.getPassivationCapableBean(internedBeanKey.getId());
+                    internedBeanKey.setBean(bean);
+                }
+                return bean;
+            }
             return beanManager.getPassivationCapableBean((String) beanKey);
         }
         else
@@ -168,4 +227,14 @@ public class ContextualStorage implements Serializable
             return (Contextual<?>) beanKey;
         }
     }
+
+    private BeanKeyRegistry getBeanKeyRegistry()
+    {
+        // cached since a storage is always used by a single application
+        if (beanKeyRegistry == null)
+        {
+            beanKeyRegistry = BeanKeyRegistry.getInstance();
+        }
+        return beanKeyRegistry;
+    }
 }
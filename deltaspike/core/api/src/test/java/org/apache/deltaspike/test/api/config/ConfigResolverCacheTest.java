@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.api.config;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+import org.apache.deltaspike.core.api.projectstage.ProjectStage;
+import org.apache.deltaspike.core.spi.config.ConfigFilter;
+import org.apache.deltaspike.core.spi.config.ConfigSource;
+import org.apache.deltaspike.core.spi.config.VersionedConfigSource;
+import org.apache.deltaspike.core.util.ProjectStageProducer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ConfigResolverCacheTest
+{
+    private TestVersionedConfigSource versionedConfigSource;
+    private ConfigFilter addedConfigFilter;
+
+    @Before
+    public void init()
+    {
+        ProjectStageProducer.setProjectStage(ProjectStage.UnitTest);
+        ConfigResolver.freeConfigSources();
+
+        versionedConfigSource = new TestVersionedConfigSource();
+        ConfigResolver.addConfigSources(Arrays.<ConfigSource>asList(versionedConfigSource));
+    }
+
+    @After
+    public void cleanup()
+    {
+        if (addedConfigFilter != null)
+        {
+            ConfigResolver.removeConfigFilter(addedConfigFilter);
+        }
+        ConfigResolver.freeConfigSources();
+    }
+
+    @Test
+    public void testCachedValue()
+    {
+        Assert.assertEquals("value1", ConfigResolver.getPropertyValue("versionedkey"));
+        Assert.assertEquals(0, ConfigResolver.getCacheHitCount());
+        Assert.assertEquals(1, ConfigResolver.getCacheMissCount());
+
+        Assert.assertEquals("value1", ConfigResolver.getPropertyValue("versionedkey"));
+        Assert.assertEquals(1, ConfigResolver.getCacheHitCount());
+        Assert.assertEquals(1, ConfigResolver.getCacheMissCount());
+    }
+
+    @Test
+    public void testCachedNullValue()
+    {
+        Assert.assertNull(ConfigResolver.getPropertyValue("notexisting"));
+        Assert.assertNull(ConfigResolver.getPropertyValue("notexisting"));
+        Assert.assertEquals(1, ConfigResolver.getCacheHitCount());
+    }
+
+    @Test
+    public void testProjectStageAwareValueIsCachedSeparately()
+    {
+        Assert.assertEquals("testvalue", ConfigResolver.getPropertyValue("testkey"));
+        Assert.assertEquals("unittestvalue", ConfigResolver.getProjectStageAwarePropertyValue("testkey"));
+        Assert.assertEquals("unittestvalue", ConfigResolver.getProjectStageAwarePropertyValue("testkey"));
+        Assert.assertEquals("testvalue", ConfigResolver.getPropertyValue("testkey"));
+
+        Assert.assertEquals(2, ConfigResolver.getCacheHitCount());
+        Assert.assertEquals(2, ConfigResolver.getCacheSize());
+    }
+
+    @Test
+    public void testNewVersionInvalidatesCache()
+    {
+        Assert.assertEquals("value1", ConfigResolver.getPropertyValue("versionedkey"));
+
+        versionedConfigSource.setValue("versionedkey", "value2");
+
+        Assert.assertEquals("value2", ConfigResolver.getPropertyValue("versionedkey"));
+        Assert.assertEquals(0, ConfigResolver.getCacheHitCount());
+        Assert.assertEquals(2, ConfigResolver.getCacheMissCount());
+    }
+
+    @Test
+    public void testInvalidateCache()
+    {
+        Assert.assertEquals("value1", ConfigResolver.getPropertyValue("versionedkey"));
+
+        ConfigResolver.invalidateCache();
+
+        Assert.assertEquals("value1", ConfigResolver.getPropertyValue("versionedkey"));
+        Assert.assertEquals(0, ConfigResolver.getCacheHitCount());
+        Assert.assertEquals(2, ConfigResolver.getCacheMissCount());
+    }
+
+    @Test
+    public void testAddedConfigFilterInvalidatesCache()
+    {
+        Assert.assertEquals("value", ConfigResolver.getPropertyValue("filteredkey"));
+
+        addedConfigFilter = new ConfigFilter()
+        {
+            @Override
+            public String filterValue(String key, String value)
+            {
+                if ("filteredkey".equals(key))
+                {
+                    return "filtered: " + value;
+                }
+                return value;
+            }
+
+            @Override
+            public String filterValueForLog(String key, String value)
+            {
+                return value;
+            }
+        };
+        ConfigResolver.addConfigFilter(addedConfigFilter);
+
+        Assert.assertEquals("filtered: value", ConfigResolver.getPropertyValue("filteredkey"));
+
+        ConfigResolver.removeConfigFilter(addedConfigFilter);
+
+        Assert.assertEquals("value", ConfigResolver.getPropertyValue("filteredkey"));
+        Assert.assertFalse(ConfigResolver.getConfigFilters().contains(addedConfigFilter));
+    }
+
+    private static class TestVersionedConfigSource implements VersionedConfigSource
+    {
+        private final Map<String, String> props = new HashMap<String, String>();
+
+        private volatile long version = 0;
+
+        private TestVersionedConfigSource()
+        {
+            props.put(ConfigResolver.CONFIG_CACHE_ENABLED_KEY, "true");
+            props.put("versionedkey", "value1");
+            props.put("filteredkey", "value");
+        }
+
+        private synchronized void setValue(String key, String value)
+        {
+            props.put(key, value);
+            version++;
+        }
+
+        @Override
+        public long getVersion()
+        {
+            return version;
+        }
+
+        @Override
+        public int getOrdinal()
+        {
+            return 500;
+        }
+
+        @Override
+        public synchronized Map<String, String> getProperties()
+        {
+            return new HashMap<String, String>(props);
+        }
+
+        @Override
+        public synchronized String getPropertyValue(String key)
+        {
+            return props.get(key);
+        }
+
+        @Override
+        public String getConfigName()
+        {
+            return "versionedTestConfig";
+        }
+
+        @Override
+        public boolean isScannable()
+        {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.api.config;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+import org.apache.deltaspike.core.api.projectstage.ProjectStage;
+import org.apache.deltaspike.core.spi.config.ConfigFilter;
+import org.apache.deltaspike.core.spi.config.ConfigSource;
+import org.apache.deltaspike.core.util.ProjectStageProducer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConfigResolverConcurrencyTest
+{
+    private static final int READER_COUNT = 8;
+    private static final int ADDED_CONFIG_SOURCE_COUNT = 50;
+
+    private final List<ConfigFilter> addedConfigFilters = new CopyOnWriteArrayList<ConfigFilter>();
+
+    @Before
+    public void init()
+    {
+        ProjectStageProducer.setProjectStage(ProjectStage.UnitTest);
+        ConfigResolver.freeConfigSources();
+    }
+
+    @After
+    public void cleanup()
+    {
+        for (ConfigFilter configFilter : addedConfigFilters)
+        {
+            ConfigResolver.removeConfigFilter(configFilter);
+        }
+        ConfigResolver.freeConfigSources();
+    }
+
+    @Test
+    public void testConcurrentReadsAndRegistrations() throws Exception
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(READER_COUNT + 1);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final AtomicBoolean writerFinished = new AtomicBoolean(false);
+
+        try
+        {
+            List<Future<Integer>> readers = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < READER_COUNT; i++)
+            {
+                readers.add(executorService.submit(new Callable<Integer>()
+                {
+                    @Override
+                    public Integer call() throws Exception
+                    {
+                        startLatch.await();
+
+                        int reads = 0;
+                        while (!writerFinished.get() || reads == 0)
+                        {
+                            Assert.assertEquals("testvalue", ConfigResolver.getPropertyValue("testkey"));
+                            Assert.assertEquals("unittestvalue",
+                                    ConfigResolver.getProjectStageAwarePropertyValue("testkey"));
+                            reads++;
+                        }
+                        return reads;
+                    }
+                }));
+            }
+
+            Future<?> writer = executorService.submit(new Callable<Void>()
+            {
+                @Override
+                public Void call() throws Exception
+                {
+                    startLatch.await();
+
+                    try
+                    {
+                        for (int i = 0; i < ADDED_CONFIG_SOURCE_COUNT; i++)
+                        {
+                            ConfigResolver.addConfigSources(
+                                    Arrays.<ConfigSource>asList(new SingleValueConfigSource(i)));
+
+                            if (i % 10 == 0)
+                            {
+                                ConfigFilter configFilter = new ConcurrencyKeyConfigFilter();
+                                addedConfigFilters.add(configFilter);
+                                ConfigResolver.addConfigFilter(configFilter);
+                            }
+                        }
+                    }
+                    finally
+                    {
+                        writerFinished.set(true);
+                    }
+                    return null;
+                }
+            });
+
+            startLatch.countDown();
+
+            writer.get(30, TimeUnit.SECONDS);
+            for (Future<Integer> reader : readers)
+            {
+                Assert.assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+
+        for (int i = 0; i < ADDED_CONFIG_SOURCE_COUNT; i++)
+        {
+            Assert.assertEquals("value" + i, ConfigResolver.getPropertyValue("concurrency.key" + i));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testConfigFiltersAreUnmodifiable()
+    {
+        ConfigResolver.getConfigFilters().add(new ConcurrencyKeyConfigFilter());
+    }
+
+    private static class SingleValueConfigSource implements ConfigSource
+    {
+        private final int index;
+
+        private SingleValueConfigSource(int index)
+        {
+            this.index = index;
+        }
+
+        @Override
+        public int getOrdinal()
+        {
+            return index;
+        }
+
+        @Override
+        public Map<String, String> getProperties()
+        {
+            return Collections.singletonMap("concurrency.key" + index, "value" + index);
+        }
+
+        @Override
+        public String getPropertyValue(String key)
+        {
+            return getProperties().get(key);
+        }
+
+        @Override
+        public String getConfigName()
+        {
+            return "concurrencyTestConfig" + index;
+        }
+
+        @Override
+        public boolean isScannable()
+        {
+            return true;
+        }
+    }
+
+    /**
+     * Doesn't change any value, but forces every lookup to pass through the registered filters.
+     */
+    private static class ConcurrencyKeyConfigFilter implements ConfigFilter
+    {
+        @Override
+        public String filterValue(String key, String value)
+        {
+            return value;
+        }
+
+        @Override
+        public String filterValueForLog(String key, String value)
+        {
+            return key.startsWith("concurrency.") ? "<masked>" : value;
+        }
+    }
+}
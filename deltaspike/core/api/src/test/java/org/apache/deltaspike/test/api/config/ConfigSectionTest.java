@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.api.config;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+import org.apache.deltaspike.core.api.projectstage.ProjectStage;
+import org.apache.deltaspike.core.util.ProjectStageProducer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+public class ConfigSectionTest
+{
+    @Before
+    public void init()
+    {
+        ProjectStageProducer.setProjectStage(ProjectStage.UnitTest);
+    }
+
+    @Test
+    public void testPropertiesWithPrefix()
+    {
+        Map<String, String> section = ConfigResolver.getPropertiesWithPrefix("testsection.");
+
+        Assert.assertEquals(4, section.size());
+        Assert.assertEquals("jdbc:test", section.get("testsection.url"));
+        Assert.assertEquals("20", section.get("testsection.maxPoolSize"));
+        Assert.assertEquals("5", section.get("testsection.maxPoolSize.UnitTest"));
+        Assert.assertFalse(section.containsKey("testsectionother.url"));
+
+        Assert.assertTrue(ConfigResolver.getPropertiesWithPrefix("notexisting.").isEmpty());
+    }
+
+    @Test
+    public void testPropertiesWithPrefixIgnoreNotScannableSources()
+    {
+        Map<String, String> section = ConfigResolver.getPropertiesWithPrefix("tes");
+
+        // 'test2' is only provided by a ConfigSource which isn't scannable
+        Assert.assertEquals("test2", ConfigResolver.getPropertyValue("test"));
+        Assert.assertEquals("test1", section.get("test"));
+    }
+
+    @Test
+    public void testBindSection()
+    {
+        TestSection section = ConfigResolver.bindSection("testsection", TestSection.class);
+
+        Assert.assertEquals("jdbc:test", section.url);
+        Assert.assertEquals(5, section.maxPoolSize);
+        Assert.assertTrue(section.enabled);
+        Assert.assertEquals("default", section.notConfigured);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBindSectionWithInvalidValue()
+    {
+        ConfigResolver.bindSection("testkey5", InvalidSection.class);
+    }
+
+    public static class TestSection
+    {
+        private String url;
+        private int maxPoolSize = 10;
+        private Boolean enabled;
+        private String notConfigured = "default";
+    }
+
+    public static class InvalidSection
+    {
+        private Integer invalid;
+    }
+}
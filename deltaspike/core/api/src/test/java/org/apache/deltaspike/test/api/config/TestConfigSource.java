@@ -65,6 +65,19 @@ public class TestConfigSource implements ConfigSource
         props.put("testkey4.encrypted", "value");
         props.put("testkey4.password", "mysecretvalue");
 
+        // typed values
+        props.put("testkey5.int", "14");
+        props.put("testkey5.int.UnitTest", "15");
+        props.put("testkey5.boolean", "Oui");
+        props.put("testkey5.invalid", "no number");
+
+        // a config section
+        props.put("testsection.url", "jdbc:test");
+        props.put("testsection.maxPoolSize", "20");
+        props.put("testsection.maxPoolSize.UnitTest", "5");
+        props.put("testsection.enabled", "true");
+        props.put("testsectionother.url", "jdbc:other");
+
     }
 
     @Override
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.api.config;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+import org.apache.deltaspike.core.api.projectstage.ProjectStage;
+import org.apache.deltaspike.core.util.ProjectStageProducer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TypedResolverTest
+{
+    @Before
+    public void init()
+    {
+        ProjectStageProducer.setProjectStage(ProjectStage.UnitTest);
+    }
+
+    @Test
+    public void testStringValue()
+    {
+        Assert.assertEquals("testvalue", ConfigResolver.resolve("testkey").getValue());
+        Assert.assertEquals("unittestvalue", ConfigResolver.resolve("testkey").withProjectStage(true).getValue());
+        Assert.assertNull(ConfigResolver.resolve("notexisting").getValue());
+    }
+
+    @Test
+    public void testConvertedValue()
+    {
+        Assert.assertEquals(Integer.valueOf(14), ConfigResolver.resolve("testkey5.int").as(Integer.class).getValue());
+        Assert.assertEquals(Long.valueOf(15),
+                ConfigResolver.resolve("testkey5.int").as(Long.class).withProjectStage(true).getValue());
+        Assert.assertEquals(Boolean.TRUE, ConfigResolver.resolve("testkey5.boolean").as(Boolean.class).getValue());
+        Assert.assertEquals(Boolean.FALSE, ConfigResolver.resolve("testkey").as(Boolean.class).getValue());
+    }
+
+    @Test
+    public void testPrimitiveTargetType()
+    {
+        Assert.assertEquals(Integer.valueOf(14), ConfigResolver.resolve("testkey5.int").as(int.class).getValue());
+        Assert.assertEquals(Long.valueOf(7),
+                ConfigResolver.resolve("notexisting").as(long.class).withDefault(7L).getValue());
+        Assert.assertEquals(Boolean.TRUE, ConfigResolver.resolve("testkey5.boolean").as(boolean.class).getValue());
+    }
+
+    @Test
+    public void testDefaultValue()
+    {
+        Assert.assertEquals(Integer.valueOf(7),
+                ConfigResolver.resolve("notexisting").as(Integer.class).withDefault(7).getValue());
+        Assert.assertEquals(Integer.valueOf(8),
+                ConfigResolver.resolve("notexisting").as(Integer.class).withStringDefault("8").getValue());
+        Assert.assertEquals("defaultValue",
+                ConfigResolver.resolve("testkey3").withProjectStage(true).withDefault("defaultValue").getValue());
+    }
+
+    @Test
+    public void testParameterizedValue()
+    {
+        Assert.assertEquals("TestDataSource",
+                ConfigResolver.resolve("dataSource").withProjectStage(true).parameterizedBy("dbvendor").getValue());
+        Assert.assertEquals("PostgreDataSource",
+                ConfigResolver.resolve("dataSource").parameterizedBy("dbvendor").getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidValue()
+    {
+        ConfigResolver.resolve("testkey5.invalid").as(Integer.class).getValue();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingConverter()
+    {
+        ConfigResolver.resolve("testkey").as(UnconvertedValue.class);
+    }
+
+    @Test
+    public void testValueGetsOnlyConvertedOnce()
+    {
+        final AtomicInteger conversions = new AtomicInteger();
+
+        ConfigResolver.TypedResolver<Integer> resolver = ConfigResolver.resolve("testkey5.int")
+                .as(Integer.class, new ConfigResolver.Converter<Integer>()
+                {
+                    @Override
+                    public Integer convert(String value)
+                    {
+                        conversions.incrementAndGet();
+                        return Integer.valueOf(value);
+                    }
+                });
+
+        Assert.assertEquals(Integer.valueOf(14), resolver.getValue());
+        Assert.assertEquals(Integer.valueOf(14), resolver.getValue());
+        Assert.assertEquals(1, conversions.get());
+    }
+
+    @Test
+    public void testCustomConverter()
+    {
+        ConfigResolver.addConverter(ConvertedValue.class, new ConfigResolver.Converter<ConvertedValue>()
+        {
+            @Override
+            public ConvertedValue convert(String value)
+            {
+                return new ConvertedValue(value);
+            }
+        });
+
+        Assert.assertEquals("testvalue",
+                ConfigResolver.resolve("testkey").as(ConvertedValue.class).cacheFor(TimeUnit.MINUTES, 5)
+                        .getValue().value);
+    }
+
+    /**
+     * Converters can't be removed, therefore every test which registers one uses a type of its own.
+     */
+    private static final class ConvertedValue
+    {
+        private final String value;
+
+        private ConvertedValue(String value)
+        {
+            this.value = value;
+        }
+    }
+
+    /**
+     * No converter gets registered for this type.
+     */
+    private static final class UnconvertedValue
+    {
+    }
+}
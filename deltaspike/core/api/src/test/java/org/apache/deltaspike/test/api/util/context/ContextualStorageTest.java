@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.api.util.context;
+
+import org.apache.deltaspike.core.util.context.AbstractContext;
+import org.apache.deltaspike.core.util.context.BeanKey;
+import org.apache.deltaspike.core.util.context.BeanKeyRegistry;
+import org.apache.deltaspike.core.util.context.ContextualInstanceInfo;
+import org.apache.deltaspike.core.util.context.ContextualStorage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ContextualStorageTest
+{
+    private static final int THREAD_COUNT = 8;
+
+    @Test
+    public void testConcurrentCreationCreatesSingleInstance() throws Exception
+    {
+        final ContextualStorage storage = new ContextualStorage(null, true, false);
+        final TestContextual bean = new TestContextual(0, 0);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try
+        {
+            List<Future<Object>> results = new ArrayList<Future<Object>>();
+            for (int i = 0; i < THREAD_COUNT; i++)
+            {
+                results.add(executorService.submit(new Callable<Object>()
+                {
+                    @Override
+                    public Object call() throws Exception
+                    {
+                        startLatch.await();
+                        return storage.createContextualInstance(bean, null);
+                    }
+                }));
+            }
+
+            startLatch.countDown();
+
+            Object instance = results.get(0).get(30, TimeUnit.SECONDS);
+            for (Future<Object> result : results)
+            {
+                Assert.assertSame(instance, result.get(30, TimeUnit.SECONDS));
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+
+        Assert.assertEquals(1, bean.createCount.get());
+        Assert.assertEquals(1, storage.getStorage().size());
+    }
+
+    @Test
+    public void testFailedCreationDoesNotLeavePlaceholder()
+    {
+        ContextualStorage storage = new ContextualStorage(null, true, false);
+
+        try
+        {
+            storage.createContextualInstance(new TestContextual(1, 0), null);
+            Assert.fail("the creation should have failed");
+        }
+        catch (IllegalStateException e)
+        {
+            // expected
+        }
+
+        Assert.assertTrue(storage.getStorage().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentCreationAfterFailedCreationCreatesSingleInstance() throws Exception
+    {
+        final ContextualStorage storage = new ContextualStorage(null, true, false);
+        // the first creation fails slowly, so the other threads wait for the same placeholder
+        final TestContextual bean = new TestContextual(1, 200);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Object> instances = new ArrayList<Object>();
+        int failures = 0;
+        try
+        {
+            List<Future<Object>> results = new ArrayList<Future<Object>>();
+            for (int i = 0; i < THREAD_COUNT; i++)
+            {
+                results.add(executorService.submit(new Callable<Object>()
+                {
+                    @Override
+                    public Object call() throws Exception
+                    {
+                        startLatch.await();
+                        return storage.createContextualInstance(bean, null);
+                    }
+                }));
+            }
+
+            startLatch.countDown();
+
+            for (Future<Object> result : results)
+            {
+                try
+                {
+                    instances.add(result.get(30, TimeUnit.SECONDS));
+                }
+                catch (ExecutionException e)
+                {
+                    Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+                    failures++;
+                }
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+
+        Assert.assertEquals(1, failures);
+        Assert.assertEquals(THREAD_COUNT - 1, instances.size());
+        for (Object instance : instances)
+        {
+            Assert.assertSame(instances.get(0), instance);
+        }
+        Assert.assertEquals(2, bean.createCount.get());
+        Assert.assertEquals(1, storage.getStorage().size());
+        Assert.assertSame(instances.get(0), storage.getStorage().get(bean).getContextualInstance());
+    }
+
+    @Test
+    public void testDestroyAllActiveSkipsPlaceholders()
+    {
+        ContextualStorage storage = new ContextualStorage(null, true, false);
+        TestContextual bean = new TestContextual(0, 0);
+        TestContextual beanInCreation = new TestContextual(0, 0);
+        storage.createContextualInstance(bean, null);
+        storage.getStorage().put(beanInCreation, new ContextualInstanceInfo<Object>());
+
+        AbstractContext.destroyAllActive(storage);
+
+        Assert.assertEquals(1, bean.destroyCount.get());
+        Assert.assertEquals(0, beanInCreation.destroyCount.get());
+        Assert.assertTrue(storage.getStorage().isEmpty());
+    }
+
+    @Test
+    public void testDeserializedBeanKeyEqualsInternedBeanKey() throws Exception
+    {
+        BeanKey beanKey = BeanKeyRegistry.getInstance().getBeanKey("testBeanId");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(beanKey);
+        out.close();
+
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Object deserializedBeanKey = in.readObject();
+        in.close();
+
+        // not interned, since the deserializing thread might not belong to the application
+        Assert.assertNotSame(beanKey, deserializedBeanKey);
+        Assert.assertEquals(beanKey, deserializedBeanKey);
+        Assert.assertEquals(beanKey.hashCode(), deserializedBeanKey.hashCode());
+    }
+
+    private static class TestContextual implements Contextual<Object>
+    {
+        private final AtomicInteger createCount = new AtomicInteger();
+        private final AtomicInteger destroyCount = new AtomicInteger();
+        private final AtomicInteger failures;
+        private final long creationMillis;
+
+        private TestContextual(int failures, long creationMillis)
+        {
+            this.failures = new AtomicInteger(failures);
+            this.creationMillis = creationMillis;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext)
+        {
+            createCount.incrementAndGet();
+
+            if (failures.getAndDecrement() > 0)
+            {
+                try
+                {
+                    Thread.sleep(creationMillis);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("test failure");
+            }
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext)
+        {
+            Assert.assertNotNull(instance);
+            destroyCount.incrementAndGet();
+        }
+    }
+}
@@ -25,8 +25,14 @@ import javax.enterprise.inject.spi.BeforeShutdown;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
 import org.apache.deltaspike.core.api.config.ConfigResolver;
 import org.apache.deltaspike.core.api.config.PropertyFileConfig;
@@ -40,6 +46,22 @@ import org.apache.deltaspike.core.util.ClassDeactivationUtils;
  */
 public class ConfigurationExtension implements Extension, Deactivatable
 {
+    /**
+     * Comma separated list of property files in the file-system which should be
+     * registered as {@link WatchedPropertyFileConfigSource}s and reloaded if they change.
+     */
+    public static final String WATCHED_FILES_KEY = "deltaspike.config.watched_files";
+
+    /**
+     * Interval for checking the watched files for changes (default: 5).
+     * Invalid values get logged and replaced by the default.
+     */
+    public static final String WATCHED_FILES_INTERVAL_KEY = "deltaspike.config.watched_files_interval_in_seconds";
+
+    private static final long DEFAULT_WATCHED_FILES_INTERVAL = 5;
+
+    private static final Logger LOG = Logger.getLogger(ConfigurationExtension.class.getName());
+
     private static final String CANNOT_CREATE_CONFIG_SOURCE_FOR_CUSTOM_PROPERTY_FILE_CONFIG =
         "Cannot create ConfigSource for custom property-file config ";
 
@@ -48,6 +70,8 @@ public class ConfigurationExtension implements Extension, Deactivatable
     private List<Class<? extends PropertyFileConfig>> configSourcesClasses
         = new ArrayList<Class<?  extends PropertyFileConfig>>();
 
+    private ScheduledExecutorService fileWatcher;
+
 
     @SuppressWarnings("UnusedDeclaration")
     protected void init(@Observes BeforeBeanDiscovery beforeBeanDiscovery)
@@ -94,6 +118,8 @@ public class ConfigurationExtension implements Extension, Deactivatable
 
         // finally add all
         ConfigResolver.addConfigSources(configSources);
+
+        registerWatchedConfigSources();
     }
 
     /**
@@ -102,9 +128,102 @@ public class ConfigurationExtension implements Extension, Deactivatable
     @SuppressWarnings("UnusedDeclaration")
     public void freeConfigSources(@Observes BeforeShutdown bs)
     {
+        if (fileWatcher != null)
+        {
+            fileWatcher.shutdownNow();
+            fileWatcher = null;
+        }
+
         ConfigResolver.freeConfigSources();
     }
 
+    /**
+     * The watched files are configured via the ConfigSources which got registered before.
+     * All of them get checked by a single daemon thread.
+     */
+    private void registerWatchedConfigSources()
+    {
+        String watchedFiles = ConfigResolver.getPropertyValue(WATCHED_FILES_KEY);
+
+        if (watchedFiles == null || watchedFiles.trim().length() == 0)
+        {
+            return;
+        }
+
+        List<ConfigSource> configSources = new ArrayList<ConfigSource>();
+        final List<WatchedPropertyFileConfigSource> watchedConfigSources =
+            new ArrayList<WatchedPropertyFileConfigSource>();
+
+        for (String fileName : watchedFiles.split(","))
+        {
+            if (fileName.trim().length() > 0)
+            {
+                WatchedPropertyFileConfigSource configSource =
+                    new WatchedPropertyFileConfigSource(new File(fileName.trim()));
+                configSources.add(configSource);
+                watchedConfigSources.add(configSource);
+            }
+        }
+
+        ConfigResolver.addConfigSources(configSources);
+
+        long interval = getWatchedFilesInterval();
+
+        fileWatcher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+        {
+            @Override
+            public Thread newThread(Runnable runnable)
+            {
+                Thread thread = new Thread(runnable, "DeltaSpike config file watcher");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        fileWatcher.scheduleWithFixedDelay(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                for (WatchedPropertyFileConfigSource configSource : watchedConfigSources)
+                {
+                    configSource.reloadIfModified();
+                }
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return the configured interval in seconds or the default if the configured value isn't a positive number
+     */
+    private long getWatchedFilesInterval()
+    {
+        String configuredInterval = ConfigResolver.getPropertyValue(WATCHED_FILES_INTERVAL_KEY);
+
+        if (configuredInterval == null || configuredInterval.trim().length() == 0)
+        {
+            return DEFAULT_WATCHED_FILES_INTERVAL;
+        }
+
+        try
+        {
+            long interval = Long.parseLong(configuredInterval.trim());
+
+            if (interval > 0)
+            {
+                return interval;
+            }
+        }
+        catch (NumberFormatException e)
+        {
+            // logged below
+        }
+
+        LOG.warning("Invalid value '" + configuredInterval + "' for " + WATCHED_FILES_INTERVAL_KEY +
+            " - the watched files get checked every " + DEFAULT_WATCHED_FILES_INTERVAL + " seconds");
+        return DEFAULT_WATCHED_FILES_INTERVAL;
+    }
+
     /**
      * @return create an instance of the given {@link PropertyFileConfig} and return all it's ConfigSources.
      */
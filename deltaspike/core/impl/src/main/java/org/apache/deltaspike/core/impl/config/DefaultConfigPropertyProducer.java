@@ -48,23 +48,7 @@ public class DefaultConfigPropertyProducer extends BaseConfigPropertyProducer
     @ConfigProperty(name = "ignored") // we actually don't need the name
     public Integer produceIntegerConfiguration(InjectionPoint injectionPoint)
     {
-        String configuredValue = getStringPropertyValue(injectionPoint);
-        if (configuredValue == null)
-        {
-            return null;
-        }
-
-        try
-        {
-            return Integer.parseInt(configuredValue);
-        }
-        catch (NumberFormatException nfe)
-        {
-            ConfigProperty configProperty = getAnnotation(injectionPoint, ConfigProperty.class);
-            throw new RuntimeException("Error while converting Integer property '" + configProperty.name() +
-                    "' value: " + configuredValue + " happening in bean " + injectionPoint.getBean() , nfe);
-        }
-
+        return getTypedPropertyValue(injectionPoint, Integer.class);
     }
 
     @Produces
@@ -72,22 +56,7 @@ public class DefaultConfigPropertyProducer extends BaseConfigPropertyProducer
     @ConfigProperty(name = "ignored") // we actually don't need the name
     public Long produceLongConfiguration(InjectionPoint injectionPoint)
     {
-        String configuredValue = getStringPropertyValue(injectionPoint);
-        if (configuredValue == null)
-        {
-            return null;
-        }
-
-        try
-        {
-            return Long.parseLong(configuredValue);
-        }
-        catch (NumberFormatException nfe)
-        {
-            ConfigProperty configProperty = getAnnotation(injectionPoint, ConfigProperty.class);
-            throw new RuntimeException("Error while converting Long property '" + configProperty.name() +
-                    "' value: " + configuredValue + " happening in bean " + injectionPoint.getBean() , nfe);
-        }
+        return getTypedPropertyValue(injectionPoint, Long.class);
     }
 
     @Produces
@@ -95,21 +64,7 @@ public class DefaultConfigPropertyProducer extends BaseConfigPropertyProducer
     @ConfigProperty(name = "ignored") // we actually don't need the name
     public Boolean produceBooleanConfiguration(InjectionPoint injectionPoint)
     {
-        String configuredValue = getStringPropertyValue(injectionPoint);
-        if (configuredValue == null)
-        {
-            return null;
-        }
-
-        Boolean isTrue = "TRUE".equalsIgnoreCase(configuredValue);
-        isTrue |= "1".equalsIgnoreCase(configuredValue);
-        isTrue |= "YES".equalsIgnoreCase(configuredValue);
-        isTrue |= "Y".equalsIgnoreCase(configuredValue);
-        isTrue |= "JA".equalsIgnoreCase(configuredValue);
-        isTrue |= "J".equalsIgnoreCase(configuredValue);
-        isTrue |= "OUI".equalsIgnoreCase(configuredValue);
-
-        return isTrue;
+        return getTypedPropertyValue(injectionPoint, Boolean.class);
     }
 
     @Produces
@@ -117,23 +72,6 @@ public class DefaultConfigPropertyProducer extends BaseConfigPropertyProducer
     @ConfigProperty(name = "ignored") // we actually don't need the name
     public Float produceFloatConfiguration(InjectionPoint injectionPoint)
     {
-        String configuredValue = getStringPropertyValue(injectionPoint);
-
-        if (configuredValue == null)
-        {
-            return null;
-        }
-
-        try
-        {
-            return Float.parseFloat(configuredValue);
-        }
-        catch (NumberFormatException nfe)
-        {
-            ConfigProperty configProperty = getAnnotation(injectionPoint, ConfigProperty.class);
-            throw new RuntimeException("Error while converting Float property '" + configProperty.name() +
-                    "' value: " + configuredValue + " happening in bean " + injectionPoint.getBean() , nfe);
-        }
-
+        return getTypedPropertyValue(injectionPoint, Float.class);
     }
 }
@@ -46,7 +46,15 @@ public class DefaultConfigSourceProvider implements ConfigSourceProvider
     {
         configSources.add(new SystemPropertyConfigSource());
         configSources.add(new EnvironmentPropertyConfigSource());
-        configSources.add(new LocalJndiConfigSource());
+
+        if (LocalJndiConfigSource.isSnapshotEnabled())
+        {
+            configSources.add(new SnapshotLocalJndiConfigSource());
+        }
+        else
+        {
+            configSources.add(new LocalJndiConfigSource());
+        }
 
         EnvironmentPropertyConfigSourceProvider epcsp = new EnvironmentPropertyConfigSourceProvider(PROPERTY_FILE_NAME);
         configSources.addAll(epcsp.getConfigSources());
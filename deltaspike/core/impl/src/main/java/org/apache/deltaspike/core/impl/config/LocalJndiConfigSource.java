@@ -27,18 +27,35 @@ import org.apache.deltaspike.core.impl.util.JndiUtils;
 
 /**
  * {@link org.apache.deltaspike.core.spi.config.ConfigSource}
- * which uses JNDI for the lookup
+ * which uses JNDI for the lookup.
+ *
+ * <p>Every lookup is a JNDI lookup. If {@link #SNAPSHOT_ENABLED_KEY} is configured via JNDI,
+ * {@link SnapshotLocalJndiConfigSource} gets used instead.</p>
  */
 @Typed()
 class LocalJndiConfigSource extends BaseConfigSource
 {
-    private static final String BASE_NAME = "java:comp/env/deltaspike/";
+    /**
+     * Enables the snapshot of all String values in <i>java:comp/env</i> (default: false).
+     */
+    static final String SNAPSHOT_ENABLED_KEY = "deltaspike.config.jndi.snapshot";
+
+    static final String ENV_NAME = "java:comp/env";
+    static final String BASE_NAME = ENV_NAME + "/deltaspike/";
 
     public LocalJndiConfigSource()
     {
         initOrdinal(200);
     }
 
+    /**
+     * @return true if {@link #SNAPSHOT_ENABLED_KEY} is set to true via JNDI
+     */
+    static boolean isSnapshotEnabled()
+    {
+        return Boolean.parseBoolean(lookupPropertyValue(SNAPSHOT_ENABLED_KEY));
+    }
+
     /**
      * The given key gets used for a lookup via JNDI
      *
@@ -47,6 +64,11 @@ class LocalJndiConfigSource extends BaseConfigSource
      */
     @Override
     public String getPropertyValue(String key)
+    {
+        return lookupPropertyValue(key);
+    }
+
+    static String lookupPropertyValue(String key)
     {
         try
         {
@@ -59,9 +81,9 @@ class LocalJndiConfigSource extends BaseConfigSource
         return null;
     }
 
-    private String getJndiKey(String key)
+    private static String getJndiKey(String key)
     {
-        if (key.startsWith("java:comp/env"))
+        if (key.startsWith(ENV_NAME))
         {
             return key;
         }
@@ -73,7 +95,7 @@ class LocalJndiConfigSource extends BaseConfigSource
     {
         Map<String, String> result = new HashMap<String, String>();
         result.putAll(JndiUtils.list(BASE_NAME, String.class));
-        result.putAll(JndiUtils.list("java:comp/env", String.class));
+        result.putAll(JndiUtils.list(ENV_NAME, String.class));
         return result;
     }
 
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.impl.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import javax.enterprise.inject.Typed;
+
+import org.apache.deltaspike.core.impl.util.JndiUtils;
+import org.apache.deltaspike.core.spi.config.VersionedConfigSource;
+
+/**
+ * {@link LocalJndiConfigSource} which reads all String values of <i>java:comp/env</i> once.
+ * Every lookup is a simple map lookup.
+ *
+ * <p>The snapshot gets read again after the interval configured via {@link #SNAPSHOT_REFRESH_KEY}.
+ * The version only changes if the values changed.</p>
+ */
+@Typed()
+class SnapshotLocalJndiConfigSource extends LocalJndiConfigSource implements VersionedConfigSource
+{
+    /**
+     * Interval for reading the snapshot again, 0 disables the refresh (default: 0).
+     */
+    static final String SNAPSHOT_REFRESH_KEY = "deltaspike.config.jndi.snapshot_refresh_in_seconds";
+
+    private final long refreshIntervalMs;
+
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
+
+    private final AtomicLong version = new AtomicLong(0);
+
+    private volatile Map<String, String> snapshot;
+
+    private volatile long nextRefresh;
+
+    public SnapshotLocalJndiConfigSource()
+    {
+        long refreshInSeconds = 0;
+        String configuredRefresh = lookupPropertyValue(SNAPSHOT_REFRESH_KEY);
+        if (configuredRefresh != null)
+        {
+            try
+            {
+                refreshInSeconds = Long.parseLong(configuredRefresh.trim());
+            }
+            catch (NumberFormatException e)
+            {
+                log.log(Level.WARNING,
+                        "The configured refresh interval isn't a valid number. Invalid value: " + configuredRefresh);
+            }
+        }
+        refreshIntervalMs = refreshInSeconds * 1000;
+
+        snapshot = createSnapshot();
+        nextRefresh = System.currentTimeMillis() + refreshIntervalMs;
+    }
+
+    /**
+     * The given key gets used for a lookup in the snapshot of the JNDI values
+     *
+     * @param key for the property
+     * @return value for the given key or null if there is no configured value
+     */
+    @Override
+    public String getPropertyValue(String key)
+    {
+        Map<String, String> currentSnapshot = snapshot;
+
+        if (currentSnapshot == null)
+        {
+            // the constructor of LocalJndiConfigSource looks up the ordinal before the snapshot exists
+            return lookupPropertyValue(key);
+        }
+
+        if (refreshIntervalMs > 0 && System.currentTimeMillis() > nextRefresh)
+        {
+            currentSnapshot = refreshSnapshot();
+        }
+        return currentSnapshot.get(key);
+    }
+
+    /**
+     * Only one thread reads the values again, all others continue to use the current snapshot.
+     */
+    private Map<String, String> refreshSnapshot()
+    {
+        if (!refreshInProgress.compareAndSet(false, true))
+        {
+            return snapshot;
+        }
+
+        try
+        {
+            Map<String, String> newSnapshot = createSnapshot();
+            if (!newSnapshot.equals(snapshot))
+            {
+                snapshot = newSnapshot;
+                version.incrementAndGet();
+            }
+            nextRefresh = System.currentTimeMillis() + refreshIntervalMs;
+            return snapshot;
+        }
+        finally
+        {
+            refreshInProgress.set(false);
+        }
+    }
+
+    /**
+     * Values of <i>java:comp/env/deltaspike/</i> are stored with the same key
+     * a lookup would use, all others with their full JNDI name.
+     */
+    private Map<String, String> createSnapshot()
+    {
+        Map<String, String> result = new HashMap<String, String>();
+
+        for (Map.Entry<String, String> entry : JndiUtils.listStringValues(ENV_NAME).entrySet())
+        {
+            result.put(ENV_NAME + "/" + entry.getKey(), entry.getValue());
+        }
+        result.putAll(JndiUtils.listStringValues(BASE_NAME.substring(0, BASE_NAME.length() - 1)));
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public Map<String, String> getProperties()
+    {
+        return snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion()
+    {
+        return version.get();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.impl.config;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import org.apache.deltaspike.core.spi.config.VersionedConfigSource;
+import org.apache.deltaspike.core.util.PropertyFileUtils;
+
+/**
+ * {@link org.apache.deltaspike.core.spi.config.ConfigSource} for a property file
+ * in the file-system (e.g. in an exploded deployment or an external config directory)
+ * which can be reloaded at runtime.
+ *
+ * <p>{@link #reloadIfModified()} reads the file again if it changed and replaces the
+ * values at once. Lookups never block and the version gets incremented with every change,
+ * which invalidates the values cached by
+ * {@link org.apache.deltaspike.core.api.config.ConfigResolver}.</p>
+ *
+ * <p>Files configured via {@link ConfigurationExtension#WATCHED_FILES_KEY} get registered
+ * and checked for changes automatically.</p>
+ */
+public class WatchedPropertyFileConfigSource extends BaseConfigSource implements VersionedConfigSource
+{
+    private final File file;
+
+    private final AtomicLong version = new AtomicLong(0);
+
+    private volatile Map<String, String> properties;
+
+    private long lastModified;
+    private long lastLength;
+
+    public WatchedPropertyFileConfigSource(File file)
+    {
+        this.file = file;
+
+        lastModified = file.lastModified();
+        lastLength = file.length();
+        properties = loadProperties();
+
+        initOrdinal(100);
+    }
+
+    /**
+     * Reads the file again if its modification date or size changed since the last check.
+     * The ordinal doesn't get changed, because the ConfigSources only get sorted once.
+     *
+     * @return true if the file got reloaded, false otherwise
+     */
+    public synchronized boolean reloadIfModified()
+    {
+        long currentLastModified = file.lastModified();
+        long currentLength = file.length();
+
+        if (currentLastModified == lastModified && currentLength == lastLength)
+        {
+            return false;
+        }
+
+        lastModified = currentLastModified;
+        lastLength = currentLength;
+
+        Map<String, String> newProperties;
+        try
+        {
+            newProperties = loadProperties();
+        }
+        catch (IllegalStateException e)
+        {
+            // e.g. the file is just getting written - we will try it again with the next change
+            log.log(Level.WARNING, "Property file " + file + " couldn't be reloaded", e);
+            return false;
+        }
+
+        if (newProperties.equals(properties))
+        {
+            return false;
+        }
+
+        properties = newProperties;
+        version.incrementAndGet();
+
+        log.log(Level.INFO, "Property file {0} got reloaded", file);
+        return true;
+    }
+
+    private Map<String, String> loadProperties()
+    {
+        if (!file.isFile())
+        {
+            log.log(Level.WARNING, "Property file {0} doesn't exist", file);
+            return Collections.emptyMap();
+        }
+
+        Properties loadedProperties;
+        try
+        {
+            loadedProperties = PropertyFileUtils.loadProperties(file.toURI().toURL());
+        }
+        catch (MalformedURLException e)
+        {
+            throw new IllegalStateException(e);
+        }
+
+        Map<String, String> result = new HashMap<String, String>();
+        for (String propertyName : loadedProperties.stringPropertyNames())
+        {
+            result.put(propertyName, loadedProperties.getProperty(propertyName));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPropertyValue(String key)
+    {
+        return properties.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, String> getProperties()
+    {
+        return properties;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion()
+    {
+        return version.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getConfigName()
+    {
+        return file.getAbsolutePath();
+    }
+
+    @Override
+    public boolean isScannable()
+    {
+        return true;
+    }
+}
@@ -23,18 +23,19 @@ import org.apache.deltaspike.core.api.exception.control.HandlerMethod;
 import org.apache.deltaspike.core.api.exception.control.event.ExceptionStackEvent;
 import org.apache.deltaspike.core.api.exception.control.event.ExceptionToCatchEvent;
 import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.apache.deltaspike.core.spi.exception.control.ExceptionHandlingTrace;
+import org.apache.deltaspike.core.spi.exception.control.ExceptionHandlingTracer;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.spi.BeanManager;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
+import javax.inject.Inject;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -46,6 +47,9 @@ public class ExceptionHandlerBroadcaster
 {
     private static final Logger LOG = Logger.getLogger(ExceptionHandlerBroadcaster.class.getName());
 
+    @Inject
+    private ExceptionHandlingTracer exceptionHandlingTracer;
+
     /**
      * Observes the event, finds the correct exception handler(s) and invokes them.
      *
@@ -66,6 +70,8 @@ public class ExceptionHandlerBroadcaster
         final HandlerMethodStorage handlerMethodStorage =
                 BeanProvider.getContextualReference(HandlerMethodStorage.class);
 
+        final ExceptionHandlingTrace trace = exceptionHandlingTracer.startTrace(exceptionEventEvent.getException());
+
         try
         {
             creationalContext = beanManager.createCreationalContext(null);
@@ -80,24 +86,41 @@ public class ExceptionHandlerBroadcaster
             //indentation needed by the current checkstyle rules
             while (stack.getCurrent() != null)
             {
-                final List<HandlerMethod<?>> callbackExceptionEvent = new ArrayList<HandlerMethod<?>>(
-                        handlerMethodStorage.getHandlersForException(stack.getCurrent().getClass(),
-                                beanManager, exceptionEventEvent.getQualifiers(), true));
+                final List<HandlerMethod<? extends Throwable>> callbackExceptionEvent =
+                        handlerMethodStorage.getHandlerChain(stack.getCurrent().getClass(),
+                                exceptionEventEvent.getQualifiers(), true);
 
-                for (HandlerMethod<?> handler : callbackExceptionEvent)
+                for (int i = 0; i < callbackExceptionEvent.size(); i++)
                 {
+                    final HandlerMethod<?> handler = callbackExceptionEvent.get(i);
+
                     if (!processedHandlers.contains(handler))
                     {
-                        LOG.fine(String.format("Notifying handler %s", handler));
+                        if (LOG.isLoggable(Level.FINE))
+                        {
+                            LOG.fine(String.format("Notifying handler %s", handler));
+                        }
 
                         @SuppressWarnings("rawtypes")
                         final DefaultExceptionEvent callbackEvent = new DefaultExceptionEvent(stack, true,
                                 exceptionEventEvent.isHandled());
 
+                        final long handlerStart = trace == null ? 0 : System.nanoTime();
+
                         handler.notify(callbackEvent, beanManager);
 
-                        LOG.fine(String.format("Handler %s returned status %s", handler,
-                                callbackEvent.getCurrentExceptionHandlingFlow().name()));
+                        if (trace != null)
+                        {
+                            trace.handlerNotified(handler, stack.getCurrent(),
+                                    callbackEvent.getCurrentExceptionHandlingFlow(),
+                                    System.nanoTime() - handlerStart);
+                        }
+
+                        if (LOG.isLoggable(Level.FINE))
+                        {
+                            LOG.fine(String.format("Handler %s returned status %s", handler,
+                                    callbackEvent.getCurrentExceptionHandlingFlow().name()));
+                        }
 
                         if (!callbackEvent.isUnmute())
                         {
@@ -131,29 +154,41 @@ public class ExceptionHandlerBroadcaster
                     }
                 }
 
-                final Collection<HandlerMethod<? extends Throwable>> handlersForException =
-                        handlerMethodStorage.getHandlersForException(stack.getCurrent().getClass(),
-                                beanManager, exceptionEventEvent.getQualifiers(), false);
-
+                // category handlers are last
                 final List<HandlerMethod<? extends Throwable>> handlerMethods =
-                        new ArrayList<HandlerMethod<? extends Throwable>>(handlersForException);
+                        handlerMethodStorage.getHandlerChain(stack.getCurrent().getClass(),
+                                exceptionEventEvent.getQualifiers(), false);
 
-                // Reverse these so category handlers are last
-                Collections.reverse(handlerMethods);
-
-                for (HandlerMethod<?> handler : handlerMethods)
+                for (int i = 0; i < handlerMethods.size(); i++)
                 {
+                    final HandlerMethod<?> handler = handlerMethods.get(i);
+
                     if (!processedHandlers.contains(handler))
                     {
-                        LOG.fine(String.format("Notifying handler %s", handler));
+                        if (LOG.isLoggable(Level.FINE))
+                        {
+                            LOG.fine(String.format("Notifying handler %s", handler));
+                        }
 
                         @SuppressWarnings("rawtypes")
                         final DefaultExceptionEvent depthFirstEvent = new DefaultExceptionEvent(stack, false,
                                 exceptionEventEvent.isHandled());
+                        final long handlerStart = trace == null ? 0 : System.nanoTime();
+
                         handler.notify(depthFirstEvent, beanManager);
 
-                        LOG.fine(String.format("Handler %s returned status %s", handler,
-                                depthFirstEvent.getCurrentExceptionHandlingFlow().name()));
+                        if (trace != null)
+                        {
+                            trace.handlerNotified(handler, stack.getCurrent(),
+                                    depthFirstEvent.getCurrentExceptionHandlingFlow(),
+                                    System.nanoTime() - handlerStart);
+                        }
+
+                        if (LOG.isLoggable(Level.FINE))
+                        {
+                            LOG.fine(String.format("Handler %s returned status %s", handler,
+                                    depthFirstEvent.getCurrentExceptionHandlingFlow().name()));
+                        }
 
                         if (!depthFirstEvent.isUnmute())
                         {
@@ -206,6 +241,10 @@ public class ExceptionHandlerBroadcaster
             {
                 creationalContext.release();
             }
+            if (trace != null)
+            {
+                trace.finished(exceptionEventEvent.isHandled());
+            }
             LOG.exiting(ExceptionHandlerBroadcaster.class.getName(), "executeHandlers",
                     exceptionEventEvent.getException());
         }
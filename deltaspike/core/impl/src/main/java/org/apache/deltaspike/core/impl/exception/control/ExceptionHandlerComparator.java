@@ -36,6 +36,8 @@ import java.util.Set;
 @SuppressWarnings({ "MethodWithMoreThanThreeNegations" })
 public final class ExceptionHandlerComparator implements Comparator<HandlerMethod<?>>
 {
+    private static final AnyLiteral ANY_LITERAL = new AnyLiteral();
+
     /**
      * {@inheritDoc}
      */
@@ -73,7 +75,7 @@ public final class ExceptionHandlerComparator implements Comparator<HandlerMetho
             if (lhs.getExceptionType().equals(rhs.getExceptionType())
                     && !lhs.getQualifiers().equals(rhs.getQualifiers()))
             {
-                if (lhs.getQualifiers().contains(new AnyLiteral()))
+                if (lhs.getQualifiers().contains(ANY_LITERAL))
                 {
                     return -1; // Make sure @Any is first, as it's less specific
                 }
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.impl.exception.control;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+import org.apache.deltaspike.core.api.exception.control.ExceptionHandlingFlow;
+import org.apache.deltaspike.core.api.exception.control.HandlerMethod;
+import org.apache.deltaspike.core.api.jmx.JmxManaged;
+import org.apache.deltaspike.core.api.jmx.MBean;
+import org.apache.deltaspike.core.spi.exception.control.ExceptionHandlingTrace;
+import org.apache.deltaspike.core.spi.exception.control.ExceptionHandlingTracer;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default {@link ExceptionHandlingTracer} which keeps the timelines of the last handled exceptions
+ * in a bounded ring buffer and exposes them via JMX. Tracing is disabled by default and can be enabled via
+ * {@link #TRACING_ENABLED_KEY} or at runtime via JMX.
+ * The name of the MBean gets the suffix configured via {@link #MBEAN_NAME_SUFFIX_KEY}, therefore every
+ * application registers its own MBean.
+ * The timelines only get formatted if they are requested.
+ */
+@ApplicationScoped
+@MBean(name = "ExceptionHandlingTraces", description = "timelines of the last handled exceptions")
+public class ExceptionHandlingTraceRecorder implements ExceptionHandlingTracer
+{
+    public static final String TRACING_ENABLED_KEY = "deltaspike.exception_control.tracing.enabled";
+
+    /**
+     * Number of timelines which are kept. Default is 100.
+     */
+    public static final String BUFFER_SIZE_KEY = "deltaspike.exception_control.tracing.buffer_size";
+
+    /**
+     * Suffix of the MBean name which has to be unique per application.
+     * Default is <code>@</code> followed by the identity hash code of the ClassLoader of the application.
+     */
+    public static final String MBEAN_NAME_SUFFIX_KEY = "deltaspike.exception_control.tracing.mbean_name_suffix";
+
+    @JmxManaged(description = "records the handling of exceptions if enabled")
+    private volatile boolean tracingEnabled;
+
+    @JmxManaged(description = "number of exceptions which were traced so far")
+    private long tracedExceptionCount;
+
+    private Timeline[] timelines;
+
+    private int nextTimelineIndex;
+
+    @PostConstruct
+    protected void init()
+    {
+        tracingEnabled = ConfigResolver.resolve(TRACING_ENABLED_KEY).as(Boolean.class).withDefault(false).getValue();
+        timelines = new Timeline[Math.max(1,
+                ConfigResolver.resolve(BUFFER_SIZE_KEY).as(Integer.class).withDefault(100).getValue())];
+    }
+
+    @Override
+    public ExceptionHandlingTrace startTrace(Throwable exception)
+    {
+        if (!tracingEnabled)
+        {
+            return null;
+        }
+        return new Timeline(this, exception);
+    }
+
+    public boolean isTracingEnabled()
+    {
+        return tracingEnabled;
+    }
+
+    public void setTracingEnabled(boolean tracingEnabled)
+    {
+        this.tracingEnabled = tracingEnabled;
+    }
+
+    public synchronized long getTracedExceptionCount()
+    {
+        return tracedExceptionCount;
+    }
+
+    /**
+     * @return the recorded timelines, the oldest first
+     */
+    @JmxManaged(description = "the recorded timelines, the oldest first")
+    public String[] listTraces()
+    {
+        List<Timeline> result = new ArrayList<Timeline>(timelines.length);
+
+        synchronized (this)
+        {
+            for (int i = 0; i < timelines.length; i++)
+            {
+                Timeline timeline = timelines[(nextTimelineIndex + i) % timelines.length];
+
+                if (timeline != null)
+                {
+                    result.add(timeline);
+                }
+            }
+        }
+
+        String[] formattedTimelines = new String[result.size()];
+        for (int i = 0; i < formattedTimelines.length; i++)
+        {
+            formattedTimelines[i] = result.get(i).toString();
+        }
+        return formattedTimelines;
+    }
+
+    @JmxManaged(description = "removes all recorded timelines")
+    public synchronized void clearTraces()
+    {
+        for (int i = 0; i < timelines.length; i++)
+        {
+            timelines[i] = null;
+        }
+        nextTimelineIndex = 0;
+    }
+
+    private synchronized void record(Timeline timeline)
+    {
+        timelines[nextTimelineIndex] = timeline;
+        nextTimelineIndex = (nextTimelineIndex + 1) % timelines.length;
+        tracedExceptionCount++;
+    }
+
+    private static final class Timeline implements ExceptionHandlingTrace
+    {
+        private final ExceptionHandlingTraceRecorder recorder;
+        private final long startTime = System.currentTimeMillis();
+        private final long startNanos = System.nanoTime();
+        private final Class<? extends Throwable> exceptionClass;
+        private final String exceptionMessage;
+        private final List<HandlerNotification> handlerNotifications = new ArrayList<HandlerNotification>();
+
+        private boolean handled;
+        private long durationInNanos;
+
+        private Timeline(ExceptionHandlingTraceRecorder recorder, Throwable exception)
+        {
+            this.recorder = recorder;
+            this.exceptionClass = exception.getClass();
+            this.exceptionMessage = exception.getMessage();
+        }
+
+        @Override
+        public void handlerNotified(HandlerMethod<?> handler, Throwable cause, ExceptionHandlingFlow flow,
+                                    long durationInNanos)
+        {
+            handlerNotifications.add(new HandlerNotification(handler, cause.getClass(), flow, durationInNanos));
+        }
+
+        @Override
+        public void finished(boolean handled)
+        {
+            this.handled = handled;
+            this.durationInNanos = System.nanoTime() - startNanos;
+            recorder.record(this);
+        }
+
+        @Override
+        public String toString()
+        {
+            StringBuilder result = new StringBuilder(128 + handlerNotifications.size() * 128);
+            result.append(new Date(startTime)).append(' ').append(exceptionClass.getName())
+                    .append(": ").append(exceptionMessage)
+                    .append(" [handled: ").append(handled)
+                    .append(", duration: ").append(TimeUnit.NANOSECONDS.toMicros(durationInNanos)).append("us]");
+
+            for (HandlerNotification handlerNotification : handlerNotifications)
+            {
+                result.append("\n    ").append(handlerNotification);
+            }
+            return result.toString();
+        }
+    }
+
+    private static final class HandlerNotification
+    {
+        private final HandlerMethod<?> handler;
+        private final Class<? extends Throwable> causeClass;
+        private final ExceptionHandlingFlow flow;
+        private final long durationInNanos;
+
+        private HandlerNotification(HandlerMethod<?> handler, Class<? extends Throwable> causeClass,
+                                    ExceptionHandlingFlow flow, long durationInNanos)
+        {
+            this.handler = handler;
+            this.causeClass = causeClass;
+            this.flow = flow;
+            this.durationInNanos = durationInNanos;
+        }
+
+        @Override
+        public String toString()
+        {
+            return causeClass.getName() + " -> " + handler + ": " + flow +
+                    " (" + TimeUnit.NANOSECONDS.toMicros(durationInNanos) + "us)";
+        }
+    }
+}
@@ -24,12 +24,9 @@ import org.apache.deltaspike.core.api.exception.control.BeforeHandles;
 import org.apache.deltaspike.core.api.exception.control.Handles;
 import org.apache.deltaspike.core.api.exception.control.event.ExceptionEvent;
 import org.apache.deltaspike.core.api.literal.AnyLiteral;
-import org.apache.deltaspike.core.api.provider.BeanProvider;
 import org.apache.deltaspike.core.util.BeanUtils;
 import org.apache.deltaspike.core.util.metadata.builder.ImmutableInjectionPoint;
-import org.apache.deltaspike.core.util.metadata.builder.InjectableMethod;
 
-import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.Typed;
 import javax.enterprise.inject.spi.AnnotatedMethod;
 import javax.enterprise.inject.spi.AnnotatedParameter;
@@ -62,6 +59,7 @@ public class HandlerMethodImpl<T extends Throwable> implements HandlerMethod<T>
     private final Method javaMethod;
     private final AnnotatedParameter<?> handlerParameter;
     private Set<InjectionPoint> injectionPoints;
+    private volatile HandlerMethodInvoker invoker;
 
     /**
      * Sole Constructor.
@@ -186,28 +184,23 @@ public class HandlerMethodImpl<T extends Throwable> implements HandlerMethod<T>
     @Override
     public void notify(final ExceptionEvent<T> event, BeanManager beanManager) throws Exception
     {
-        CreationalContext<?> ctx = null;
-        try
+        if (invoker == null)
         {
-            ctx = beanManager.createCreationalContext(null);
-            @SuppressWarnings("unchecked")
-            Object handlerInstance = BeanProvider.getContextualReference(declaringBeanClass);
-            InjectableMethod<?> im = createInjectableMethod(handler, getDeclaringBean(), beanManager);
-            im.invoke(handlerInstance, ctx, new OutboundParameterValueRedefiner(event, this));
-        }
-        finally
-        {
-            if (ctx != null)
-            {
-                ctx.release();
-            }
+            prepareInvocation(beanManager);
         }
+        invoker.invoke(event, beanManager);
     }
 
-    private <X> InjectableMethod<X> createInjectableMethod(AnnotatedMethod<X> handlerMethod, Bean<?> bean,
-                                                           BeanManager bm)
+    /**
+     * Resolves everything which is needed to invoke the handler. It gets called by the extension
+     * after the deployment was validated, otherwise lazily by the first notification.
+     *
+     * @param beanManager active BeanManager
+     */
+    public void prepareInvocation(BeanManager beanManager)
     {
-        return new InjectableMethod<X>(handlerMethod, bean, bm);
+        invoker = new HandlerMethodInvoker(
+                this, BeanUtils.createInjectionPoints(handler, getDeclaringBean(), beanManager), beanManager);
     }
 
     /**
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.impl.exception.control;
+
+import org.apache.deltaspike.core.api.exception.control.event.ExceptionEvent;
+import org.apache.deltaspike.core.util.ReflectionUtils;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.AmbiguousResolutionException;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.InjectionPoint;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Invokes a handler method. The injection points of the handler method get created once
+ * and the contextual references of &#064;NormalScoped beans (the declaring bean of the handler and the beans
+ * injected into the handler method) get resolved once, therefore an invocation only needs to resolve
+ * the remaining parameters. &#064;Dependent instances get destroyed after each invocation.
+ * This class is immutable.
+ */
+final class HandlerMethodInvoker
+{
+    private final Class<?> declaringBeanClass;
+    private final Bean<?> declaringBean;
+    private final Method javaMethod;
+    private final int handlerParameterPosition;
+    private final InjectionPoint[] injectionPoints;
+    private final Object[] normalScopedReferences;
+    /**
+     * Beans of the other parameters, an entry is <code>null</code> if the bean couldn't be resolved in advance
+     */
+    private final Bean<?>[] dependentBeans;
+    private final Object normalScopedHandlerInstance;
+
+    HandlerMethodInvoker(HandlerMethodImpl<?> handlerMethod, List<InjectionPoint> injectionPoints,
+                         BeanManager beanManager)
+    {
+        declaringBeanClass = handlerMethod.getJavaMethod().getDeclaringClass();
+        declaringBean = handlerMethod.getDeclaringBean();
+        javaMethod = handlerMethod.getJavaMethod();
+        handlerParameterPosition = handlerMethod.getHandlerParameter().getPosition();
+
+        this.injectionPoints = injectionPoints.toArray(new InjectionPoint[injectionPoints.size()]);
+        normalScopedReferences = new Object[this.injectionPoints.length];
+        dependentBeans = new Bean<?>[this.injectionPoints.length];
+
+        for (int i = 0; i < this.injectionPoints.length; i++)
+        {
+            if (i != handlerParameterPosition)
+            {
+                InjectionPoint injectionPoint = this.injectionPoints[i];
+                Set<Annotation> qualifiers = injectionPoint.getQualifiers();
+                Bean<?> bean = resolveBean(beanManager, injectionPoint.getType(),
+                        qualifiers.toArray(new Annotation[qualifiers.size()]));
+
+                normalScopedReferences[i] = getNormalScopedReference(beanManager, bean, injectionPoint.getType());
+
+                if (normalScopedReferences[i] == null)
+                {
+                    dependentBeans[i] = bean;
+                }
+            }
+        }
+
+        normalScopedHandlerInstance = getNormalScopedReference(beanManager, declaringBean, declaringBeanClass);
+    }
+
+    void invoke(ExceptionEvent<?> event, BeanManager beanManager) throws IllegalAccessException
+    {
+        Object handlerInstance = normalScopedHandlerInstance;
+        CreationalContext<?> handlerCreationalContext = null;
+        Object[] parameterValues = new Object[injectionPoints.length];
+        // one per @Dependent instance, since it gets destroyed by releasing its CreationalContext
+        CreationalContext<?>[] dependentCreationalContexts = new CreationalContext<?>[injectionPoints.length];
+        try
+        {
+            if (handlerInstance == null)
+            {
+                handlerCreationalContext = beanManager.createCreationalContext(declaringBean);
+                handlerInstance = beanManager.getReference(declaringBean, declaringBeanClass, handlerCreationalContext);
+            }
+
+            for (int i = 0; i < injectionPoints.length; i++)
+            {
+                if (i == handlerParameterPosition)
+                {
+                    parameterValues[i] = event;
+                }
+                else if (normalScopedReferences[i] != null)
+                {
+                    parameterValues[i] = normalScopedReferences[i];
+                }
+                else
+                {
+                    dependentCreationalContexts[i] = beanManager.createCreationalContext(dependentBeans[i]);
+                    parameterValues[i] = beanManager.getInjectableReference(
+                            injectionPoints[i], dependentCreationalContexts[i]);
+                }
+            }
+
+            ReflectionUtils.invokeMethod(handlerInstance, javaMethod, Object.class, true, parameterValues);
+        }
+        catch (RuntimeException e)
+        {
+            //workaround for OWB which wraps InvocationTargetException the original exception
+            //see ReflectionUtils#invokeMethod and InjectableMethod#invoke
+            if (RuntimeException.class.getName().equals(e.getClass().getName()) &&
+                    e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        finally
+        {
+            for (CreationalContext<?> dependentCreationalContext : dependentCreationalContexts)
+            {
+                if (dependentCreationalContext != null)
+                {
+                    dependentCreationalContext.release();
+                }
+            }
+
+            if (handlerCreationalContext != null)
+            {
+                handlerCreationalContext.release();
+            }
+        }
+    }
+
+    /**
+     * @return the resolved bean or <code>null</code> if it can't be resolved yet,
+     * the invocation will report the issue in this case
+     */
+    private static Bean<?> resolveBean(BeanManager beanManager, Type type, Annotation... qualifiers)
+    {
+        try
+        {
+            return beanManager.resolve(beanManager.getBeans(type, qualifiers));
+        }
+        catch (AmbiguousResolutionException e)
+        {
+            return null;
+        }
+    }
+
+    private static Object getNormalScopedReference(BeanManager beanManager, Bean<?> bean, Type type)
+    {
+        if (bean == null || !beanManager.isNormalScope(bean.getScope()))
+        {
+            return null;
+        }
+        return beanManager.getReference(bean, type, beanManager.createCreationalContext(bean));
+    }
+}
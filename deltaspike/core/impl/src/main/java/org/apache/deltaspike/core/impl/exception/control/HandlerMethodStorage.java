@@ -25,6 +25,7 @@ import javax.enterprise.inject.spi.BeanManager;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -53,4 +54,18 @@ public interface HandlerMethodStorage
     Collection<HandlerMethod<? extends Throwable>> getHandlersForException(Type exceptionClass, BeanManager bm,
                                                                            Set<Annotation> handlerQualifiers,
                                                                            boolean isBefore);
+
+    /**
+     * Obtains the applicable handlers for the given type or super type of the given type in the order
+     * they have to be invoked. In case of the depth-first traversal the order is the reverse of
+     * {@link #getHandlersForException}, therefore category handlers are last.
+     *
+     * @param exceptionClass    Type of exception to narrow handler list
+     * @param handlerQualifiers additional handlerQualifiers to limit handlers
+     * @param isBefore          traversal limiter
+     * @return An immutable list of handlers for the given type.
+     */
+    List<HandlerMethod<? extends Throwable>> getHandlerChain(Type exceptionClass,
+                                                             Set<Annotation> handlerQualifiers,
+                                                             boolean isBefore);
 }
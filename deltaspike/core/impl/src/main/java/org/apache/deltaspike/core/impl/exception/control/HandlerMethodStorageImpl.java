@@ -27,23 +27,40 @@ import javax.enterprise.inject.Typed;
 import javax.enterprise.inject.spi.BeanManager;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Basic implementation for {@link HandlerMethodStorage}.
+ * The handler chains get computed once per exception type, qualifiers and traversal mode
+ * and are cached until a new handler gets registered.
  */
 @SuppressWarnings("CdiManagedBeanInconsistencyInspection")
 @Typed()
 class HandlerMethodStorageImpl implements HandlerMethodStorage
 {
+    /**
+     * Upper limit for the cached handler chains (e.g. in case of generated exception classes).
+     */
+    private static final int MAX_CACHED_HANDLER_CHAINS = 1000;
+
+    private static final AnyLiteral ANY_LITERAL = new AnyLiteral();
+
     private final Map<Type, Collection<HandlerMethod<? extends Throwable>>> allHandlers;
 
+    private final ConcurrentMap<HandlerChainKey, List<HandlerMethod<? extends Throwable>>> handlerChains =
+            new ConcurrentHashMap<HandlerChainKey, List<HandlerMethod<? extends Throwable>>>();
+
     private Logger log = Logger.getLogger(HandlerMethodStorageImpl.class.toString());
 
     HandlerMethodStorageImpl(Map<Type, Collection<HandlerMethod<? extends Throwable>>> allHandlers)
@@ -54,7 +71,10 @@ class HandlerMethodStorageImpl implements HandlerMethodStorage
     @Override
     public <T extends Throwable> void registerHandlerMethod(HandlerMethod<T> handlerMethod)
     {
-        log.fine(String.format("Adding handler %s to known handlers", handlerMethod));
+        if (log.isLoggable(Level.FINE))
+        {
+            log.fine(String.format("Adding handler %s to known handlers", handlerMethod));
+        }
         if (allHandlers.containsKey(handlerMethod.getExceptionType()))
         {
             allHandlers.get(handlerMethod.getExceptionType()).add(handlerMethod);
@@ -64,6 +84,7 @@ class HandlerMethodStorageImpl implements HandlerMethodStorage
             allHandlers.put(handlerMethod.getExceptionType(),
                     new HashSet<HandlerMethod<? extends Throwable>>(Collections.singleton(handlerMethod)));
         }
+        handlerChains.clear();
     }
 
     @Override
@@ -71,6 +92,45 @@ class HandlerMethodStorageImpl implements HandlerMethodStorage
                                                                                   BeanManager bm,
                                                                                   Set<Annotation> handlerQualifiers,
                                                                                   boolean isBefore)
+    {
+        List<HandlerMethod<? extends Throwable>> handlerChain =
+                getHandlerChain(exceptionClass, handlerQualifiers, isBefore);
+
+        if (isBefore)
+        {
+            return handlerChain;
+        }
+
+        // the handler chain of the depth-first traversal is in invocation-order -> restore the sort-order
+        List<HandlerMethod<? extends Throwable>> result =
+                new ArrayList<HandlerMethod<? extends Throwable>>(handlerChain);
+        Collections.reverse(result);
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public List<HandlerMethod<? extends Throwable>> getHandlerChain(Type exceptionClass,
+                                                                    Set<Annotation> handlerQualifiers,
+                                                                    boolean isBefore)
+    {
+        HandlerChainKey key = new HandlerChainKey(exceptionClass, handlerQualifiers, isBefore);
+        List<HandlerMethod<? extends Throwable>> handlerChain = handlerChains.get(key);
+
+        if (handlerChain == null)
+        {
+            handlerChain = createHandlerChain(exceptionClass, handlerQualifiers, isBefore);
+
+            if (handlerChains.size() < MAX_CACHED_HANDLER_CHAINS)
+            {
+                handlerChains.put(key.copy(), handlerChain);
+            }
+        }
+        return handlerChain;
+    }
+
+    private List<HandlerMethod<? extends Throwable>> createHandlerChain(Type exceptionClass,
+                                                                         Set<Annotation> handlerQualifiers,
+                                                                         boolean isBefore)
     {
         final Collection<HandlerMethod<? extends Throwable>> returningHandlers =
                 new TreeSet<HandlerMethod<? extends Throwable>>(new ExceptionHandlerComparator());
@@ -83,23 +143,9 @@ class HandlerMethodStorageImpl implements HandlerMethodStorage
             {
                 for (HandlerMethod<?> handler : allHandlers.get(hierarchyType))
                 {
-                    if (handler.isBeforeHandler() && isBefore)
+                    if (handler.isBeforeHandler() == isBefore)
                     {
-                        if (handler.getQualifiers().contains(new AnyLiteral()))
-                        {
-                            returningHandlers.add(handler);
-                        }
-                        else
-                        {
-                            if (!handlerQualifiers.isEmpty() && handlerQualifiers.equals(handler.getQualifiers()))
-                            {
-                                returningHandlers.add(handler);
-                            }
-                        }
-                    }
-                    else if (!handler.isBeforeHandler() && !isBefore)
-                    {
-                        if (handler.getQualifiers().contains(new AnyLiteral()))
+                        if (handler.getQualifiers().contains(ANY_LITERAL))
                         {
                             returningHandlers.add(handler);
                         }
@@ -115,8 +161,70 @@ class HandlerMethodStorageImpl implements HandlerMethodStorage
             }
         }
 
-        log.fine(String.format("Found handlers %s for exception type %s, qualifiers %s", returningHandlers,
-                exceptionClass, handlerQualifiers));
-        return Collections.unmodifiableCollection(returningHandlers);
+        if (log.isLoggable(Level.FINE))
+        {
+            log.fine(String.format("Found handlers %s for exception type %s, qualifiers %s", returningHandlers,
+                    exceptionClass, handlerQualifiers));
+        }
+
+        List<HandlerMethod<? extends Throwable>> result =
+                new ArrayList<HandlerMethod<? extends Throwable>>(returningHandlers);
+
+        if (!isBefore)
+        {
+            // Reverse these so category handlers are last
+            Collections.reverse(result);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static final class HandlerChainKey
+    {
+        private final Type exceptionClass;
+        private final Set<Annotation> handlerQualifiers;
+        private final boolean isBefore;
+        private final int hashCode;
+
+        private HandlerChainKey(Type exceptionClass, Set<Annotation> handlerQualifiers, boolean isBefore)
+        {
+            this.exceptionClass = exceptionClass;
+            this.handlerQualifiers = handlerQualifiers;
+            this.isBefore = isBefore;
+
+            int result = exceptionClass.hashCode();
+            result = 31 * result + handlerQualifiers.hashCode();
+            this.hashCode = 31 * result + (isBefore ? 1 : 0);
+        }
+
+        /**
+         * @return a key which isn't affected by later changes of the given qualifiers
+         */
+        private HandlerChainKey copy()
+        {
+            return new HandlerChainKey(exceptionClass, new HashSet<Annotation>(handlerQualifiers), isBefore);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof HandlerChainKey))
+            {
+                return false;
+            }
+
+            HandlerChainKey that = (HandlerChainKey) o;
+            return isBefore == that.isBefore && exceptionClass.equals(that.exceptionClass) &&
+                    handlerQualifiers.equals(that.handlerQualifiers);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
     }
 }
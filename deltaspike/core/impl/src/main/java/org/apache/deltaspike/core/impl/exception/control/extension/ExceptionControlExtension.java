@@ -19,11 +19,17 @@
 
 package org.apache.deltaspike.core.impl.exception.control.extension;
 
+import org.apache.deltaspike.core.api.config.ConfigResolver;
 import org.apache.deltaspike.core.api.exception.control.HandlerMethod;
 import org.apache.deltaspike.core.api.exception.control.ExceptionHandler;
+import org.apache.deltaspike.core.api.jmx.MBean;
+import org.apache.deltaspike.core.impl.exception.control.ExceptionHandlingTraceRecorder;
 import org.apache.deltaspike.core.impl.exception.control.HandlerMethodImpl;
 import org.apache.deltaspike.core.spi.activation.Deactivatable;
 import org.apache.deltaspike.core.util.ClassDeactivationUtils;
+import org.apache.deltaspike.core.util.ClassUtils;
+import org.apache.deltaspike.core.util.metadata.AnnotationInstanceProvider;
+import org.apache.deltaspike.core.util.metadata.builder.AnnotatedTypeBuilder;
 
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.InjectionException;
@@ -36,6 +42,7 @@ import javax.enterprise.inject.spi.Decorator;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.inject.spi.Interceptor;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
 import javax.enterprise.inject.spi.ProcessBean;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -68,6 +75,41 @@ public class ExceptionControlExtension implements Extension, Deactivatable
         isActivated = ClassDeactivationUtils.isActivated(getClass());
     }
 
+    /**
+     * Appends the suffix configured via {@link ExceptionHandlingTraceRecorder#MBEAN_NAME_SUFFIX_KEY}
+     * to the MBean name of the {@link ExceptionHandlingTraceRecorder}, otherwise the applications
+     * of a server would replace the MBean of each other.
+     *
+     * @param processAnnotatedType current {@link AnnotatedType} of the trace recorder
+     */
+    @SuppressWarnings("UnusedDeclaration")
+    public void makeTraceRecorderNameUnique(
+        @Observes ProcessAnnotatedType<ExceptionHandlingTraceRecorder> processAnnotatedType)
+    {
+        AnnotatedType<ExceptionHandlingTraceRecorder> annotatedType = processAnnotatedType.getAnnotatedType();
+        MBean mBean = annotatedType.getAnnotation(MBean.class);
+
+        if (!isActivated || mBean == null)
+        {
+            return;
+        }
+
+        String defaultSuffix = "@" + Integer.toHexString(System.identityHashCode(ClassUtils.getClassLoader(null)));
+        String suffix = ConfigResolver.getPropertyValue(
+                ExceptionHandlingTraceRecorder.MBEAN_NAME_SUFFIX_KEY, defaultSuffix);
+
+        Map<String, Object> mBeanValues = new HashMap<String, Object>();
+        mBeanValues.put("category", mBean.category());
+        mBeanValues.put("name", mBean.name() + suffix);
+        mBeanValues.put("description", mBean.description());
+
+        processAnnotatedType.setAnnotatedType(new AnnotatedTypeBuilder<ExceptionHandlingTraceRecorder>()
+                .readFromType(annotatedType)
+                .removeFromClass(MBean.class)
+                .addToClass(AnnotationInstanceProvider.of(MBean.class, mBeanValues))
+                .create());
+    }
+
     /**
      * Listener to ProcessBean event to locate handlers.
      *
@@ -119,7 +161,7 @@ public class ExceptionControlExtension implements Extension, Deactivatable
     }
 
     /**
-     * Verifies all injection points for every handler are valid.
+     * Verifies all injection points for every handler are valid and prepares the invocation of the handlers.
      *
      * @param afterDeploymentValidation Lifecycle event
      * @param bm  BeanManager instance
@@ -148,6 +190,8 @@ public class ExceptionControlExtension implements Extension, Deactivatable
                         afterDeploymentValidation.addDeploymentProblem(e);
                     }
                 }
+
+                ((HandlerMethodImpl<? extends Throwable>) handler).prepareInvocation(bm);
             }
         }
     }
@@ -22,29 +22,49 @@ import org.apache.deltaspike.core.api.message.Message;
 import org.apache.deltaspike.core.api.message.MessageContext;
 import org.apache.deltaspike.core.api.message.MessageInterpolator;
 import org.apache.deltaspike.core.api.message.MessageResolver;
+import org.apache.deltaspike.core.api.projectstage.ProjectStage;
+import org.apache.deltaspike.core.util.ProjectStageProducer;
 
 import javax.enterprise.inject.Typed;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import static org.apache.deltaspike.core.api.message.MessageResolver.MISSING_RESOURCE_MARKER;
 
 /**
  * {@inheritDoc}
+ *
+ * The arguments are kept in an array which only gets replaced if arguments get added.
+ * The rendered String gets cached as long as neither the message nor the relevant parts of the
+ * {@link MessageContext} (Locale, resolver, interpolator and message-sources) change.
+ * That only happens if the result can't change otherwise: all arguments have to be immutable
+ * (Strings, primitive wrappers, BigInteger, BigDecimal or enums) and the resolver and interpolator have to be
+ * the ones of DeltaSpike. Custom resolvers and interpolators might e.g. depend on the current request.
  */
 @Typed()
 public class DefaultMessage implements Message
 {
+    private static final Serializable[] NO_ARGUMENTS = new Serializable[0];
+
+    private static final Set<Class<?>> IMMUTABLE_ARGUMENT_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class));
+
     private String messageTemplate;
-    private List<Serializable> arguments = new ArrayList<Serializable>();
+    private Serializable[] arguments = NO_ARGUMENTS;
 
     private MessageContext messageContext;
 
+    private transient RenderedMessage renderedMessage;
+
     public DefaultMessage(MessageContext messageContext)
     {
         reset();
@@ -55,7 +75,8 @@ public class DefaultMessage implements Message
     protected void reset()
     {
         messageTemplate = null;
-        arguments = new ArrayList<Serializable>();
+        arguments = NO_ARGUMENTS;
+        renderedMessage = null;
     }
 
     @Override
@@ -63,7 +84,7 @@ public class DefaultMessage implements Message
     {
         if (arguments != null)
         {
-            Collections.addAll(this.arguments, arguments);
+            addArguments(arguments);
         }
         return this;
     }
@@ -72,6 +93,7 @@ public class DefaultMessage implements Message
     public Message template(String messageTemplate)
     {
         this.messageTemplate = messageTemplate;
+        renderedMessage = null;
         return this;
     }
 
@@ -84,7 +106,7 @@ public class DefaultMessage implements Message
     @Override
     public Serializable[] getArguments()
     {
-        return arguments.toArray(new Serializable[arguments.size()]);
+        return arguments.clone();
     }
 
 
@@ -98,7 +120,53 @@ public class DefaultMessage implements Message
     @Override
     public String toString(String category)
     {
+        Locale locale = messageContext.getLocale();
+
+        RenderedMessage currentRenderedMessage = renderedMessage;
+        if (currentRenderedMessage != null && currentRenderedMessage.isValid(messageContext, locale, category))
+        {
+            return currentRenderedMessage.value;
+        }
+
+        String result = render(messageContext, locale, category);
+
+        // resources might get changed during development
+        if (isCacheable(messageContext) &&
+                !ProjectStage.Development.equals(ProjectStageProducer.getInstance().getProjectStage()))
+        {
+            renderedMessage = new RenderedMessage(messageContext, locale, category, result);
+        }
+        return result;
+    }
+
+    private boolean isCacheable(MessageContext messageContext)
+    {
+        MessageResolver messageResolver = messageContext.getMessageResolver();
+        if (messageResolver != null && !(messageResolver instanceof DefaultMessageResolver))
+        {
+            return false;
+        }
+
+        MessageInterpolator messageInterpolator = messageContext.getMessageInterpolator();
+        if (messageInterpolator != null && !(messageInterpolator instanceof DefaultMessageInterpolator) &&
+                !(messageInterpolator instanceof MessageFormatMessageInterpolator))
+        {
+            return false;
+        }
+
+        for (Serializable argument : arguments)
+        {
+            if (argument != null && !(argument instanceof Enum) &&
+                    !IMMUTABLE_ARGUMENT_TYPES.contains(argument.getClass()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
 
+    private String render(MessageContext messageContext, Locale locale, String category)
+    {
         // the string construction happens in 3 phases
 
         // first try to pickup the message via the MessageResolver
@@ -127,9 +195,8 @@ public class DefaultMessage implements Message
         MessageInterpolator messageInterpolator = messageContext.getMessageInterpolator();
         if (messageInterpolator != null)
         {
-            Locale locale = messageContext.getLocale();
-
-            ret = messageInterpolator.interpolate(template, getArguments(), locale);
+            // the interpolator only reads the arguments, therefore no copy is needed
+            ret = messageInterpolator.interpolate(template, arguments, locale);
         }
 
         return ret;
@@ -143,9 +210,9 @@ public class DefaultMessage implements Message
         }
 
         StringBuilder sb = new StringBuilder(MISSING_RESOURCE_MARKER + template + MISSING_RESOURCE_MARKER);
-        if (getArguments() != null && getArguments().length > 0)
+        if (arguments.length > 0)
         {
-            sb.append(" ").append(Arrays.toString(getArguments()));
+            sb.append(" ").append(Arrays.toString(arguments));
         }
 
         return sb.toString();
@@ -160,10 +227,23 @@ public class DefaultMessage implements Message
     @Override
     public String toString(MessageContext messageContext, String category)
     {
-        return messageContext.message()
-                .template(getTemplate())
-                .argument(getArguments())
-                .toString(category);
+        // renders with the given context directly instead of creating a new message
+        return render(messageContext, messageContext.getLocale(), category);
+    }
+
+    private void addArguments(Serializable[] argumentsToAdd)
+    {
+        if (argumentsToAdd.length == 0)
+        {
+            return;
+        }
+
+        Serializable[] newArguments = new Serializable[arguments.length + argumentsToAdd.length];
+        System.arraycopy(arguments, 0, newArguments, 0, arguments.length);
+        System.arraycopy(argumentsToAdd, 0, newArguments, arguments.length, argumentsToAdd.length);
+
+        arguments = newArguments;
+        renderedMessage = null;
     }
 
 
@@ -196,9 +276,7 @@ public class DefaultMessage implements Message
         }
 
         //noinspection RedundantIfStatement
-        if (arguments != null
-                ? !Arrays.equals(arguments.toArray(), other.getArguments())
-                : other.getArguments() != null)
+        if (!Arrays.equals(arguments, other.getArguments()))
         {
             return false;
         }
@@ -213,7 +291,7 @@ public class DefaultMessage implements Message
     public int hashCode()
     {
         int result = getTemplate().hashCode();
-        result = 31 * result + (arguments != null ? arguments.hashCode() : 0);
+        result = 31 * result + Arrays.hashCode(arguments);
         return result;
     }
 
@@ -222,7 +300,7 @@ public class DefaultMessage implements Message
     {
         if (arguments != null)
         {
-            return argument(Arrays.asList(arguments)); 
+            addArguments(arguments);
         }
         return this;
     }
@@ -232,8 +310,42 @@ public class DefaultMessage implements Message
     {
         if (arguments != null)
         {
-            this.arguments.addAll(arguments); 
+            addArguments(arguments.toArray(new Serializable[arguments.size()]));
         }
         return this;
     }
+
+    /**
+     * A rendered message and the state it got rendered with.
+     */
+    private static final class RenderedMessage
+    {
+        private final Locale locale;
+        private final String category;
+        private final MessageResolver messageResolver;
+        private final MessageInterpolator messageInterpolator;
+        private final List<String> messageSources;
+        private final String value;
+
+        private RenderedMessage(MessageContext messageContext, Locale locale, String category, String value)
+        {
+            this.locale = locale;
+            this.category = category;
+            this.messageResolver = messageContext.getMessageResolver();
+            this.messageInterpolator = messageContext.getMessageInterpolator();
+            List<String> currentMessageSources = messageContext.getMessageSources();
+            this.messageSources = currentMessageSources == null ? null : new ArrayList<String>(currentMessageSources);
+            this.value = value;
+        }
+
+        private boolean isValid(MessageContext messageContext, Locale currentLocale, String currentCategory)
+        {
+            return (locale == null ? currentLocale == null : locale.equals(currentLocale)) &&
+                    (category == null ? currentCategory == null : category.equals(currentCategory)) &&
+                    messageResolver == messageContext.getMessageResolver() &&
+                    messageInterpolator == messageContext.getMessageInterpolator() &&
+                    (messageSources == null ? messageContext.getMessageSources() == null :
+                            messageSources.equals(messageContext.getMessageSources()));
+        }
+    }
 }
@@ -20,21 +20,47 @@ package org.apache.deltaspike.core.impl.message;
 
 import org.apache.deltaspike.core.api.message.MessageContext;
 import org.apache.deltaspike.core.api.message.MessageResolver;
+import org.apache.deltaspike.core.api.projectstage.ProjectStage;
+import org.apache.deltaspike.core.util.ClassUtils;
+import org.apache.deltaspike.core.util.ProjectStageProducer;
 import org.apache.deltaspike.core.util.PropertyFileUtils;
 
 import javax.enterprise.context.Dependent;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Resolves message templates from the ResourceBundles of the current {@link MessageContext}.
+ *
+ * Outside of {@link ProjectStage#Development} the content of the bundles of a message-source chain
+ * gets indexed once per Locale, therefore a lookup (also of a missing key) only needs some map probes.
+ * In {@link ProjectStage#Development} every lookup reads the bundles directly.
+ */
 @Dependent
 @SuppressWarnings("UnusedDeclaration")
 public class DefaultMessageResolver implements MessageResolver
 {
     private static final long serialVersionUID = 5834411208472341006L;
 
+    /**
+     * Marks keys which don't exist in any bundle of the chain
+     */
+    private static final String MISSING_MESSAGE = new String("MISSING_MESSAGE");
+
+    /**
+     * The indices get released via {@link #freeMessageIndices()} at shutdown of the application.
+     */
+    private static final ConcurrentMap<ClassLoader, ConcurrentMap<MessageIndexKey, MessageIndex>> MESSAGE_INDICES =
+        new ConcurrentHashMap<ClassLoader, ConcurrentMap<MessageIndexKey, MessageIndex>>();
+
     @Override
     public String getMessage(MessageContext messageContext, String messageTemplate, String category)
     {
@@ -57,44 +83,238 @@ public class DefaultMessageResolver implements MessageResolver
                 return null;
             }
 
-            Iterator<String> messageSourceIterator = messageSources.iterator();
-
             Locale locale = messageContext.getLocale();
 
-            String currentMessageSource;
-            while (messageSourceIterator.hasNext())
+            if (ProjectStage.Development.equals(ProjectStageProducer.getInstance().getProjectStage()))
+            {
+                // bundles might get changed during development, therefore nothing gets cached
+                return lookupMessage(messageSources, locale, resourceKey, category);
+            }
+
+            return getMessageIndex(messageSources, locale).getMessage(resourceKey, category);
+        }
+
+        return messageTemplate;
+    }
+
+    /**
+     * Looks up the key directly in the bundles of the chain without indexing them.
+     * The first bundle which contains the key with or without the category wins.
+     */
+    private static String lookupMessage(List<String> messageSources, Locale locale,
+                                        String resourceKey, String category)
+    {
+        boolean categoryLookup = category != null && category.length() > 0;
+
+        for (String messageSource : messageSources)
+        {
+            ResourceBundle messageBundle;
+            try
+            {
+                messageBundle = PropertyFileUtils.getResourceBundle(messageSource, locale);
+            }
+            catch (MissingResourceException e)
+            {
+                // not existing bundles get skipped
+                continue;
+            }
+
+            if (categoryLookup && messageBundle.containsKey(resourceKey + "_" + category))
+            {
+                return messageBundle.getString(resourceKey + "_" + category);
+            }
+
+            if (messageBundle.containsKey(resourceKey))
+            {
+                return messageBundle.getString(resourceKey);
+            }
+        }
+        return null;
+    }
+
+    private static MessageIndex getMessageIndex(List<String> messageSources, Locale locale)
+    {
+        ClassLoader classLoader = ClassUtils.getClassLoader(null);
+        ConcurrentMap<MessageIndexKey, MessageIndex> messageIndices = MESSAGE_INDICES.get(classLoader);
+
+        if (messageIndices == null)
+        {
+            messageIndices = new ConcurrentHashMap<MessageIndexKey, MessageIndex>();
+
+            ConcurrentMap<MessageIndexKey, MessageIndex> existingIndices =
+                MESSAGE_INDICES.putIfAbsent(classLoader, messageIndices);
+            if (existingIndices != null)
             {
-                currentMessageSource = messageSourceIterator.next();
+                messageIndices = existingIndices;
+            }
+        }
+
+        MessageIndexKey key = new MessageIndexKey(messageSources, locale);
+        MessageIndex messageIndex = messageIndices.get(key);
+
+        if (messageIndex == null)
+        {
+            messageIndex = new MessageIndex(key.messageSources, locale);
 
+            MessageIndex existingIndex = messageIndices.putIfAbsent(key, messageIndex);
+            if (existingIndex != null)
+            {
+                messageIndex = existingIndex;
+            }
+        }
+        return messageIndex;
+    }
+
+    /**
+     * Clear the message indices of the current ClassLoader
+     */
+    public static void freeMessageIndices()
+    {
+        MESSAGE_INDICES.remove(ClassUtils.getClassLoader(null));
+    }
+
+    /**
+     * The content of all bundles of a message-source chain for a single Locale.
+     */
+    private static final class MessageIndex
+    {
+        /**
+         * The flattened content (incl. parent bundles) of every existing bundle in the order of the chain
+         */
+        private final List<Map<String, String>> bundleContents;
+
+        /**
+         * Resolved messages per key or key + category incl. negative entries
+         */
+        private final ConcurrentMap<String, String> resolvedMessages = new ConcurrentHashMap<String, String>();
+
+        private MessageIndex(List<String> messageSources, Locale locale)
+        {
+            List<Map<String, String>> contents = new ArrayList<Map<String, String>>(messageSources.size());
+
+            for (String messageSource : messageSources)
+            {
+                ResourceBundle messageBundle;
                 try
                 {
-                    ResourceBundle messageBundle = PropertyFileUtils.getResourceBundle(currentMessageSource, locale);
+                    messageBundle = PropertyFileUtils.getResourceBundle(messageSource, locale);
+                }
+                catch (MissingResourceException e)
+                {
+                    // not existing bundles get skipped
+                    continue;
+                }
 
-                    if (category != null && category.length() > 0)
-                    {
-                        try
-                        {
-                            return messageBundle.getString(resourceKey + "_" + category);
-                        }
-                        catch (MissingResourceException e)
-                        {
-                            // we fallback on the version without the category
-                            return messageBundle.getString(resourceKey);
-                        }
-                    }
+                contents.add(flatten(messageBundle));
+            }
+
+            bundleContents = Collections.unmodifiableList(contents);
+        }
 
-                    return messageBundle.getString(resourceKey);
+        private static Map<String, String> flatten(ResourceBundle messageBundle)
+        {
+            Map<String, String> result = new HashMap<String, String>();
+
+            for (String key : messageBundle.keySet())
+            {
+                Object value = messageBundle.getObject(key);
+
+                if (value instanceof String)
+                {
+                    result.put(key, (String) value);
                 }
-                catch (MissingResourceException e)
+            }
+            return result;
+        }
+
+        private String getMessage(String resourceKey, String category)
+        {
+            boolean categoryLookup = category != null && category.length() > 0;
+            String lookupKey = categoryLookup ? resourceKey + "_" + category : resourceKey;
+
+            String message = resolvedMessages.get(lookupKey);
+
+            if (message == null)
+            {
+                message = resolveMessage(resourceKey, categoryLookup ? lookupKey : null);
+
+                if (message == null)
+                {
+                    message = MISSING_MESSAGE;
+                }
+                resolvedMessages.put(lookupKey, message);
+            }
+
+            if (message == MISSING_MESSAGE)
+            {
+                return null;
+            }
+            return message;
+        }
+
+        /**
+         * The first bundle which contains the key with or without the category wins.
+         */
+        private String resolveMessage(String resourceKey, String categoryKey)
+        {
+            for (Map<String, String> bundleContent : bundleContents)
+            {
+                if (categoryKey != null)
                 {
-                    if (!messageSourceIterator.hasNext())
+                    String message = bundleContent.get(categoryKey);
+
+                    if (message != null)
                     {
-                        return null;
+                        return message;
                     }
                 }
+
+                String message = bundleContent.get(resourceKey);
+
+                if (message != null)
+                {
+                    return message;
+                }
             }
+            return null;
         }
+    }
 
-        return messageTemplate;
+    private static final class MessageIndexKey
+    {
+        private final List<String> messageSources;
+        private final Locale locale;
+
+        private MessageIndexKey(List<String> messageSources, Locale locale)
+        {
+            // the list of the MessageContext might get changed later on
+            this.messageSources = Collections.unmodifiableList(new ArrayList<String>(messageSources));
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof MessageIndexKey))
+            {
+                return false;
+            }
+
+            MessageIndexKey other = (MessageIndexKey) o;
+            return messageSources.equals(other.messageSources) &&
+                    (locale == null ? other.locale == null : locale.equals(other.locale));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = messageSources.hashCode();
+            result = 31 * result + (locale != null ? locale.hashCode() : 0);
+            return result;
+        }
     }
 }
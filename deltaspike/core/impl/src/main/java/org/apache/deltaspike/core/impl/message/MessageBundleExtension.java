@@ -29,6 +29,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.event.Observes;
@@ -39,6 +41,7 @@ import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.BeforeBeanDiscovery;
+import javax.enterprise.inject.spi.BeforeShutdown;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.PassivationCapable;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
@@ -71,6 +74,9 @@ public class MessageBundleExtension implements Extension, Deactivatable
 
     private List<String> deploymentErrors = new ArrayList<String>();
 
+    private final ConcurrentMap<Method, MessageBundleMethodDescriptor> methodDescriptors =
+        new ConcurrentHashMap<Method, MessageBundleMethodDescriptor>();
+
     private Boolean isActivated = true;
 
     @SuppressWarnings("UnusedDeclaration")
@@ -342,4 +348,35 @@ public class MessageBundleExtension implements Extension, Deactivatable
     {
         messageBundleTypes.clear();
     }
+
+    /**
+     * The {@link DefaultMessageResolver} is also used without message bundles,
+     * therefore the message indices get released even if this extension is deactivated.
+     */
+    @SuppressWarnings("UnusedDeclaration")
+    protected void freeMessageIndices(@Observes BeforeShutdown beforeShutdown)
+    {
+        methodDescriptors.clear();
+        DefaultMessageResolver.freeMessageIndices();
+    }
+
+    /**
+     * The descriptor gets created lazily, because it might need contextual references
+     * of the configured {@link org.apache.deltaspike.core.api.message.MessageContextConfig}.
+     *
+     * @param method method of a message bundle
+     * @return the metadata of the given method
+     */
+    MessageBundleMethodDescriptor getMethodDescriptor(Method method)
+    {
+        MessageBundleMethodDescriptor methodDescriptor = methodDescriptors.get(method);
+
+        if (methodDescriptor == null)
+        {
+            // creating it twice in parallel doesn't hurt, both results are equivalent
+            methodDescriptor = new MessageBundleMethodDescriptor(method);
+            methodDescriptors.put(method, methodDescriptor);
+        }
+        return methodDescriptor;
+    }
 }
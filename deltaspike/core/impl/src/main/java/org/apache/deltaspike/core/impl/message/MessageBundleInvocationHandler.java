@@ -24,19 +24,10 @@ import javax.inject.Inject;
 import java.io.Serializable;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
 
-import org.apache.deltaspike.core.api.literal.AnyLiteral;
-import org.apache.deltaspike.core.api.message.LocaleResolver;
 import org.apache.deltaspike.core.api.message.Message;
 import org.apache.deltaspike.core.api.message.MessageContext;
-import org.apache.deltaspike.core.api.message.MessageInterpolator;
-import org.apache.deltaspike.core.api.message.MessageResolver;
-import org.apache.deltaspike.core.api.message.MessageContextConfig;
-import org.apache.deltaspike.core.api.message.MessageTemplate;
 import org.apache.deltaspike.core.api.provider.BeanProvider;
-import org.apache.deltaspike.core.util.ClassUtils;
 
 /**
  * This Proxy InvocationHandler implements the handling for all our
@@ -51,6 +42,9 @@ public class MessageBundleInvocationHandler implements InvocationHandler, Serial
     @Inject
     private MessageContext baseMessageContext = null;
 
+    @Inject
+    private transient MessageBundleExtension messageBundleExtension;
+
     /**
      * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object,
      *      java.lang.reflect.Method, java.lang.Object[])
@@ -82,43 +76,23 @@ public class MessageBundleInvocationHandler implements InvocationHandler, Serial
             return null;
         }
 
-        final MessageTemplate messageTemplate = method.getAnnotation(MessageTemplate.class);
-
-        String messageTemplateValue;
-
-        if (messageTemplate != null)
-        {
-            messageTemplateValue = messageTemplate.value();
-        }
-        else
-        {
-            messageTemplateValue = "{" + method.getName() + "}";
-        }
+        MessageBundleMethodDescriptor methodDescriptor = getMessageBundleExtension().getMethodDescriptor(method);
 
         MessageContext messageContext = resolveMessageContextFromArguments(args);
-        List<Serializable> arguments = resolveMessageArguments(args);
+        Serializable[] arguments = resolveMessageArguments(args, messageContext != null);
 
         if (messageContext == null)
         {
             messageContext = baseMessageContext.clone();
-
-            MessageContextConfig messageContextConfig =
-                method.getDeclaringClass().getAnnotation(MessageContextConfig.class);
-
-            if (messageContextConfig != null)
-            {
-                applyMessageContextConfig(messageContext, messageContextConfig);
-            }
+            methodDescriptor.applyMessageContextConfig(messageContext);
         }
 
-        String messageBundleName = method.getDeclaringClass().getName();
-
         Message message =  messageContext
-                .messageSource(messageBundleName).message()
-                .template(messageTemplateValue)
-                .argument(arguments.toArray(new Serializable[arguments.size()]));
+                .messageSource(methodDescriptor.getMessageBundleName()).message()
+                .template(methodDescriptor.getMessageTemplate())
+                .argument(arguments);
 
-        if (String.class.isAssignableFrom(method.getReturnType()))
+        if (methodDescriptor.isStringResult())
         {
             return message.toString();
         }
@@ -126,67 +100,42 @@ public class MessageBundleInvocationHandler implements InvocationHandler, Serial
         return message;
     }
 
-    private void applyMessageContextConfig(MessageContext messageContext, MessageContextConfig messageContextConfig)
+    private MessageBundleExtension getMessageBundleExtension()
     {
-        if (!MessageResolver.class.equals(messageContextConfig.messageResolver()))
-        {
-            Class<? extends MessageResolver> messageResolverClass =
-                    ClassUtils.tryToLoadClassForName(messageContextConfig.messageResolver().getName());
-
-            messageContext.messageResolver(
-                    BeanProvider.getContextualReference(messageResolverClass, new AnyLiteral()));
-        }
-
-        if (!MessageInterpolator.class.equals(messageContextConfig.messageInterpolator()))
+        if (messageBundleExtension == null)
         {
-            Class<? extends MessageInterpolator> messageInterpolatorClass =
-                    ClassUtils.tryToLoadClassForName(messageContextConfig.messageInterpolator().getName());
-
-            messageContext.messageInterpolator(
-                    BeanProvider.getContextualReference(messageInterpolatorClass, new AnyLiteral()));
+            // after deserialization
+            messageBundleExtension = BeanProvider.getContextualReference(MessageBundleExtension.class);
         }
+        return messageBundleExtension;
+    }
 
-        if (!LocaleResolver.class.equals(messageContextConfig.localeResolver()))
+    private Serializable[] resolveMessageArguments(Object[] args, boolean skipMessageContext)
+    {
+        if (args == null)
         {
-            Class<? extends LocaleResolver> localeResolverClass =
-                    ClassUtils.tryToLoadClassForName(messageContextConfig.localeResolver().getName());
-
-            messageContext.localeResolver(
-                    BeanProvider.getContextualReference(localeResolverClass, new AnyLiteral()));
+            return new Serializable[0];
         }
-        
-        String[] messageSources = messageContextConfig.messageSource();
-        messageContext.messageSource(messageSources);
 
-    }
+        int offset = skipMessageContext ? 1 : 0;
+        Serializable[] arguments = new Serializable[args.length - offset];
 
-    private List<Serializable> resolveMessageArguments(Object[] args)
-    {
-        List<Serializable> arguments = new ArrayList<Serializable>();
-        if (args != null && args.length > 0)
+        for (int i = offset; i < args.length; i++)
         {
-            for (int i = 0; i < args.length; i++)
+            Object arg = args[i];
+
+            if (arg == null)
+            {
+                arguments[i - offset] = "'null'";
+            }
+            else if (arg instanceof Serializable)
+            {
+                arguments[i - offset] = (Serializable) arg;
+            }
+            else
             {
-                Object arg = args[i];
-
-                if (i == 0 && arg != null && MessageContext.class.isAssignableFrom(arg.getClass()))
-                {
-                    continue;
-                }
-
-                if (arg == null)
-                {
-                    arguments.add("'null'");
-                }
-                else if (arg instanceof Serializable)
-                {
-                    arguments.add((Serializable) arg);
-                }
-                else
-                {
-                    // for non-serializable objects we perform an immediate toString() instead
-                    arguments.add(arg.toString());
-                }
+                // for non-serializable objects we perform an immediate toString() instead
+                arguments[i - offset] = arg.toString();
             }
         }
 
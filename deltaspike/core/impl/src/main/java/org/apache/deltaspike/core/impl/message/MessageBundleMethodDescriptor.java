@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.impl.message;
+
+import java.lang.reflect.Method;
+
+import org.apache.deltaspike.core.api.literal.AnyLiteral;
+import org.apache.deltaspike.core.api.message.LocaleResolver;
+import org.apache.deltaspike.core.api.message.MessageContext;
+import org.apache.deltaspike.core.api.message.MessageContextConfig;
+import org.apache.deltaspike.core.api.message.MessageInterpolator;
+import org.apache.deltaspike.core.api.message.MessageResolver;
+import org.apache.deltaspike.core.api.message.MessageTemplate;
+import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.apache.deltaspike.core.util.ClassUtils;
+
+/**
+ * Immutable metadata of a single method of a {@link org.apache.deltaspike.core.api.message.MessageBundle}.
+ * It gets created once per method, therefore a message lookup only needs to bind the arguments.
+ */
+final class MessageBundleMethodDescriptor
+{
+    private final String messageTemplate;
+    private final String messageBundleName;
+    private final boolean stringResult;
+
+    private final boolean messageContextConfigured;
+    private final MessageResolver messageResolver;
+    private final MessageInterpolator messageInterpolator;
+    private final LocaleResolver localeResolver;
+    private final String[] messageSources;
+
+    MessageBundleMethodDescriptor(Method method)
+    {
+        MessageTemplate messageTemplateAnnotation = method.getAnnotation(MessageTemplate.class);
+
+        if (messageTemplateAnnotation != null)
+        {
+            messageTemplate = messageTemplateAnnotation.value();
+        }
+        else
+        {
+            messageTemplate = "{" + method.getName() + "}";
+        }
+
+        messageBundleName = method.getDeclaringClass().getName();
+        stringResult = String.class.isAssignableFrom(method.getReturnType());
+
+        MessageContextConfig messageContextConfig =
+            method.getDeclaringClass().getAnnotation(MessageContextConfig.class);
+
+        messageContextConfigured = messageContextConfig != null;
+
+        if (messageContextConfigured)
+        {
+            messageResolver = resolveConfiguredBean(messageContextConfig.messageResolver(), MessageResolver.class);
+            messageInterpolator =
+                resolveConfiguredBean(messageContextConfig.messageInterpolator(), MessageInterpolator.class);
+            localeResolver = resolveConfiguredBean(messageContextConfig.localeResolver(), LocaleResolver.class);
+            messageSources = messageContextConfig.messageSource();
+        }
+        else
+        {
+            messageResolver = null;
+            messageInterpolator = null;
+            localeResolver = null;
+            messageSources = null;
+        }
+    }
+
+    /**
+     * @return the contextual reference of the configured type or <code>null</code>
+     * if the default type of the annotation attribute is used
+     */
+    private static <T> T resolveConfiguredBean(Class<? extends T> configuredClass, Class<T> defaultClass)
+    {
+        if (defaultClass.equals(configuredClass))
+        {
+            return null;
+        }
+
+        Class<? extends T> beanClass = ClassUtils.tryToLoadClassForName(configuredClass.getName());
+        return BeanProvider.getContextualReference(beanClass, new AnyLiteral());
+    }
+
+    void applyMessageContextConfig(MessageContext messageContext)
+    {
+        if (!messageContextConfigured)
+        {
+            return;
+        }
+
+        if (messageResolver != null)
+        {
+            messageContext.messageResolver(messageResolver);
+        }
+
+        if (messageInterpolator != null)
+        {
+            messageContext.messageInterpolator(messageInterpolator);
+        }
+
+        if (localeResolver != null)
+        {
+            messageContext.localeResolver(localeResolver);
+        }
+
+        messageContext.messageSource(messageSources);
+    }
+
+    String getMessageTemplate()
+    {
+        return messageTemplate;
+    }
+
+    String getMessageBundleName()
+    {
+        return messageBundleName;
+    }
+
+    boolean isStringResult()
+    {
+        return stringResult;
+    }
+}
@@ -23,6 +23,8 @@ import javax.enterprise.inject.Alternative;
 import java.io.Serializable;
 import java.util.Locale;
 import java.text.MessageFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.deltaspike.core.api.message.MessageInterpolator;
 
@@ -33,6 +35,10 @@ import org.apache.deltaspike.core.api.message.MessageInterpolator;
  * Please note that for some EE containers you might need to add this &lt;alternative&gt>
  * to all JARs and classpath entries beanx.xml files.
  *
+ * Parsed message templates get cached per Locale. Since MessageFormat isn't thread-safe
+ * every invocation formats with a clone of the cached instance, which is a lot cheaper
+ * than parsing the template again.
+ *
  * {@inheritDoc}
  */
 @ApplicationScoped
@@ -41,10 +47,88 @@ public class MessageFormatMessageInterpolator implements MessageInterpolator, Se
 {
     private static final long serialVersionUID = -8854087197813424812L;
 
+    /**
+     * Templates which don't fit into the cache any more get parsed for every invocation.
+     */
+    private static final int MAX_CACHED_FORMATS = 1000;
+
+    private transient volatile ConcurrentMap<MessageFormatKey, MessageFormat> messageFormats;
+
     @Override
     public String interpolate(String messageTemplate, Serializable[] arguments, Locale locale)
     {
-        MessageFormat messageFormat = new MessageFormat(messageTemplate, locale);
+        MessageFormat messageFormat = getMessageFormat(messageTemplate, locale);
         return messageFormat.format(arguments);
     }
+
+    /**
+     * @return a MessageFormat instance which isn't shared with other threads
+     */
+    private MessageFormat getMessageFormat(String messageTemplate, Locale locale)
+    {
+        ConcurrentMap<MessageFormatKey, MessageFormat> cachedFormats = getMessageFormats();
+        MessageFormatKey key = new MessageFormatKey(messageTemplate, locale);
+
+        MessageFormat cachedFormat = cachedFormats.get(key);
+        if (cachedFormat != null)
+        {
+            return (MessageFormat) cachedFormat.clone();
+        }
+
+        MessageFormat messageFormat = new MessageFormat(messageTemplate, locale);
+
+        if (cachedFormats.size() < MAX_CACHED_FORMATS)
+        {
+            // the cached instance never gets used for formatting directly
+            cachedFormats.putIfAbsent(key, (MessageFormat) messageFormat.clone());
+        }
+        return messageFormat;
+    }
+
+    private ConcurrentMap<MessageFormatKey, MessageFormat> getMessageFormats()
+    {
+        // not synchronized since a second map created in parallel only costs some parsing
+        if (messageFormats == null)
+        {
+            messageFormats = new ConcurrentHashMap<MessageFormatKey, MessageFormat>();
+        }
+        return messageFormats;
+    }
+
+    private static final class MessageFormatKey
+    {
+        private final String messageTemplate;
+        private final Locale locale;
+
+        private MessageFormatKey(String messageTemplate, Locale locale)
+        {
+            this.messageTemplate = messageTemplate;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof MessageFormatKey))
+            {
+                return false;
+            }
+
+            MessageFormatKey other = (MessageFormatKey) o;
+            return messageTemplate.equals(other.messageTemplate) &&
+                    (locale == null ? other.locale == null : locale.equals(other.locale));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = messageTemplate.hashCode();
+            result = 31 * result + (locale != null ? locale.hashCode() : 0);
+            return result;
+        }
+    }
 }
@@ -31,6 +31,12 @@ public abstract class AbstractBeanHolder<K> implements Serializable
 {
     private Map<K, ContextualStorage> storageMap = new ConcurrentHashMap<K, ContextualStorage>();
 
+    /**
+     * Tracks the last access of every storage. An access only writes the volatile timestamp
+     * of the accessed storage, therefore no lock is needed.
+     */
+    private Map<K, LastAccess> lastAccessMap = new ConcurrentHashMap<K, LastAccess>();
+
     private final boolean useConcurrentStorage;
     private final boolean usePassivationCapableStorage;
 
@@ -54,6 +60,15 @@ public abstract class AbstractBeanHolder<K> implements Serializable
             contextualStorage = createContextualStorage(beanManager, key);
         }
 
+        if (contextualStorage != null)
+        {
+            LastAccess lastAccess = lastAccessMap.get(key);
+            if (lastAccess != null)
+            {
+                lastAccess.timestamp = System.currentTimeMillis();
+            }
+        }
+
         return contextualStorage;
     }
 
@@ -63,11 +78,59 @@ public abstract class AbstractBeanHolder<K> implements Serializable
         if (contextualStorage == null)
         {
             contextualStorage = new ContextualStorage(beanManager, useConcurrentStorage, usePassivationCapableStorage);
+            lastAccessMap.put(key, new LastAccess(System.currentTimeMillis()));
             storageMap.put(key, contextualStorage);
         }
         return contextualStorage;
     }
 
+    /**
+     * Removes the storage for the given key without destroying its beans.
+     *
+     * @param key the key of the storage
+     * @return the removed storage or <code>null</code> if there was no storage for the key
+     */
+    public ContextualStorage removeContextualStorage(K key)
+    {
+        lastAccessMap.remove(key);
+        return storageMap.remove(key);
+    }
+
+    /**
+     * Removes the storage for the given key and destroys its beans.
+     *
+     * @param key the key of the storage
+     * @return <code>true</code> if there was a storage for the key
+     */
+    public boolean destroyContextualStorage(K key)
+    {
+        ContextualStorage contextualStorage = removeContextualStorage(key);
+
+        if (contextualStorage == null)
+        {
+            return false;
+        }
+
+        AbstractContext.destroyAllActive(contextualStorage);
+        return true;
+    }
+
+    /**
+     * @param key the key of the storage
+     * @return the time of the last access of the storage in milliseconds
+     * or <code>0</code> if there is no storage for the key
+     */
+    public long getLastAccess(K key)
+    {
+        LastAccess lastAccess = lastAccessMap.get(key);
+
+        if (lastAccess == null)
+        {
+            return 0;
+        }
+        return lastAccess.timestamp;
+    }
+
     public Map<K, ContextualStorage> getStorageMap()
     {
         return storageMap;
@@ -77,6 +140,7 @@ public abstract class AbstractBeanHolder<K> implements Serializable
     {
         Map<K, ContextualStorage> oldStorageMap = storageMap;
         storageMap = new ConcurrentHashMap<K, ContextualStorage>();
+        lastAccessMap = new ConcurrentHashMap<K, LastAccess>();
         return oldStorageMap;
     }
 
@@ -90,4 +154,16 @@ public abstract class AbstractBeanHolder<K> implements Serializable
             AbstractContext.destroyAllActive(contextualStorage);
         }
     }
+
+    private static final class LastAccess implements Serializable
+    {
+        private static final long serialVersionUID = -3470357185213347621L;
+
+        private volatile long timestamp;
+
+        private LastAccess(long timestamp)
+        {
+            this.timestamp = timestamp;
+        }
+    }
 }
@@ -18,16 +18,23 @@
  */
 package org.apache.deltaspike.core.impl.scope;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
 import javax.enterprise.inject.spi.AfterDeploymentValidation;
+import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.BeforeBeanDiscovery;
+import javax.enterprise.inject.spi.BeforeShutdown;
 import javax.enterprise.inject.spi.Extension;
 
+import org.apache.deltaspike.core.api.literal.AnyLiteral;
 import org.apache.deltaspike.core.api.provider.BeanProvider;
 import org.apache.deltaspike.core.impl.scope.conversation.ConversationBeanHolder;
 import org.apache.deltaspike.core.impl.scope.conversation.GroupedConversationContext;
+import org.apache.deltaspike.core.impl.scope.conversation.GroupedConversationRequestCache;
 import org.apache.deltaspike.core.impl.scope.viewaccess.ViewAccessBeanAccessHistory;
 import org.apache.deltaspike.core.impl.scope.viewaccess.ViewAccessBeanHolder;
 import org.apache.deltaspike.core.impl.scope.viewaccess.ViewAccessContext;
@@ -37,6 +44,7 @@ import org.apache.deltaspike.core.impl.scope.window.WindowContextImpl;
 import org.apache.deltaspike.core.impl.scope.window.WindowIdHolder;
 import org.apache.deltaspike.core.spi.activation.Deactivatable;
 import org.apache.deltaspike.core.util.ClassDeactivationUtils;
+import org.apache.deltaspike.core.util.context.BeanKeyRegistry;
 
 /**
  * Handle all DeltaSpike WindowContext and ConversationContext
@@ -92,7 +100,9 @@ public class DeltaSpikeContextExtension implements Extension, Deactivatable
 
         ConversationBeanHolder conversationBeanHolder =
             BeanProvider.getContextualReference(beanManager, ConversationBeanHolder.class, false);
-        conversationContext.init(conversationBeanHolder);
+        GroupedConversationRequestCache conversationRequestCache =
+            BeanProvider.getContextualReference(beanManager, GroupedConversationRequestCache.class, false);
+        conversationContext.init(conversationBeanHolder, conversationRequestCache);
         
         ViewAccessBeanHolder viewAccessBeanHolder =
             BeanProvider.getContextualReference(beanManager, ViewAccessBeanHolder.class, false);
@@ -101,6 +111,32 @@ public class DeltaSpikeContextExtension implements Extension, Deactivatable
         ViewAccessViewHistory viewAccessViewHistory =
             BeanProvider.getContextualReference(beanManager, ViewAccessViewHistory.class, false);
         viewAccessScopedContext.init(viewAccessBeanHolder, viewAccessBeanAccessHistory, viewAccessViewHistory);
+
+        registerBeanKeys(beanManager);
+    }
+
+    /**
+     * Creates the interned keys of all beans of passivating scopes upfront,
+     * therefore the storages of our contexts don't need to look them up later on.
+     */
+    private void registerBeanKeys(BeanManager beanManager)
+    {
+        List<Bean<?>> passivatingBeans = new ArrayList<Bean<?>>();
+
+        for (Bean<?> bean : beanManager.getBeans(Object.class, new AnyLiteral()))
+        {
+            if (beanManager.isPassivatingScope(bean.getScope()))
+            {
+                passivatingBeans.add(bean);
+            }
+        }
+
+        BeanKeyRegistry.getInstance().registerBeans(passivatingBeans);
+    }
+
+    protected void releaseBeanKeys(@Observes BeforeShutdown beforeShutdown)
+    {
+        BeanKeyRegistry.release();
     }
 
     public WindowContextImpl getWindowContext()
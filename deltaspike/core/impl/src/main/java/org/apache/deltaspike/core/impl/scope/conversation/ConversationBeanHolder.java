@@ -18,11 +18,100 @@
  */
 package org.apache.deltaspike.core.impl.scope.conversation;
 
+import org.apache.deltaspike.core.api.config.ConfigResolver;
 import org.apache.deltaspike.core.api.scope.WindowScoped;
 import org.apache.deltaspike.core.impl.scope.AbstractBeanHolder;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores the conversations of the current window.
+ *
+ * Conversations which weren't accessed for the configured idle time get destroyed lazily
+ * by {@link #destroyExpiredConversations()}, therefore no additional thread is needed per session.
+ * The idle time of a conversation-group can be configured via
+ * <code>{@value #MAX_IDLE_TIME_KEY}.&lt;fully qualified name of the group&gt;</code>
+ * and falls back to {@link #MAX_IDLE_TIME_KEY}.
+ */
 @WindowScoped
 public class ConversationBeanHolder extends AbstractBeanHolder<ConversationKey>
 {
+    /**
+     * Conversations which weren't accessed for the configured number of seconds get destroyed.
+     * Default is <code>0</code> which disables the expiration.
+     */
+    public static final String MAX_IDLE_TIME_KEY = "deltaspike.scope.conversation.max_idle_time_in_seconds";
+
     private static final long serialVersionUID = 6313493410718133308L;
+
+    private static final ConfigResolver.TypedResolver<Long> MAX_IDLE_TIME =
+        ConfigResolver.resolve(MAX_IDLE_TIME_KEY).as(Long.class).withDefault(0L);
+
+    private static final ConcurrentMap<Class<?>, ConfigResolver.TypedResolver<Long>> MAX_IDLE_TIME_PER_GROUP =
+        new ConcurrentHashMap<Class<?>, ConfigResolver.TypedResolver<Long>>();
+
+    /**
+     * Destroys all conversations which exceeded the idle time of their conversation-group.
+     *
+     * @return the number of destroyed conversations
+     */
+    public int destroyExpiredConversations()
+    {
+        if (getStorageMap().isEmpty())
+        {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        Long defaultMaxIdleTime = MAX_IDLE_TIME.getValue();
+        Map<Class<?>, Long> maxIdleTimePerGroup = new HashMap<Class<?>, Long>();
+        int result = 0;
+
+        for (ConversationKey conversationKey : getStorageMap().keySet())
+        {
+            Class<?> conversationGroup = conversationKey.getConversationGroup();
+            Long maxIdleTime = maxIdleTimePerGroup.get(conversationGroup);
+
+            if (maxIdleTime == null)
+            {
+                Long configuredMaxIdleTime = getMaxIdleTimeResolver(conversationGroup).getValue();
+                if (configuredMaxIdleTime == null)
+                {
+                    configuredMaxIdleTime = defaultMaxIdleTime;
+                }
+
+                maxIdleTime = TimeUnit.SECONDS.toMillis(configuredMaxIdleTime);
+                maxIdleTimePerGroup.put(conversationGroup, maxIdleTime);
+            }
+
+            if (maxIdleTime > 0 && now - getLastAccess(conversationKey) > maxIdleTime &&
+                destroyContextualStorage(conversationKey))
+            {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private static ConfigResolver.TypedResolver<Long> getMaxIdleTimeResolver(Class<?> conversationGroup)
+    {
+        ConfigResolver.TypedResolver<Long> resolver = MAX_IDLE_TIME_PER_GROUP.get(conversationGroup);
+
+        if (resolver == null)
+        {
+            resolver = ConfigResolver.resolve(MAX_IDLE_TIME_KEY + "." + conversationGroup.getName()).as(Long.class);
+
+            ConfigResolver.TypedResolver<Long> existingResolver =
+                MAX_IDLE_TIME_PER_GROUP.putIfAbsent(conversationGroup, resolver);
+            if (existingResolver != null)
+            {
+                resolver = existingResolver;
+            }
+        }
+        return resolver;
+    }
 }
@@ -27,6 +27,8 @@ import org.apache.deltaspike.core.util.context.AbstractContext;
 import org.apache.deltaspike.core.util.context.ContextualInstanceInfo;
 import org.apache.deltaspike.core.util.context.ContextualStorage;
 
+import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.inject.Typed;
 import javax.enterprise.inject.spi.BeanManager;
@@ -39,7 +41,6 @@ import java.util.Map;
 import java.util.Set;
 
 @Typed()
-//TODO add RequestCache
 //TODO ConversationSubGroup
 public class GroupedConversationContext extends AbstractContext implements GroupedConversationManager
 {
@@ -51,6 +52,8 @@ public class GroupedConversationContext extends AbstractContext implements Group
 
     private ConversationBeanHolder conversationBeanHolder;
 
+    private GroupedConversationRequestCache requestCache;
+
     public GroupedConversationContext(BeanManager beanManager, WindowContextImpl windowContext)
     {
         super(beanManager);
@@ -59,18 +62,55 @@ public class GroupedConversationContext extends AbstractContext implements Group
         this.windowContext = windowContext;
     }
 
-    public void init(ConversationBeanHolder conversationBeanHolder)
+    public void init(ConversationBeanHolder conversationBeanHolder, GroupedConversationRequestCache requestCache)
     {
         this.conversationBeanHolder = conversationBeanHolder;
+        this.requestCache = requestCache;
     }
 
     @Override
     protected ContextualStorage getContextualStorage(Contextual<?> contextual, boolean createIfNotExist)
     {
-        ConversationKey conversationKey = ConversationUtils.convertToConversationKey(contextual, this.beanManager);
+        ConversationKey conversationKey;
+
+        if (isRequestContextActive())
+        {
+            if (this.requestCache.markExpiredConversationsChecked(this.windowContext.getCurrentWindowId()))
+            {
+                this.conversationBeanHolder.destroyExpiredConversations();
+            }
+
+            conversationKey = this.requestCache.getConversationKey(contextual);
+
+            if (conversationKey == null)
+            {
+                conversationKey = ConversationUtils.convertToConversationKey(contextual, this.beanManager);
+                this.requestCache.setConversationKey(contextual, conversationKey);
+            }
+        }
+        else
+        {
+            // e.g. a thread started by the application - expired conversations get destroyed by the next request
+            conversationKey = ConversationUtils.convertToConversationKey(contextual, this.beanManager);
+        }
         return this.conversationBeanHolder.getContextualStorage(this.beanManager, conversationKey, createIfNotExist);
     }
 
+    /**
+     * The {@link GroupedConversationRequestCache} can only be used if there is an active request.
+     */
+    private boolean isRequestContextActive()
+    {
+        try
+        {
+            return this.beanManager.getContext(RequestScoped.class).isActive();
+        }
+        catch (ContextNotActiveException e)
+        {
+            return false;
+        }
+    }
+
     @Override
     protected List<ContextualStorage> getActiveContextualStorages()
     {
@@ -95,7 +135,7 @@ public class GroupedConversationContext extends AbstractContext implements Group
     public ContextualStorage closeConversation(Class<?> conversationGroup, Annotation... qualifiers)
     {
         ConversationKey conversationKey = new ConversationKey(conversationGroup, qualifiers);
-        ContextualStorage contextualStorage = this.conversationBeanHolder.getStorageMap().remove(conversationKey);
+        ContextualStorage contextualStorage = this.conversationBeanHolder.removeContextualStorage(conversationKey);
 
         if (contextualStorage != null)
         {
@@ -130,7 +170,7 @@ public class GroupedConversationContext extends AbstractContext implements Group
                 {
                     AbstractContext.destroyAllActive(entry.getValue());
                     result.add(entry.getValue());
-                    storageMap.remove(entry.getKey()); //ok due to ConcurrentHashMap
+                    this.conversationBeanHolder.removeContextualStorage(entry.getKey());
                 }
                 else
                 {
@@ -138,7 +178,7 @@ public class GroupedConversationContext extends AbstractContext implements Group
 
                     if (entry.getValue().getStorage().isEmpty())
                     {
-                        storageMap.remove(entry.getKey()); //ok due to ConcurrentHashMap
+                        this.conversationBeanHolder.removeContextualStorage(entry.getKey());
                     }
                 }
             }
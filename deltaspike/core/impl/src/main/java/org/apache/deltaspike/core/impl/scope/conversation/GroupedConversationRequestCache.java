@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.core.impl.scope.conversation;
+
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.Contextual;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the {@link ConversationKey}s resolved during the current request, therefore
+ * repeated lookups of the same bean don't need to inspect its qualifiers again.
+ * Only the keys get cached (and not the storages), because a conversation can be closed
+ * and restarted within the same request.
+ */
+@RequestScoped
+public class GroupedConversationRequestCache
+{
+    private final Map<Contextual<?>, ConversationKey> conversationKeys = new HashMap<Contextual<?>, ConversationKey>();
+
+    private String expiredConversationsCheckedForWindowId;
+
+    public ConversationKey getConversationKey(Contextual<?> contextual)
+    {
+        return conversationKeys.get(contextual);
+    }
+
+    public void setConversationKey(Contextual<?> contextual, ConversationKey conversationKey)
+    {
+        conversationKeys.put(contextual, conversationKey);
+    }
+
+    /**
+     * @param windowId the id of the current window
+     * @return <code>true</code> if the expired conversations of the given window weren't checked
+     * during the current request
+     */
+    public boolean markExpiredConversationsChecked(String windowId)
+    {
+        if (windowId == null || windowId.equals(expiredConversationsCheckedForWindowId))
+        {
+            return false;
+        }
+        expiredConversationsCheckedForWindowId = windowId;
+        return true;
+    }
+}
@@ -20,19 +20,24 @@ package org.apache.deltaspike.core.impl.scope.viewaccess;
 
 import java.lang.annotation.Annotation;
 import java.util.Map;
+import java.util.Set;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.PassivationCapable;
 import org.apache.deltaspike.core.api.scope.ViewAccessScoped;
 import org.apache.deltaspike.core.impl.scope.window.WindowContextImpl;
+import org.apache.deltaspike.core.util.context.BeanKey;
 import org.apache.deltaspike.core.util.context.AbstractContext;
 import org.apache.deltaspike.core.util.context.ContextualInstanceInfo;
 import org.apache.deltaspike.core.util.context.ContextualStorage;
 
 public class ViewAccessContext extends AbstractContext
 {
-    private static final String KEY = "VAS"; //TODO re-visit key (e.g. view-id instead of using one big storage)
+    /**
+     * Key of the storage used before the first view of a window was processed.
+     */
+    private static final String INITIAL_VIEW_KEY = "VAS";
 
     private final BeanManager beanManager;
     private final WindowContextImpl windowContext;
@@ -95,7 +100,7 @@ public class ViewAccessContext extends AbstractContext
     @Override
     protected ContextualStorage getContextualStorage(Contextual<?> contextual, boolean createIfNotExist)
     {
-        return this.viewAccessBeanHolder.getContextualStorage(this.beanManager, KEY, createIfNotExist);
+        return this.viewAccessBeanHolder.getContextualStorage(this.beanManager, getCurrentViewKey(), createIfNotExist);
     }
 
     @Override
@@ -115,29 +120,66 @@ public class ViewAccessContext extends AbstractContext
         // destroy beans only if the view has been changed
         if (!view.equals(viewAccessViewHistory.getLastView()))
         {
+            String lastViewKey = getCurrentViewKey();
             viewAccessViewHistory.setLastView(view);
             
-            destroyExpiredBeans();
+            destroyExpiredBeans(lastViewKey, view);
         }
         
         // clear history after each rendering process
         viewAccessBeanAccessHistory.getAccessedBeans().clear();
     }
     
-    private void destroyExpiredBeans()
+    /**
+     * Beans are stored per view. All beans which survive a view change get moved to the storage
+     * of the new view, therefore the storage of the last view gets dropped as a whole afterwards.
+     */
+    private void destroyExpiredBeans(String lastViewKey, String newViewKey)
     {
-        ContextualStorage storage = viewAccessBeanHolder.getContextualStorage(beanManager, KEY, false);
-        if (storage != null)
+        ContextualStorage storage = viewAccessBeanHolder.removeContextualStorage(lastViewKey);
+        if (storage == null)
         {
-            for (Map.Entry<Object, ContextualInstanceInfo<?>> storageEntry : storage.getStorage().entrySet())
+            return;
+        }
+
+        Set<String> accessedBeans = viewAccessBeanAccessHistory.getAccessedBeans();
+        if (accessedBeans.isEmpty())
+        {
+            AbstractContext.destroyAllActive(storage);
+            return;
+        }
+
+        ContextualStorage newStorage = null;
+
+        for (Map.Entry<Object, ContextualInstanceInfo<?>> storageEntry : storage.getStorage().entrySet())
+        {
+            Object beanKey = storageEntry.getKey();
+            String beanId = beanKey instanceof BeanKey ? ((BeanKey) beanKey).getId() : (String) beanKey;
+
+            if (accessedBeans.contains(beanId))
             {
-                if (!viewAccessBeanAccessHistory.getAccessedBeans().contains((String) storageEntry.getKey()))
+                if (newStorage == null)
                 {
-                    Contextual bean = storage.getBean(storageEntry.getKey());
-                    AbstractContext.destroyBean(bean, storageEntry.getValue());
-                    storage.getStorage().remove(storageEntry.getKey()); //ok due to ConcurrentHashMap
+                    newStorage = viewAccessBeanHolder.getContextualStorage(beanManager, newViewKey, true);
                 }
+                newStorage.getStorage().put(beanKey, storageEntry.getValue());
             }
+            else
+            {
+                Contextual bean = storage.getBean(beanKey);
+                AbstractContext.destroyBean(bean, storageEntry.getValue());
+            }
+        }
+    }
+
+    private String getCurrentViewKey()
+    {
+        String lastView = viewAccessViewHistory.getLastView();
+
+        if (lastView == null)
+        {
+            return INITIAL_VIEW_KEY;
         }
+        return lastView;
     }
 }
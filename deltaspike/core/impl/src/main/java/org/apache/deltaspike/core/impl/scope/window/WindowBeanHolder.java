@@ -18,17 +18,134 @@
  */
 package org.apache.deltaspike.core.impl.scope.window;
 
+import org.apache.deltaspike.core.api.config.ConfigResolver;
 import org.apache.deltaspike.core.impl.scope.AbstractBeanHolder;
+import org.apache.deltaspike.core.util.context.ContextualStorage;
 
 import javax.enterprise.context.SessionScoped;
+import javax.enterprise.inject.spi.BeanManager;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This holder will store the window Ids and it's beans for the current
  * HTTP Session. We use standard SessionScoped bean to not need
  * to treat async-supported and similar headache.
+ *
+ * The number of windows per session can be limited (see {@link #MAX_WINDOW_COUNT_KEY}) and windows
+ * can expire after a configured idle time (see {@link #MAX_IDLE_TIME_KEY}). Both are disabled by default
+ * and get checked before a new window gets created. Accessing a window only updates its own timestamp,
+ * therefore the access tracking doesn't need a lock.
  */
 @SessionScoped
 public class WindowBeanHolder extends AbstractBeanHolder<String>
 {
+    /**
+     * Maximum number of windows per session. Default is <code>0</code> which disables the limit.
+     * If a new window exceeds the limit, the least recently used window gets destroyed.
+     */
+    public static final String MAX_WINDOW_COUNT_KEY = "deltaspike.scope.window.max_count";
+
+    /**
+     * Windows which weren't accessed for the configured number of seconds get destroyed.
+     * Default is <code>0</code> which disables the expiration.
+     */
+    public static final String MAX_IDLE_TIME_KEY = "deltaspike.scope.window.max_idle_time_in_seconds";
+
     private static final long serialVersionUID = 6313493410718133308L;
+
+    private static final ConfigResolver.TypedResolver<Integer> MAX_WINDOW_COUNT =
+        ConfigResolver.resolve(MAX_WINDOW_COUNT_KEY).as(Integer.class).withDefault(0);
+
+    private static final ConfigResolver.TypedResolver<Long> MAX_IDLE_TIME =
+        ConfigResolver.resolve(MAX_IDLE_TIME_KEY).as(Long.class).withDefault(0L);
+
+    private static final AtomicLong EVICTED_WINDOW_COUNT = new AtomicLong();
+    private static final AtomicLong EXPIRED_WINDOW_COUNT = new AtomicLong();
+
+    /**
+     * @return the number of windows which got destroyed because of the window limit of a session
+     */
+    static long getEvictedWindowCount()
+    {
+        return EVICTED_WINDOW_COUNT.get();
+    }
+
+    /**
+     * @return the number of windows which got destroyed because they exceeded the idle time
+     */
+    static long getExpiredWindowCount()
+    {
+        return EXPIRED_WINDOW_COUNT.get();
+    }
+
+    @Override
+    protected synchronized ContextualStorage createContextualStorage(BeanManager beanManager, String windowId)
+    {
+        if (!getStorageMap().containsKey(windowId))
+        {
+            destroyExpiredWindows(System.currentTimeMillis());
+            destroyLeastRecentlyUsedWindows();
+        }
+        return super.createContextualStorage(beanManager, windowId);
+    }
+
+    private void destroyExpiredWindows(long now)
+    {
+        long maxIdleTime = TimeUnit.SECONDS.toMillis(MAX_IDLE_TIME.getValue());
+
+        if (maxIdleTime <= 0)
+        {
+            return;
+        }
+
+        for (String windowId : getStorageMap().keySet())
+        {
+            if (now - getLastAccess(windowId) > maxIdleTime && destroyContextualStorage(windowId))
+            {
+                EXPIRED_WINDOW_COUNT.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Makes room for one more window. Only invoked before a new window gets created,
+     * therefore a scan of all windows of the session is fine.
+     */
+    private void destroyLeastRecentlyUsedWindows()
+    {
+        int maxWindowCount = MAX_WINDOW_COUNT.getValue();
+
+        if (maxWindowCount <= 0)
+        {
+            return;
+        }
+
+        while (getStorageMap().size() >= maxWindowCount)
+        {
+            String leastRecentlyUsedWindowId = null;
+            long leastRecentAccess = Long.MAX_VALUE;
+
+            for (String windowId : getStorageMap().keySet())
+            {
+                long lastAccess = getLastAccess(windowId);
+
+                if (lastAccess < leastRecentAccess)
+                {
+                    leastRecentAccess = lastAccess;
+                    leastRecentlyUsedWindowId = windowId;
+                }
+            }
+
+            if (leastRecentlyUsedWindowId == null)
+            {
+                return;
+            }
+
+            if (destroyContextualStorage(leastRecentlyUsedWindowId))
+            {
+                EVICTED_WINDOW_COUNT.incrementAndGet();
+            }
+        }
+    }
 }
@@ -93,7 +93,7 @@ public class WindowContextImpl extends AbstractContext implements WindowContext
             return false;
         }
 
-        ContextualStorage windowStorage = windowBeanHolder.getStorageMap().remove(windowId);
+        ContextualStorage windowStorage = windowBeanHolder.removeContextualStorage(windowId);
 
         if (windowStorage != null)
         {
@@ -119,6 +119,25 @@ public class WindowContextImpl extends AbstractContext implements WindowContext
         return windowBeanHolder.getContextualStorage(beanManager, windowId, createIfNotExist);
     }
 
+    /**
+     * @return the number of windows which got destroyed because a session exceeded
+     * the configured maximum number of windows
+     * @see WindowBeanHolder#MAX_WINDOW_COUNT_KEY
+     */
+    public long getEvictedWindowCount()
+    {
+        return WindowBeanHolder.getEvictedWindowCount();
+    }
+
+    /**
+     * @return the number of windows which got destroyed because they exceeded the configured idle time
+     * @see WindowBeanHolder#MAX_IDLE_TIME_KEY
+     */
+    public long getExpiredWindowCount()
+    {
+        return WindowBeanHolder.getExpiredWindowCount();
+    }
+
     @Override
     public Class<? extends Annotation> getScope()
     {
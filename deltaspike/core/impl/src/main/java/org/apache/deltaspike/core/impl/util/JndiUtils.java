@@ -24,6 +24,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.enterprise.inject.Typed;
+import javax.naming.Binding;
+import javax.naming.Context;
 import javax.naming.InitialContext;
 import javax.naming.Name;
 import javax.naming.NameClassPair;
@@ -208,4 +210,50 @@ public abstract class JndiUtils
         }
         return result;
     }
+
+    /**
+     * Resolves all String values bound in the given naming context and its sub-contexts.
+     * Other bindings get ignored. In contrast to {@link #list(String, Class)} this method
+     * doesn't log anything if the naming context doesn't exist.
+     *
+     * @param name context name
+     * @return the found values keyed by their name relative to the given context, an empty map otherwise
+     */
+    public static Map<String, String> listStringValues(String name)
+    {
+        Map<String, String> result = new HashMap<String, String>();
+
+        try
+        {
+            collectStringValues(name, "", result);
+        }
+        catch (NamingException e)
+        {
+            if (LOG.isLoggable(Level.FINE))
+            {
+                LOG.log(Level.FINE, "JNDI location " + name + " couldn't be listed", e);
+            }
+        }
+        return result;
+    }
+
+    private static void collectStringValues(String name, String prefix, Map<String, String> result)
+        throws NamingException
+    {
+        NamingEnumeration<Binding> enumeration = initialContext.listBindings(name);
+        while (enumeration.hasMoreElements())
+        {
+            Binding binding = enumeration.nextElement();
+            Object value = binding.getObject();
+
+            if (value instanceof String)
+            {
+                result.put(prefix + binding.getName(), (String) value);
+            }
+            else if (value instanceof Context)
+            {
+                collectStringValues(name + "/" + binding.getName(), prefix + binding.getName() + "/", result);
+            }
+        }
+    }
 }
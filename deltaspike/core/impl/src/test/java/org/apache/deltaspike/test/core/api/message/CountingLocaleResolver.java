@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.api.message;
+
+import org.apache.deltaspike.core.api.message.LocaleResolver;
+
+import javax.enterprise.context.Dependent;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dependent {@link LocaleResolver} which counts how often it got created.
+ */
+@Dependent
+@TestConfiguration
+public class CountingLocaleResolver implements LocaleResolver
+{
+    static final AtomicInteger CREATED_INSTANCES = new AtomicInteger();
+
+    private static final long serialVersionUID = -3311297862429581264L;
+
+    public CountingLocaleResolver()
+    {
+        CREATED_INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public Locale getLocale()
+    {
+        return Locale.GERMAN;
+    }
+}
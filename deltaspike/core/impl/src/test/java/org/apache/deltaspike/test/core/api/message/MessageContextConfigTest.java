@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.api.message;
+
+import javax.enterprise.inject.spi.Extension;
+import javax.inject.Inject;
+
+import org.apache.deltaspike.core.api.message.Message;
+import org.apache.deltaspike.core.api.message.MessageContext;
+import org.apache.deltaspike.core.api.message.MessageContextConfig;
+import org.apache.deltaspike.core.impl.message.MessageBundleExtension;
+import org.apache.deltaspike.test.category.SeCategory;
+import org.apache.deltaspike.test.util.ArchiveUtils;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for message bundle methods of a type annotated with {@link MessageContextConfig}
+ */
+@RunWith(Arquillian.class)
+@Category(SeCategory.class)
+public class MessageContextConfigTest
+{
+    @Inject
+    private ConfiguredMessages messages;
+
+    @Inject
+    private MessageContext messageContext;
+
+    /**
+     * X TODO creating a WebArchive is only a workaround because JavaArchive
+     * cannot contain other archives.
+     */
+    @Deployment
+    public static WebArchive deploy()
+    {
+        JavaArchive testJar = ShrinkWrap
+                .create(JavaArchive.class, "messageContextConfigTest.jar")
+                .addPackage(MessageContextConfigTest.class.getPackage())
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        return ShrinkWrap
+                .create(WebArchive.class, "messageContextConfigTest.war")
+                .addAsLibraries(ArchiveUtils.getDeltaSpikeCoreArchive())
+                .addAsLibraries(testJar)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsServiceProvider(Extension.class,
+                        MessageBundleExtension.class);
+    }
+
+    @Test
+    public void testConfiguredBeansAreResolvedOncePerMethod()
+    {
+        assertEquals("Total 1234,50", messages.total(1234.5));
+        int createdInstances = CountingLocaleResolver.CREATED_INSTANCES.get();
+
+        for (int i = 0; i < 5; i++)
+        {
+            assertEquals("Total 1234,50", messages.total(1234.5));
+        }
+
+        assertEquals(createdInstances, CountingLocaleResolver.CREATED_INSTANCES.get());
+    }
+
+    @Test
+    public void testMessageContextAsFirstArgument()
+    {
+        MessageContext englishMessageContext =
+            messageContext.clone().localeResolver(new FixedEnglishLocalResolver());
+
+        assertEquals("Total 1234.50", messages.total(englishMessageContext, 1234.5));
+    }
+
+    @Test
+    public void testMessageAndStringResult()
+    {
+        Message message = messages.totalMessage(1234.5);
+
+        assertEquals("Total 1234,50", message.toString());
+        assertEquals(messages.total(1234.5), message.toString());
+    }
+}
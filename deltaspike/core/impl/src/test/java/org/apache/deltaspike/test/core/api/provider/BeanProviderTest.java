@@ -20,6 +20,7 @@ package org.apache.deltaspike.test.core.api.provider;
 
 
 import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.apache.deltaspike.core.api.provider.ContextualReferenceProvider;
 import org.apache.deltaspike.core.api.provider.DependentProvider;
 import org.apache.deltaspike.test.util.ArchiveUtils;
 import org.apache.deltaspike.test.utils.CdiContainerUnderTest;
@@ -231,6 +232,42 @@ public class BeanProviderTest
         Assert.assertNotNull(provider2);
     }
 
+    @Test
+    public void testContextualReferenceProviderForNormalScopedBean()
+    {
+        ContextualReferenceProvider<TestBean> testBeanProvider =
+            BeanProvider.getContextualReferenceProvider(TestBean.class, false);
+
+        Assert.assertNotNull(testBeanProvider);
+        Assert.assertNotNull(testBeanProvider.getBean());
+        Assert.assertSame(testBeanProvider.get(), testBeanProvider.get());
+        Assert.assertEquals(4711, testBeanProvider.get().getI());
+
+        // the resolved bean gets cached after the container has booted
+        Assert.assertSame(testBeanProvider, BeanProvider.getContextualReferenceProvider(TestBean.class, false));
+        Assert.assertSame(testBeanProvider.get(), BeanProvider.getContextualReference(TestBean.class));
+    }
+
+    @Test
+    public void testContextualReferenceProviderForDependentBean()
+    {
+        ContextualReferenceProvider<DependentTestBean> dependentTestBeanProvider =
+            BeanProvider.getContextualReferenceProvider(DependentTestBean.class, false);
+
+        DependentTestBean instance1 = dependentTestBeanProvider.get();
+        DependentTestBean instance2 = dependentTestBeanProvider.get();
+
+        Assert.assertNotNull(instance1);
+        Assert.assertNotNull(instance2);
+        Assert.assertNotSame(instance1, instance2);
+    }
+
+    @Test
+    public void optionalContextualReferenceProvider()
+    {
+        Assert.assertNull(BeanProvider.getContextualReferenceProvider(NoBean.class, true));
+    }
+
     private void checkDependentProvider(DependentProvider<DependentTestBean> dependentTestBeanProvider)
     {
         Assert.assertNotNull(dependentTestBeanProvider);
@@ -251,4 +251,33 @@ public class ViewAccessScopedTest
         Assert.assertNull(viewAccessScopedBeanY.getValue());
         windowContext.closeWindow("w2");
     }
+
+    @Test
+    public void usageOnThreePagesTest()
+    {
+        windowContext.activateWindow("w1");
+
+        viewAccessScopedBeanX.setValue("x1");
+        viewAccessScopedBeanY.setValue("y1");
+        contextExtension.getViewAccessScopedContext().onProcessingViewFinished("viewA");
+
+        Assert.assertEquals("x1", viewAccessScopedBeanX.getValue());
+        Assert.assertEquals("y1", viewAccessScopedBeanY.getValue());
+        contextExtension.getViewAccessScopedContext().onProcessingViewFinished("viewB");
+
+        Assert.assertEquals("x1", viewAccessScopedBeanX.getValue());
+        contextExtension.getViewAccessScopedContext().onProcessingViewFinished("viewC");
+
+        Assert.assertEquals("x1", viewAccessScopedBeanX.getValue());
+        Assert.assertNull(viewAccessScopedBeanY.getValue());
+        contextExtension.getViewAccessScopedContext().onProcessingViewFinished("viewA");
+
+        //no access
+        contextExtension.getViewAccessScopedContext().onProcessingViewFinished("viewB");
+
+        Assert.assertNull(viewAccessScopedBeanX.getValue());
+        Assert.assertNull(viewAccessScopedBeanY.getValue());
+
+        windowContext.closeWindow("w1");
+    }
 }
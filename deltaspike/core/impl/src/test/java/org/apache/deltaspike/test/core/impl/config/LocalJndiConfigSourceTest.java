@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.config;
+
+import org.apache.deltaspike.core.impl.config.DefaultConfigSourceProvider;
+import org.apache.deltaspike.core.spi.config.ConfigSource;
+import org.apache.deltaspike.core.spi.config.VersionedConfigSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.naming.Binding;
+import javax.naming.Context;
+import javax.naming.InitialContext;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.OperationNotSupportedException;
+import javax.naming.spi.InitialContextFactory;
+import javax.naming.spi.InitialContextFactoryBuilder;
+import javax.naming.spi.NamingManager;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uses an in-memory JNDI tree, therefore the tests only run if no other JNDI implementation is available.
+ */
+public class LocalJndiConfigSourceTest
+{
+    private static final String BASE_NAME = "java:comp/env/deltaspike/";
+    private static final String SNAPSHOT_ENABLED_KEY = "deltaspike.config.jndi.snapshot";
+    private static final String SNAPSHOT_REFRESH_KEY = "deltaspike.config.jndi.snapshot_refresh_in_seconds";
+
+    private static final Map<String, Object> BINDINGS = new ConcurrentHashMap<String, Object>();
+
+    @BeforeClass
+    public static void installInMemoryJndi() throws NamingException
+    {
+        try
+        {
+            new InitialContext().lookup("java:comp/env");
+            Assume.assumeTrue(false);
+        }
+        catch (NamingException e)
+        {
+            // no JNDI implementation available
+        }
+
+        if (!NamingManager.hasInitialContextFactoryBuilder())
+        {
+            NamingManager.setInitialContextFactoryBuilder(new InitialContextFactoryBuilder()
+            {
+                @Override
+                public InitialContextFactory createInitialContextFactory(Hashtable<?, ?> environment)
+                {
+                    return new InitialContextFactory()
+                    {
+                        @Override
+                        public Context getInitialContext(Hashtable<?, ?> environment)
+                        {
+                            return createContext();
+                        }
+                    };
+                }
+            });
+        }
+    }
+
+    @After
+    public void cleanup()
+    {
+        BINDINGS.clear();
+    }
+
+    @Test
+    public void testSnapshotIsDisabledByDefault()
+    {
+        BINDINGS.put(BASE_NAME + "jndikey", "value1");
+
+        ConfigSource configSource = createLocalJndiConfigSource();
+        Assert.assertEquals("value1", configSource.getPropertyValue("jndikey"));
+
+        BINDINGS.put(BASE_NAME + "jndikey", "value2");
+        Assert.assertEquals("value2", configSource.getPropertyValue("jndikey"));
+        Assert.assertFalse(configSource instanceof VersionedConfigSource);
+    }
+
+    @Test
+    public void testSnapshot()
+    {
+        BINDINGS.put(BASE_NAME + SNAPSHOT_ENABLED_KEY, "true");
+        BINDINGS.put(BASE_NAME + "jndikey", "value1");
+        BINDINGS.put(BASE_NAME + "nested/jndikey", "nested value");
+        BINDINGS.put("java:comp/env/other/jndikey", "other value");
+
+        ConfigSource configSource = createLocalJndiConfigSource();
+        Assert.assertTrue(configSource instanceof VersionedConfigSource);
+
+        BINDINGS.put(BASE_NAME + "jndikey", "value2");
+        BINDINGS.put(BASE_NAME + "addedkey", "added value");
+
+        Assert.assertEquals("value1", configSource.getPropertyValue("jndikey"));
+        Assert.assertEquals("nested value", configSource.getPropertyValue("nested/jndikey"));
+        Assert.assertEquals("other value", configSource.getPropertyValue("java:comp/env/other/jndikey"));
+        Assert.assertNull(configSource.getPropertyValue("addedkey"));
+        Assert.assertEquals("value1", configSource.getProperties().get("jndikey"));
+    }
+
+    @Test
+    public void testSnapshotGetsRefreshedLazily() throws Exception
+    {
+        BINDINGS.put(BASE_NAME + SNAPSHOT_ENABLED_KEY, "true");
+        BINDINGS.put(BASE_NAME + SNAPSHOT_REFRESH_KEY, "1");
+        BINDINGS.put(BASE_NAME + "jndikey", "value1");
+
+        VersionedConfigSource configSource = (VersionedConfigSource) createLocalJndiConfigSource();
+
+        Thread.sleep(1100);
+        Assert.assertEquals("value1", configSource.getPropertyValue("jndikey"));
+        Assert.assertEquals(0, configSource.getVersion());
+
+        BINDINGS.put(BASE_NAME + "jndikey", "value2");
+        Assert.assertEquals("value1", configSource.getPropertyValue("jndikey"));
+
+        Thread.sleep(1100);
+        Assert.assertEquals("value2", configSource.getPropertyValue("jndikey"));
+        Assert.assertEquals(1, configSource.getVersion());
+    }
+
+    private static ConfigSource createLocalJndiConfigSource()
+    {
+        for (ConfigSource configSource : new DefaultConfigSourceProvider().getConfigSources())
+        {
+            if (BASE_NAME.equals(configSource.getConfigName()))
+            {
+                return configSource;
+            }
+        }
+        throw new IllegalStateException("LocalJndiConfigSource not found");
+    }
+
+    private static Context createContext()
+    {
+        return (Context) Proxy.newProxyInstance(LocalJndiConfigSourceTest.class.getClassLoader(),
+                new Class<?>[]{Context.class}, new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws NamingException
+                    {
+                        if ("lookup".equals(method.getName()) && args[0] instanceof String)
+                        {
+                            return lookup((String) args[0]);
+                        }
+                        if ("listBindings".equals(method.getName()) && args[0] instanceof String)
+                        {
+                            return listBindings((String) args[0]);
+                        }
+                        if ("close".equals(method.getName()))
+                        {
+                            return null;
+                        }
+                        throw new OperationNotSupportedException(method.getName());
+                    }
+                });
+    }
+
+    private static Object lookup(String name) throws NamingException
+    {
+        Object value = BINDINGS.get(name);
+
+        if (value == null)
+        {
+            throw new NameNotFoundException(name);
+        }
+        return value;
+    }
+
+    private static NamingEnumeration<Binding> listBindings(String name) throws NamingException
+    {
+        String prefix = name + "/";
+        List<Binding> bindings = new ArrayList<Binding>();
+        List<String> subContextNames = new ArrayList<String>();
+
+        for (Map.Entry<String, Object> entry : BINDINGS.entrySet())
+        {
+            if (!entry.getKey().startsWith(prefix))
+            {
+                continue;
+            }
+
+            String relativeName = entry.getKey().substring(prefix.length());
+            int separatorIndex = relativeName.indexOf('/');
+
+            if (separatorIndex < 0)
+            {
+                bindings.add(new Binding(relativeName, entry.getValue()));
+            }
+            else if (!subContextNames.contains(relativeName.substring(0, separatorIndex)))
+            {
+                subContextNames.add(relativeName.substring(0, separatorIndex));
+                bindings.add(new Binding(relativeName.substring(0, separatorIndex), createContext()));
+            }
+        }
+
+        if (bindings.isEmpty())
+        {
+            throw new NameNotFoundException(name);
+        }
+        return new BindingEnumeration(bindings.iterator());
+    }
+
+    private static class BindingEnumeration implements NamingEnumeration<Binding>
+    {
+        private final Iterator<Binding> bindings;
+
+        private BindingEnumeration(Iterator<Binding> bindings)
+        {
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Binding next()
+        {
+            return bindings.next();
+        }
+
+        @Override
+        public boolean hasMore()
+        {
+            return bindings.hasNext();
+        }
+
+        @Override
+        public void close()
+        {
+        }
+
+        @Override
+        public boolean hasMoreElements()
+        {
+            return bindings.hasNext();
+        }
+
+        @Override
+        public Binding nextElement()
+        {
+            return bindings.next();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.config;
+
+import org.apache.deltaspike.core.impl.config.WatchedPropertyFileConfigSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Properties;
+
+public class WatchedPropertyFileConfigSourceTest
+{
+    private File propertyFile;
+
+    @Before
+    public void init() throws IOException
+    {
+        propertyFile = File.createTempFile("watched", ".properties");
+    }
+
+    @After
+    public void cleanup()
+    {
+        propertyFile.delete();
+    }
+
+    @Test
+    public void testReloadIfModified() throws IOException
+    {
+        writeProperties("value1", 1000L);
+
+        WatchedPropertyFileConfigSource configSource = new WatchedPropertyFileConfigSource(propertyFile);
+        Assert.assertEquals("value1", configSource.getPropertyValue("watchedkey"));
+        Assert.assertEquals(150, configSource.getOrdinal());
+
+        Assert.assertFalse(configSource.reloadIfModified());
+        Assert.assertEquals(0, configSource.getVersion());
+
+        writeProperties("value2 (changed)", 2000L);
+
+        Assert.assertTrue(configSource.reloadIfModified());
+        Assert.assertEquals("value2 (changed)", configSource.getPropertyValue("watchedkey"));
+        Assert.assertEquals(1, configSource.getVersion());
+    }
+
+    @Test
+    public void testMissingFile()
+    {
+        propertyFile.delete();
+
+        WatchedPropertyFileConfigSource configSource = new WatchedPropertyFileConfigSource(propertyFile);
+        Assert.assertNull(configSource.getPropertyValue("watchedkey"));
+        Assert.assertTrue(configSource.getProperties().isEmpty());
+    }
+
+    private void writeProperties(String value, long lastModified) throws IOException
+    {
+        Properties properties = new Properties();
+        properties.setProperty("watchedkey", value);
+        properties.setProperty("deltaspike_ordinal", "150");
+
+        FileOutputStream outputStream = new FileOutputStream(propertyFile);
+        try
+        {
+            properties.store(outputStream, null);
+        }
+        finally
+        {
+            outputStream.close();
+        }
+
+        // don't depend on the resolution of the file-system timestamps
+        propertyFile.setLastModified(lastModified);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.exception.control.handler;
+
+import org.apache.deltaspike.core.api.exception.control.event.ExceptionToCatchEvent;
+import org.apache.deltaspike.core.impl.exception.control.ExceptionHandlingTraceRecorder;
+import org.apache.deltaspike.test.util.ArchiveUtils;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Arquillian.class)
+public class ExceptionHandlingTraceTest
+{
+    @Deployment(name = "ExceptionHandlingTraceTest")
+    public static Archive<?> createTestArchive()
+    {
+        return ShrinkWrap
+                .create(WebArchive.class, "exceptionHandlingTrace.war")
+                .addAsLibraries(ArchiveUtils.getDeltaSpikeCoreArchive())
+                .addClasses(CalledExceptionHandler.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private BeanManager bm;
+
+    @Inject
+    private ExceptionHandlingTraceRecorder traceRecorder;
+
+    @After
+    public void resetTraceRecorder()
+    {
+        traceRecorder.setTracingEnabled(false);
+        traceRecorder.clearTraces();
+    }
+
+    @Test
+    public void assertNoTracesByDefault()
+    {
+        bm.fireEvent(new ExceptionToCatchEvent(new IllegalArgumentException()));
+
+        assertEquals(0, traceRecorder.listTraces().length);
+    }
+
+    @Test
+    public void assertHandlingTimelineIsRecorded()
+    {
+        traceRecorder.setTracingEnabled(true);
+
+        bm.fireEvent(new ExceptionToCatchEvent(new IllegalArgumentException("traced")));
+
+        String[] traces = traceRecorder.listTraces();
+        assertEquals(1, traces.length);
+        assertTrue(traces[0].contains("traced"));
+        assertTrue(traces[0].contains("handled: true"));
+        assertTrue(traces[0].contains(IllegalArgumentException.class.getName() + " -> "));
+    }
+
+    @Test
+    public void assertTracingCanBeEnabledViaJmx() throws Exception
+    {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        Set<ObjectName> objectNames = mBeanServer.queryNames(
+                new ObjectName("org.apache.deltaspike:type=MBeans,name=ExceptionHandlingTraces@*"), null);
+
+        assertFalse(objectNames.isEmpty());
+
+        for (ObjectName objectName : objectNames)
+        {
+            mBeanServer.setAttribute(objectName, new Attribute("tracingEnabled", true));
+        }
+
+        assertTrue(traceRecorder.isTracingEnabled());
+    }
+}
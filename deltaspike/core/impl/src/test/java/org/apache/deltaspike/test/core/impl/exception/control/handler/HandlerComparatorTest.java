@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 @RunWith(Arquillian.class)
@@ -111,4 +112,19 @@ public class HandlerComparatorTest
 
         assertThat(handlers.size(), is(4));
     }
+
+    @Test
+    public void assertHandlerChainIsInInvocationOrder()
+    {
+        List<HandlerMethod<? extends Throwable>> handlerChain =
+                storage.getHandlerChain(IllegalArgumentException.class, Collections.<Annotation>emptySet(), false);
+
+        assertThat(handlerChain.size(), is(4));
+        assertThat(((HandlerMethodImpl<?>) handlerChain.get(0)).getJavaMethod().getName(), is("catchIAE"));
+        assertThat(((HandlerMethodImpl<?>) handlerChain.get(3)).getJavaMethod().getName(), is("catchThrowable"));
+
+        // the chain gets computed only once
+        assertThat(storage.getHandlerChain(IllegalArgumentException.class, Collections.<Annotation>emptySet(), false),
+                sameInstance(handlerChain));
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.exception.control.handler;
+
+import org.apache.deltaspike.core.api.exception.control.event.ExceptionToCatchEvent;
+import org.apache.deltaspike.test.util.ArchiveUtils;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@RunWith(Arquillian.class)
+public class HandlerMethodInvokerTest
+{
+    @Inject
+    @HandlerQualifier
+    private QualifiedExceptionHandler qualifiedExceptionHandler;
+
+    @Inject
+    private BeanManager bm;
+
+    @Deployment(name = "HandlerMethodInvokerTest")
+    public static Archive<?> createTestArchive()
+    {
+        return ShrinkWrap
+                .create(WebArchive.class, "handlerMethodInvoker.war")
+                .addAsLibraries(ArchiveUtils.getDeltaSpikeCoreArchive())
+                .addClasses(QualifiedExceptionHandler.class, HandlerQualifier.class,
+                        NormalScopedHandlerParameter.class, DependentHandlerParameter.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void assertQualifiedHandlerAndParametersAreResolvedOnce()
+    {
+        bm.fireEvent(new ExceptionToCatchEvent(new UnsupportedOperationException()));
+        bm.fireEvent(new ExceptionToCatchEvent(new UnsupportedOperationException()));
+
+        assertEquals(2, qualifiedExceptionHandler.getNormalScopedParameters().size());
+        assertSame(qualifiedExceptionHandler.getNormalScopedParameters().get(0),
+                qualifiedExceptionHandler.getNormalScopedParameters().get(1));
+    }
+
+    @Test
+    public void assertDependentParametersAreDestroyedAfterEachNotification()
+    {
+        int createdInstances = DependentHandlerParameter.CREATED_INSTANCES.get();
+        int destroyedInstances = DependentHandlerParameter.DESTROYED_INSTANCES.get();
+
+        bm.fireEvent(new ExceptionToCatchEvent(new UnsupportedOperationException()));
+        assertEquals(destroyedInstances, qualifiedExceptionHandler.getDestroyedDependentParameters());
+
+        bm.fireEvent(new ExceptionToCatchEvent(new UnsupportedOperationException()));
+        assertEquals(destroyedInstances + 1, qualifiedExceptionHandler.getDestroyedDependentParameters());
+
+        assertEquals(createdInstances + 2, DependentHandlerParameter.CREATED_INSTANCES.get());
+        assertEquals(destroyedInstances + 2, DependentHandlerParameter.DESTROYED_INSTANCES.get());
+    }
+}
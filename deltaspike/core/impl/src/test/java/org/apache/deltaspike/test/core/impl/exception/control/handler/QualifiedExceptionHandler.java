@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.exception.control.handler;
+
+import org.apache.deltaspike.core.api.exception.control.ExceptionHandler;
+import org.apache.deltaspike.core.api.exception.control.Handles;
+import org.apache.deltaspike.core.api.exception.control.event.ExceptionEvent;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handler with a qualifier, therefore it can't be resolved via its type only.
+ */
+@ApplicationScoped
+@ExceptionHandler
+@HandlerQualifier
+public class QualifiedExceptionHandler
+{
+    private final List<NormalScopedHandlerParameter> normalScopedParameters =
+        new ArrayList<NormalScopedHandlerParameter>();
+
+    private int destroyedDependentParameters = -1;
+
+    public void handle(@Handles ExceptionEvent<UnsupportedOperationException> event,
+                       NormalScopedHandlerParameter normalScopedParameter,
+                       DependentHandlerParameter dependentParameter)
+    {
+        normalScopedParameters.add(normalScopedParameter);
+        destroyedDependentParameters = DependentHandlerParameter.DESTROYED_INSTANCES.get();
+        event.handled();
+    }
+
+    public List<NormalScopedHandlerParameter> getNormalScopedParameters()
+    {
+        return normalScopedParameters;
+    }
+
+    /**
+     * @return the number of destroyed dependent parameters during the last notification
+     */
+    public int getDestroyedDependentParameters()
+    {
+        return destroyedDependentParameters;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.message;
+
+import org.apache.deltaspike.core.api.message.MessageContext;
+import org.apache.deltaspike.core.api.projectstage.ProjectStage;
+import org.apache.deltaspike.core.impl.message.DefaultMessageResolver;
+import org.apache.deltaspike.core.util.ProjectStageProducer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DefaultMessageResolverTest
+{
+    private final DefaultMessageResolver messageResolver = new DefaultMessageResolver();
+
+    private ClassLoader originalClassLoader;
+    private BundleClassLoader bundleClassLoader;
+
+    @Before
+    public void init()
+    {
+        originalClassLoader = Thread.currentThread().getContextClassLoader();
+        bundleClassLoader = new BundleClassLoader(originalClassLoader);
+        Thread.currentThread().setContextClassLoader(bundleClassLoader);
+
+        bundleClassLoader.setBundle("first", "greeting=first greeting\nfarewell=first farewell");
+        bundleClassLoader.setBundle("second", "greeting=second greeting\nonlySecond=second only\n" +
+                "farewell_formal=second formal farewell");
+
+        ProjectStageProducer.setProjectStage(ProjectStage.Production);
+    }
+
+    @After
+    public void cleanup()
+    {
+        DefaultMessageResolver.freeMessageIndices();
+        ResourceBundle.clearCache(bundleClassLoader);
+        Thread.currentThread().setContextClassLoader(originalClassLoader);
+
+        ProjectStageProducer.setProjectStage(null);
+    }
+
+    @Test
+    public void testFirstMessageSourceWins()
+    {
+        Assert.assertEquals("first greeting", resolve("{greeting}", null, "first", "second"));
+        Assert.assertEquals("second greeting", resolve("{greeting}", null, "second", "first"));
+        Assert.assertEquals("second only", resolve("{onlySecond}", null, "first", "second"));
+        Assert.assertEquals("first greeting", resolve("{greeting}", null, "notExisting", "first"));
+    }
+
+    @Test
+    public void testCategoryIsResolvedPerMessageSource()
+    {
+        Assert.assertEquals("second formal farewell", resolve("{farewell}", "formal", "second", "first"));
+
+        // the first message source contains the key without category
+        Assert.assertEquals("first farewell", resolve("{farewell}", "formal", "first", "second"));
+        Assert.assertEquals("second greeting", resolve("{greeting}", "formal", "second", "first"));
+    }
+
+    @Test
+    public void testMissingMessage()
+    {
+        for (int i = 0; i < 3; i++)
+        {
+            Assert.assertNull(resolve("{missing}", null, "first", "second"));
+            Assert.assertNull(resolve("{missing}", "formal", "first", "second"));
+        }
+
+        // the missing key got cached as well
+        bundleClassLoader.setBundle("first", "missing=added later");
+        ResourceBundle.clearCache(bundleClassLoader);
+
+        Assert.assertNull(resolve("{missing}", null, "first", "second"));
+    }
+
+    @Test
+    public void testMessageSourcesAreIndexedOnce()
+    {
+        Assert.assertEquals("first greeting", resolve("{greeting}", null, "first"));
+
+        bundleClassLoader.setBundle("first", "greeting=changed greeting");
+        ResourceBundle.clearCache(bundleClassLoader);
+
+        Assert.assertEquals("first greeting", resolve("{greeting}", null, "first"));
+
+        DefaultMessageResolver.freeMessageIndices();
+
+        Assert.assertEquals("changed greeting", resolve("{greeting}", null, "first"));
+    }
+
+    @Test
+    public void testNoIndexInProjectStageDevelopment()
+    {
+        ProjectStageProducer.setProjectStage(ProjectStage.Development);
+
+        Assert.assertEquals("first greeting", resolve("{greeting}", null, "first"));
+        Assert.assertNull(resolve("{missing}", null, "first"));
+
+        bundleClassLoader.setBundle("first", "greeting=changed greeting\nmissing=added later");
+        ResourceBundle.clearCache(bundleClassLoader);
+
+        Assert.assertEquals("changed greeting", resolve("{greeting}", null, "first"));
+        Assert.assertEquals("added later", resolve("{missing}", null, "first"));
+    }
+
+    @Test
+    public void testDirectLookupInProjectStageDevelopment()
+    {
+        ProjectStageProducer.setProjectStage(ProjectStage.Development);
+
+        Assert.assertEquals("second only", resolve("{onlySecond}", null, "first", "second"));
+        Assert.assertEquals("first greeting", resolve("{greeting}", null, "notExisting", "first"));
+        Assert.assertEquals("second formal farewell", resolve("{farewell}", "formal", "second", "first"));
+        Assert.assertEquals("first farewell", resolve("{farewell}", "formal", "first", "second"));
+        Assert.assertNull(resolve("{missing}", "formal", "first", "second"));
+    }
+
+    private String resolve(String messageTemplate, String category, String... messageSources)
+    {
+        final List<String> messageSourceList = Arrays.asList(messageSources);
+
+        MessageContext messageContext = (MessageContext) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{MessageContext.class}, new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        if ("getLocale".equals(method.getName()))
+                        {
+                            return Locale.ENGLISH;
+                        }
+                        if ("getMessageSources".equals(method.getName()))
+                        {
+                            return messageSourceList;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        return messageResolver.getMessage(messageContext, messageTemplate, category);
+    }
+
+    /**
+     * Provides the content of property files which can be changed by the tests.
+     */
+    private static class BundleClassLoader extends ClassLoader
+    {
+        private final Map<String, String> bundles = new ConcurrentHashMap<String, String>();
+
+        private BundleClassLoader(ClassLoader parent)
+        {
+            super(parent);
+        }
+
+        private void setBundle(String bundleName, String content)
+        {
+            bundles.put(bundleName + ".properties", content);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name)
+        {
+            String content = bundles.get(name);
+
+            if (content == null)
+            {
+                return super.getResourceAsStream(name);
+            }
+
+            try
+            {
+                return new ByteArrayInputStream(content.getBytes("ISO-8859-1"));
+            }
+            catch (UnsupportedEncodingException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.message;
+
+import org.apache.deltaspike.core.api.message.Message;
+import org.apache.deltaspike.core.api.message.MessageContext;
+import org.apache.deltaspike.core.api.message.MessageInterpolator;
+import org.apache.deltaspike.core.api.message.MessageResolver;
+import org.apache.deltaspike.core.api.projectstage.ProjectStage;
+import org.apache.deltaspike.core.impl.message.DefaultMessage;
+import org.apache.deltaspike.core.impl.message.MessageFormatMessageInterpolator;
+import org.apache.deltaspike.core.util.ProjectStageProducer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DefaultMessageTest
+{
+    private Locale locale = Locale.ENGLISH;
+    private MessageResolver messageResolver;
+    private MessageInterpolator messageInterpolator = new MessageFormatMessageInterpolator();
+
+    @Before
+    public void init()
+    {
+        ProjectStageProducer.setProjectStage(ProjectStage.Production);
+    }
+
+    @After
+    public void cleanup()
+    {
+        ProjectStageProducer.setProjectStage(null);
+    }
+
+    @Test
+    public void testChangedArguments()
+    {
+        Message message = createMessage().template("{0} and {1}").argument("Anna");
+        Assert.assertEquals("Anna and {1}", message.toString());
+
+        message.argument("Bert");
+        Assert.assertEquals("Anna and Bert", message.toString());
+    }
+
+    @Test
+    public void testChangedTemplate()
+    {
+        Message message = createMessage().template("{0} and {1}").argument("Anna", "Bert");
+        Assert.assertEquals("Anna and Bert", message.toString());
+
+        message.template("{1} and {0}");
+        Assert.assertEquals("Bert and Anna", message.toString());
+    }
+
+    @Test
+    public void testChangedLocale()
+    {
+        Message message = createMessage().template("{0,number,#,##0.00}").argument(1234.5);
+        Assert.assertEquals("1,234.50", message.toString());
+
+        locale = Locale.GERMAN;
+        Assert.assertEquals("1.234,50", message.toString());
+
+        locale = Locale.ENGLISH;
+        Assert.assertEquals("1,234.50", message.toString());
+    }
+
+    @Test
+    public void testMutableArgument()
+    {
+        StringBuilder name = new StringBuilder("Anna");
+        Message message = createMessage().template("Hello {0}").argument(name);
+        Assert.assertEquals("Hello Anna", message.toString());
+
+        name.append(" Maria");
+        Assert.assertEquals("Hello Anna Maria", message.toString());
+    }
+
+    @Test
+    public void testCustomMessageResolver()
+    {
+        final AtomicInteger resolvedMessages = new AtomicInteger();
+        messageResolver = new MessageResolver()
+        {
+            private static final long serialVersionUID = 3307298218412717213L;
+
+            @Override
+            public String getMessage(MessageContext messageContext, String messageTemplate, String category)
+            {
+                return messageTemplate + " #" + resolvedMessages.incrementAndGet();
+            }
+        };
+
+        Message message = createMessage().template("Hello {0}").argument("Anna");
+        Assert.assertEquals("Hello Anna #1", message.toString());
+        Assert.assertEquals("Hello Anna #2", message.toString());
+    }
+
+    private Message createMessage()
+    {
+        MessageContext messageContext = (MessageContext) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{MessageContext.class}, new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        if ("getLocale".equals(method.getName()))
+                        {
+                            return locale;
+                        }
+                        if ("getMessageResolver".equals(method.getName()))
+                        {
+                            return messageResolver;
+                        }
+                        if ("getMessageInterpolator".equals(method.getName()))
+                        {
+                            return messageInterpolator;
+                        }
+                        if ("getMessageSources".equals(method.getName()))
+                        {
+                            return Collections.<String>emptyList();
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        return new DefaultMessage(messageContext);
+    }
+}
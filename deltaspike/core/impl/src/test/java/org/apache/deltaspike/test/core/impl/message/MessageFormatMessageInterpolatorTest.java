@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.message;
+
+import org.apache.deltaspike.core.impl.message.MessageFormatMessageInterpolator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+public class MessageFormatMessageInterpolatorTest
+{
+    private static final String TEMPLATE = "{0} has {1,number,#,##0.00} points";
+
+    @Test
+    public void testCachedTemplateWithDifferentArguments()
+    {
+        MessageFormatMessageInterpolator interpolator = new MessageFormatMessageInterpolator();
+
+        Assert.assertEquals("Anna has 1,234.50 points",
+                interpolator.interpolate(TEMPLATE, new Serializable[]{"Anna", 1234.5}, Locale.ENGLISH));
+        Assert.assertEquals("Bert has 7.00 points",
+                interpolator.interpolate(TEMPLATE, new Serializable[]{"Bert", 7}, Locale.ENGLISH));
+    }
+
+    @Test
+    public void testCachedTemplateWithDifferentLocales()
+    {
+        MessageFormatMessageInterpolator interpolator = new MessageFormatMessageInterpolator();
+
+        Assert.assertEquals("Anna has 1,234.50 points",
+                interpolator.interpolate(TEMPLATE, new Serializable[]{"Anna", 1234.5}, Locale.ENGLISH));
+        Assert.assertEquals("Anna has 1.234,50 points",
+                interpolator.interpolate(TEMPLATE, new Serializable[]{"Anna", 1234.5}, Locale.GERMAN));
+        Assert.assertEquals("Anna has 1,234.50 points",
+                interpolator.interpolate(TEMPLATE, new Serializable[]{"Anna", 1234.5}, Locale.ENGLISH));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.scope.conversation;
+
+import org.apache.deltaspike.core.impl.scope.conversation.ConversationBeanHolder;
+import org.apache.deltaspike.core.impl.scope.conversation.ConversationKey;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConversationBeanHolderTest
+{
+    private interface ShortConversation
+    {
+    }
+
+    private interface LongConversation
+    {
+    }
+
+    private static final String SHORT_CONVERSATION_MAX_IDLE_TIME_KEY =
+        ConversationBeanHolder.MAX_IDLE_TIME_KEY + "." + ShortConversation.class.getName();
+
+    @After
+    public void cleanup()
+    {
+        System.clearProperty(ConversationBeanHolder.MAX_IDLE_TIME_KEY);
+        System.clearProperty(SHORT_CONVERSATION_MAX_IDLE_TIME_KEY);
+    }
+
+    @Test
+    public void testConversationsDontExpireByDefault()
+    {
+        ConversationBeanHolder conversationBeanHolder = new ConversationBeanHolder();
+        ConversationKey conversationKey = new ConversationKey(LongConversation.class);
+
+        conversationBeanHolder.getContextualStorage(null, conversationKey, true);
+
+        Assert.assertEquals(0, conversationBeanHolder.destroyExpiredConversations());
+        Assert.assertNotNull(conversationBeanHolder.getContextualStorage(null, conversationKey, false));
+    }
+
+    @Test
+    public void testIdleTimeoutPerConversationGroup() throws Exception
+    {
+        System.setProperty(SHORT_CONVERSATION_MAX_IDLE_TIME_KEY, "1");
+
+        ConversationBeanHolder conversationBeanHolder = new ConversationBeanHolder();
+        ConversationKey shortConversationKey = new ConversationKey(ShortConversation.class);
+        ConversationKey longConversationKey = new ConversationKey(LongConversation.class);
+
+        conversationBeanHolder.getContextualStorage(null, shortConversationKey, true);
+        conversationBeanHolder.getContextualStorage(null, longConversationKey, true);
+        Thread.sleep(1100);
+
+        Assert.assertEquals(1, conversationBeanHolder.destroyExpiredConversations());
+        Assert.assertNull(conversationBeanHolder.getContextualStorage(null, shortConversationKey, false));
+        Assert.assertNotNull(conversationBeanHolder.getContextualStorage(null, longConversationKey, false));
+    }
+
+    @Test
+    public void testAccessedConversationDoesntExpire() throws Exception
+    {
+        System.setProperty(ConversationBeanHolder.MAX_IDLE_TIME_KEY, "1");
+
+        ConversationBeanHolder conversationBeanHolder = new ConversationBeanHolder();
+        ConversationKey conversationKey = new ConversationKey(LongConversation.class);
+
+        conversationBeanHolder.getContextualStorage(null, conversationKey, true);
+        Thread.sleep(600);
+        conversationBeanHolder.getContextualStorage(null, conversationKey, false);
+        Thread.sleep(600);
+
+        Assert.assertEquals(0, conversationBeanHolder.destroyExpiredConversations());
+        Assert.assertNotNull(conversationBeanHolder.getContextualStorage(null, conversationKey, false));
+    }
+}
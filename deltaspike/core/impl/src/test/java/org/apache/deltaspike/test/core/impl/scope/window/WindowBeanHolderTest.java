@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.test.core.impl.scope.window;
+
+import org.apache.deltaspike.core.impl.scope.window.WindowBeanHolder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WindowBeanHolderTest
+{
+    @After
+    public void cleanup()
+    {
+        System.clearProperty(WindowBeanHolder.MAX_WINDOW_COUNT_KEY);
+        System.clearProperty(WindowBeanHolder.MAX_IDLE_TIME_KEY);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedWindowGetsEvicted() throws Exception
+    {
+        System.setProperty(WindowBeanHolder.MAX_WINDOW_COUNT_KEY, "2");
+
+        WindowBeanHolder windowBeanHolder = new WindowBeanHolder();
+
+        windowBeanHolder.getContextualStorage(null, "window1", true);
+        Thread.sleep(5);
+        windowBeanHolder.getContextualStorage(null, "window2", true);
+        Thread.sleep(5);
+
+        // window1 is now more recently used than window2
+        windowBeanHolder.getContextualStorage(null, "window1", false);
+        Thread.sleep(5);
+
+        windowBeanHolder.getContextualStorage(null, "window3", true);
+
+        Assert.assertEquals(2, windowBeanHolder.getStorageMap().size());
+        Assert.assertNotNull(windowBeanHolder.getContextualStorage(null, "window1", false));
+        Assert.assertNull(windowBeanHolder.getContextualStorage(null, "window2", false));
+        Assert.assertNotNull(windowBeanHolder.getContextualStorage(null, "window3", false));
+    }
+
+    @Test
+    public void testUnlimitedWindowCount()
+    {
+        System.setProperty(WindowBeanHolder.MAX_WINDOW_COUNT_KEY, "0");
+
+        WindowBeanHolder windowBeanHolder = new WindowBeanHolder();
+
+        for (int i = 0; i < 100; i++)
+        {
+            windowBeanHolder.getContextualStorage(null, "window" + i, true);
+        }
+
+        Assert.assertEquals(100, windowBeanHolder.getStorageMap().size());
+    }
+
+    @Test
+    public void testNoWindowLimitByDefault()
+    {
+        WindowBeanHolder windowBeanHolder = new WindowBeanHolder();
+
+        for (int i = 0; i < 100; i++)
+        {
+            windowBeanHolder.getContextualStorage(null, "window" + i, true);
+        }
+
+        Assert.assertEquals(100, windowBeanHolder.getStorageMap().size());
+    }
+
+    @Test
+    public void testIdleWindowsExpire() throws Exception
+    {
+        System.setProperty(WindowBeanHolder.MAX_IDLE_TIME_KEY, "1");
+
+        WindowBeanHolder windowBeanHolder = new WindowBeanHolder();
+
+        windowBeanHolder.getContextualStorage(null, "window1", true);
+        Thread.sleep(1100);
+        windowBeanHolder.getContextualStorage(null, "window2", true);
+
+        Assert.assertNull(windowBeanHolder.getContextualStorage(null, "window1", false));
+        Assert.assertNotNull(windowBeanHolder.getContextualStorage(null, "window2", false));
+    }
+}
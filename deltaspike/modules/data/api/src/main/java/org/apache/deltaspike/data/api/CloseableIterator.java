@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.api;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * Query result type which streams the result instead of loading it into memory at once.
+ * The results are either fetched page by page (see {@link Query#fetchSize()}) or read from a
+ * provider specific cursor.
+ * <br/>
+ * The iterator closes itself once all results have been read. Iterators which are abandoned early
+ * should be closed explicitly to release the underlying cursor.
+ * <br/>
+ * Results are read lazily, so the iterator has to be consumed while the
+ * {@link javax.persistence.EntityManager} of the repository is still open.
+ *
+ * @param <E> Entity type
+ */
+public interface CloseableIterator<E> extends Iterator<E>, Closeable
+{
+
+    /**
+     * Releases the underlying query cursor. Subsequent calls have no effect.
+     */
+    @Override
+    void close();
+
+}
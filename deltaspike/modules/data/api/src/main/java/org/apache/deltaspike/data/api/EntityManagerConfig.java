@@ -47,4 +47,11 @@ public @interface EntityManagerConfig
      */
     FlushModeType flushMode() default FlushModeType.AUTO;
 
+    /**
+     * Number of entities after which {@link EntityRepository#saveAll(Iterable)} and
+     * {@link EntityRepository#removeAll(Iterable)} flush and clear the EntityManager.
+     * Defaults to the value configured for {@code deltaspike.data.batch_size}.
+     */
+    int batchSize() default 0;
+
 }
@@ -54,12 +54,34 @@ public interface EntityRepository<E, PK extends Serializable>
      */
     E saveAndFlushAndRefresh(E entity);
 
+    /**
+     * {@link #save(Object)}s all given entities. The persistence context gets flushed and cleared after
+     * every batch of entities (see {@link EntityManagerConfig#batchSize()}), so its size stays bounded.
+     * Note that this detaches all entities managed by the EntityManager, including the merged copies
+     * of the given entities.
+     * @param entities          Entities to save.
+     */
+    void saveAll(Iterable<E> entities);
+
+    /**
+     * {@link #saveAll(Iterable)} followed by a flush of the persistence context.
+     * @param entities          Entities to save.
+     */
+    void saveAllAndFlush(Iterable<E> entities);
+
     /**
      * Convenience access to {@link javax.persistence.EntityManager#remove(Object)}.
      * @param entity            Entity to remove.
      */
     void remove(E entity);
 
+    /**
+     * Removes all given entities, flushing and clearing the persistence context after every batch
+     * of entities like {@link #saveAll(Iterable)}. Detached entities get merged before they are removed.
+     * @param entities          Entities to remove.
+     */
+    void removeAll(Iterable<E> entities);
+
     /**
      * Convenience access to {@link javax.persistence.EntityManager#remove(Object)}
      * with a following flush.
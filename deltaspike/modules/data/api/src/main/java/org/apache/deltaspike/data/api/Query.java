@@ -33,7 +33,8 @@ import javax.persistence.QueryHint;
  * <li>Execute named queries referenced by the named value</li>
  * <li>Execute native SQL queries</li>
  * <li>Restrict the result size to a static value</li>
- * <li>Provide a lock mode</li></ul>
+ * <li>Provide a lock mode</li>
+ * <li>Configure how streamed results are fetched</li></ul>
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
@@ -78,4 +79,18 @@ public @interface Query
      */
     SingleResultType singleResult() default SingleResultType.JPA;
 
+    /**
+     * Number of results fetched at once if the method returns a {@link java.util.Iterator} or
+     * {@link CloseableIterator}. Defaults to the value configured for
+     * {@code deltaspike.data.streaming.fetch_size}. Methods returning {@link java.lang.Iterable}
+     * only stream their result if a fetch size is set here, otherwise they return a loaded list.
+     */
+    int fetchSize() default 0;
+
+    /**
+     * Clears the persistence context after each fetch of a streamed result, so memory usage stays
+     * constant. Entities of previous fetches get detached.
+     */
+    boolean clearBetweenFetches() default false;
+
 }
@@ -109,6 +109,22 @@ public interface QueryResult<E>
      */
     QueryResult<E> firstResult(int first);
 
+    /**
+     * Keyset pagination: Restrict the result to the rows following the given
+     * sort key, i.e. the values of the last row of the previous page. The
+     * values are matched in order against the attributes passed to
+     * {@link #orderAsc(String)} and {@link #orderDesc(String)}, so the
+     * database can seek to the page instead of skipping all previous rows
+     * like {@link #firstResult(int)} does. The last sort attribute should be
+     * unique (e.g. the entity id) to make the page boundary unambiguous.
+     * The sort attributes must not be null, a null value gets rejected with an
+     * {@link IllegalArgumentException}. {@link #count()} ignores the key.
+     *
+     * @param lastValues        Sort attribute values of the last row of the previous page.
+     * @return                  Fluent API: the result instance.
+     */
+    QueryResult<E> afterKey(Object... lastValues);
+
     /**
      * Sets the query lock mode.
      *
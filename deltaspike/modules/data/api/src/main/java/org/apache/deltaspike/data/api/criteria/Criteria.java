@@ -173,6 +173,17 @@ public interface Criteria<C, R>
      */
     <P> Criteria<C, R> orderDesc(SingularAttribute<? super C, P> att);
 
+    /**
+     * Keyset pagination: Restrict the result to the rows following the given
+     * sort key. The values are matched in order against the attributes of
+     * {@link #orderAsc(SingularAttribute)} and {@link #orderDesc(SingularAttribute)}.
+     * The sort attributes must not be null, a null value gets rejected with an
+     * {@link IllegalArgumentException}.
+     * @param lastValues    Sort attribute values of the last row of the previous page.
+     * @return              Fluent API: Criteria instance.
+     */
+    Criteria<C, R> afterKey(Object... lastValues);
+
     /**
      * Create a select query.
      * @param resultClass   The query result class.
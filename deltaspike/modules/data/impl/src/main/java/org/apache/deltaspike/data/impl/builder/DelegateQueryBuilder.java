@@ -37,6 +37,7 @@ import org.apache.deltaspike.data.api.QueryInvocationException;
 import org.apache.deltaspike.data.impl.handler.CdiQueryInvocationContext;
 import org.apache.deltaspike.data.impl.meta.MethodType;
 import org.apache.deltaspike.data.impl.meta.QueryInvocation;
+import org.apache.deltaspike.data.impl.meta.RepositoryMethod;
 import org.apache.deltaspike.data.impl.util.bean.BeanDestroyable;
 import org.apache.deltaspike.data.spi.DelegateQueryHandler;
 
@@ -69,22 +70,39 @@ public class DelegateQueryBuilder extends QueryBuilder
     }
 
     private DelegateQueryHandler selectDelegate(CdiQueryInvocationContext context)
+    {
+        RepositoryMethod repositoryMethod = context.getRepositoryMethod();
+        Bean<DelegateQueryHandler> bean = repositoryMethod.getDelegateQueryHandlerBean();
+        if (bean == null)
+        {
+            bean = lookupDelegateBean(context.getMethod());
+            if (bean == null)
+            {
+                return null;
+            }
+            repositoryMethod.setDelegateQueryHandlerBean(bean);
+        }
+
+        if (bean.getScope().equals(Dependent.class))
+        {
+            CreationalContext<DelegateQueryHandler> cc = beanManager.createCreationalContext(bean);
+            DelegateQueryHandler instance = (DelegateQueryHandler) beanManager.getReference(
+                    bean, DelegateQueryHandler.class, cc);
+            context.addDestroyable(new BeanDestroyable<DelegateQueryHandler>(bean, instance, cc));
+            return instance;
+        }
+        return (DelegateQueryHandler) BeanProvider.getContextualReference(bean.getBeanClass());
+    }
+
+    private Bean<DelegateQueryHandler> lookupDelegateBean(Method method)
     {
         Set<Bean<DelegateQueryHandler>> beans = BeanProvider
                 .getBeanDefinitions(DelegateQueryHandler.class, true, true);
         for (Bean<DelegateQueryHandler> bean : beans)
         {
-            if (contains(bean.getBeanClass(), context.getMethod()))
+            if (contains(bean.getBeanClass(), method))
             {
-                if (bean.getScope().equals(Dependent.class))
-                {
-                    CreationalContext<DelegateQueryHandler> cc = beanManager.createCreationalContext(bean);
-                    DelegateQueryHandler instance = (DelegateQueryHandler) beanManager.getReference(
-                            bean, DelegateQueryHandler.class, cc);
-                    context.addDestroyable(new BeanDestroyable<DelegateQueryHandler>(bean, instance, cc));
-                    return instance;
-                }
-                return (DelegateQueryHandler) BeanProvider.getContextualReference(bean.getBeanClass());
+                return bean;
             }
         }
         return null;
@@ -28,6 +28,7 @@ import javax.persistence.QueryHint;
 
 import org.apache.deltaspike.data.api.QueryResult;
 import org.apache.deltaspike.data.api.mapping.QueryInOutMapper;
+import org.apache.deltaspike.data.impl.builder.result.StreamingResult;
 import org.apache.deltaspike.data.impl.handler.CdiQueryInvocationContext;
 import org.apache.deltaspike.data.impl.param.Parameters;
 
@@ -63,6 +64,11 @@ public abstract class QueryBuilder
             {
                 return mapper.mapResultList((List<Object>) result);
             }
+            if (result instanceof StreamingResult)
+            {
+                ((StreamingResult) result).mapWith(mapper);
+                return result;
+            }
             return mapper.mapResult(result);
         }
         return result;
@@ -25,16 +25,26 @@ import static org.apache.deltaspike.data.impl.meta.MethodType.PARSE;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
 
-import org.apache.deltaspike.core.api.provider.BeanProvider;
-import org.apache.deltaspike.core.api.provider.DependentProvider;
 import org.apache.deltaspike.data.api.QueryResult;
 import org.apache.deltaspike.data.impl.handler.CdiQueryInvocationContext;
 import org.apache.deltaspike.data.impl.meta.MethodType;
 import org.apache.deltaspike.data.impl.meta.QueryInvocationLiteral;
 import org.apache.deltaspike.data.impl.meta.RepositoryMethod;
-import org.apache.deltaspike.data.impl.util.bean.DependentProviderDestroyable;
+import org.apache.deltaspike.data.impl.util.bean.BeanDestroyable;
 
+/**
+ * Creates the {@link QueryBuilder} for a {@link MethodType}. The builder beans get resolved once per type.
+ */
+@ApplicationScoped
 public class QueryBuilderFactory implements Serializable
 {
 
@@ -50,16 +60,36 @@ public class QueryBuilderFactory implements Serializable
                 }
             };
 
+    @Inject
+    private BeanManager beanManager;
+
+    private final ConcurrentMap<MethodType, Bean<QueryBuilder>> builderBeans =
+            new ConcurrentHashMap<MethodType, Bean<QueryBuilder>>();
+
     public QueryBuilder build(RepositoryMethod method, CdiQueryInvocationContext context)
     {
-        DependentProvider<QueryBuilder> builder = BeanProvider.getDependent(
-                QueryBuilder.class, LITERALS.get(method.getMethodType()));
-        context.addDestroyable(new DependentProviderDestroyable(builder));
+        Bean<QueryBuilder> bean = lookupBuilderBean(method.getMethodType());
+        CreationalContext<QueryBuilder> cc = beanManager.createCreationalContext(bean);
+        QueryBuilder builder = (QueryBuilder) beanManager.getReference(bean, QueryBuilder.class, cc);
+        context.addDestroyable(new BeanDestroyable<QueryBuilder>(bean, builder, cc));
         if (method.returns(QueryResult.class))
         {
-            return new WrappedQueryBuilder(builder.get());
+            return new WrappedQueryBuilder(builder);
+        }
+        return builder;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Bean<QueryBuilder> lookupBuilderBean(MethodType methodType)
+    {
+        Bean<QueryBuilder> result = builderBeans.get(methodType);
+        if (result == null)
+        {
+            result = (Bean<QueryBuilder>) beanManager.resolve(
+                    beanManager.getBeans(QueryBuilder.class, LITERALS.get(methodType)));
+            builderBeans.put(methodType, result);
         }
-        return builder.get();
+        return result;
     }
 
 }
@@ -100,22 +100,24 @@ public class CountQueryPostProcessor implements JpaQueryPostProcessor
 
         private void splitQuery()
         {
-            String lower = query.toLowerCase();
+            int orderIndex = query.toLowerCase().lastIndexOf(" order by ");
+            String statement = orderIndex > 0 ? query.substring(0, orderIndex) : query;
+            String lower = statement.toLowerCase();
             int selectIndex = lower.indexOf("select");
             int fromIndex = lower.indexOf("from");
             int whereIndex = lower.indexOf("where");
             if (selectIndex >= 0)
             {
-                select = query.substring("select".length(), fromIndex);
+                select = statement.substring("select".length(), fromIndex);
             }
             if (whereIndex >= 0)
             {
-                from = query.substring(fromIndex, whereIndex);
-                where = query.substring(whereIndex);
+                from = statement.substring(fromIndex, whereIndex);
+                where = statement.substring(whereIndex);
             }
             else
             {
-                from = query.substring(fromIndex);
+                from = statement.substring(fromIndex);
             }
         }
 
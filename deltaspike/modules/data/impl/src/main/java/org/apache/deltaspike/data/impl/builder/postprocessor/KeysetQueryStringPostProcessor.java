@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.builder.postprocessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.persistence.Query;
+
+import org.apache.deltaspike.data.impl.builder.OrderDirection;
+import org.apache.deltaspike.data.impl.builder.QueryBuilder;
+import org.apache.deltaspike.data.impl.handler.CdiQueryInvocationContext;
+import org.apache.deltaspike.data.impl.handler.JpaQueryPostProcessor;
+import org.apache.deltaspike.data.impl.handler.QueryStringPostProcessor;
+
+/**
+ * Restricts a query to the rows following a sort key. JPQL has no row value
+ * comparison, so the key {@code (a, b) > (x, y)} is expanded to
+ * {@code (a > x) or (a = x and b > y)}. The sort attributes are taken from the
+ * {@link OrderByQueryStringPostProcessor}s registered on the same invocation.
+ * Key values must not be null.
+ */
+public class KeysetQueryStringPostProcessor implements QueryStringPostProcessor, JpaQueryPostProcessor
+{
+
+    private static final String PARAM_NAME = "deltaspikeKey";
+
+    private static final Pattern CLAUSE = Pattern.compile("\\s(where|group\\s+by|having|order\\s+by)\\s",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern POSITIONAL = Pattern.compile("\\?(\\d+)");
+
+    private final List<QueryStringPostProcessor> processors;
+    private final Object[] values;
+
+    private int firstPosition;
+
+    public KeysetQueryStringPostProcessor(List<QueryStringPostProcessor> processors, Object... values)
+    {
+        if (values == null || values.length == 0)
+        {
+            throw new IllegalArgumentException("Key must have at least one value");
+        }
+        for (int i = 0; i < values.length; i++)
+        {
+            if (values[i] == null)
+            {
+                // a comparison with null matches no row
+                throw new IllegalArgumentException("Key value " + i + " is null, sort attributes must not be null");
+            }
+        }
+        this.processors = processors;
+        this.values = values;
+    }
+
+    @Override
+    public String postProcess(String queryString)
+    {
+        List<OrderByQueryStringPostProcessor> orderBy = orderBy();
+        if (orderBy.size() != values.length)
+        {
+            throw new IllegalArgumentException("Key has " + values.length + " values but the query is ordered by "
+                    + orderBy.size() + " attributes");
+        }
+        firstPosition = nextPosition(queryString);
+        int where = -1;
+        int insert = queryString.length();
+        Matcher matcher = CLAUSE.matcher(queryString);
+        while (matcher.find())
+        {
+            if (!isTopLevel(queryString, matcher.start()))
+            {
+                continue;
+            }
+            if (where < 0 && "where".equalsIgnoreCase(matcher.group(1)))
+            {
+                where = matcher.end();
+            }
+            else if (!"where".equalsIgnoreCase(matcher.group(1)))
+            {
+                insert = matcher.start();
+                break;
+            }
+        }
+        StringBuilder result = new StringBuilder();
+        if (where >= 0)
+        {
+            result.append(queryString.substring(0, where))
+                    .append("(").append(queryString.substring(where, insert).trim()).append(") and ");
+        }
+        else
+        {
+            result.append(queryString.substring(0, insert)).append(" where ");
+        }
+        return appendPredicate(result, orderBy)
+                .append(queryString.substring(insert))
+                .toString();
+    }
+
+    @Override
+    public Query postProcess(CdiQueryInvocationContext context, Query query)
+    {
+        for (int i = 0; i < values.length; i++)
+        {
+            if (firstPosition > 0)
+            {
+                query.setParameter(firstPosition + i, values[i]);
+            }
+            else
+            {
+                query.setParameter(PARAM_NAME + i, values[i]);
+            }
+        }
+        return query;
+    }
+
+    private List<OrderByQueryStringPostProcessor> orderBy()
+    {
+        List<OrderByQueryStringPostProcessor> result = new ArrayList<OrderByQueryStringPostProcessor>();
+        for (QueryStringPostProcessor processor : processors)
+        {
+            if (processor instanceof OrderByQueryStringPostProcessor)
+            {
+                result.add((OrderByQueryStringPostProcessor) processor);
+            }
+        }
+        return result;
+    }
+
+    private StringBuilder appendPredicate(StringBuilder builder, List<OrderByQueryStringPostProcessor> orderBy)
+    {
+        builder.append("(");
+        for (int i = 0; i < orderBy.size(); i++)
+        {
+            if (i > 0)
+            {
+                builder.append(" or ");
+            }
+            builder.append("(");
+            for (int j = 0; j < i; j++)
+            {
+                appendComparison(builder, orderBy.get(j), "=", j).append(" and ");
+            }
+            String operator = orderBy.get(i).getDirection() == OrderDirection.ASC ? ">" : "<";
+            appendComparison(builder, orderBy.get(i), operator, i).append(")");
+        }
+        return builder.append(")");
+    }
+
+    private StringBuilder appendComparison(StringBuilder builder, OrderByQueryStringPostProcessor orderBy,
+            String operator, int index)
+    {
+        builder.append(QueryBuilder.ENTITY_NAME).append(".").append(orderBy.getAttribute())
+                .append(" ").append(operator).append(" ");
+        if (firstPosition > 0)
+        {
+            return builder.append("?").append(firstPosition + index);
+        }
+        return builder.append(":").append(PARAM_NAME).append(index);
+    }
+
+    private int nextPosition(String queryString)
+    {
+        int max = 0;
+        Matcher matcher = POSITIONAL.matcher(queryString);
+        while (matcher.find())
+        {
+            max = Math.max(max, Integer.parseInt(matcher.group(1)));
+        }
+        return max > 0 ? max + 1 : 0;
+    }
+
+    private boolean isTopLevel(String queryString, int index)
+    {
+        int depth = 0;
+        boolean literal = false;
+        for (int i = 0; i < index; i++)
+        {
+            char c = queryString.charAt(i);
+            if (c == '\'')
+            {
+                literal = !literal;
+            }
+            else if (!literal && c == '(')
+            {
+                depth++;
+            }
+            else if (!literal && c == ')')
+            {
+                depth--;
+            }
+        }
+        return depth == 0 && !literal;
+    }
+
+}
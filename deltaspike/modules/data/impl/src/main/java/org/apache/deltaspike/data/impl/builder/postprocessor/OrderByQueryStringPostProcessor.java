@@ -77,4 +77,14 @@ public class OrderByQueryStringPostProcessor implements QueryStringPostProcessor
         direction = direction.change();
     }
 
+    public String getAttribute()
+    {
+        return attribute;
+    }
+
+    public OrderDirection getDirection()
+    {
+        return direction;
+    }
+
 }
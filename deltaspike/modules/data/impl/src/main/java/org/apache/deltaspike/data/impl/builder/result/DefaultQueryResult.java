@@ -34,6 +34,7 @@ import org.apache.deltaspike.data.impl.builder.postprocessor.CountQueryPostProce
 import org.apache.deltaspike.data.impl.builder.postprocessor.FirstResultPostProcessor;
 import org.apache.deltaspike.data.impl.builder.postprocessor.FlushModePostProcessor;
 import org.apache.deltaspike.data.impl.builder.postprocessor.HintPostProcessor;
+import org.apache.deltaspike.data.impl.builder.postprocessor.KeysetQueryStringPostProcessor;
 import org.apache.deltaspike.data.impl.builder.postprocessor.LockModePostProcessor;
 import org.apache.deltaspike.data.impl.builder.postprocessor.MaxResultPostProcessor;
 import org.apache.deltaspike.data.impl.builder.postprocessor.OrderByQueryStringPostProcessor;
@@ -49,6 +50,8 @@ public class DefaultQueryResult<T> implements QueryResult<T>
     private int page = 0;
     private int pageSize = 10;
 
+    private KeysetQueryStringPostProcessor keyset;
+
     public DefaultQueryResult(QueryBuilder builder, CdiQueryInvocationContext context)
     {
         this.builder = builder;
@@ -151,6 +154,15 @@ public class DefaultQueryResult<T> implements QueryResult<T>
         return this;
     }
 
+    @Override
+    public QueryResult<T> afterKey(Object... lastValues)
+    {
+        removeKeyset();
+        keyset = new KeysetQueryStringPostProcessor(context.getQueryStringPostProcessors(), lastValues);
+        addKeyset();
+        return this;
+    }
+
     @Override
     public QueryResult<T> lockMode(LockModeType lockMode)
     {
@@ -210,6 +222,7 @@ public class DefaultQueryResult<T> implements QueryResult<T>
     public long count()
     {
         CountQueryPostProcessor counter = new CountQueryPostProcessor();
+        removeKeyset();
         context.addJpaQueryPostProcessor(counter);
         try
         {
@@ -227,6 +240,7 @@ public class DefaultQueryResult<T> implements QueryResult<T>
         finally
         {
             context.removeJpaQueryPostProcessor(counter);
+            addKeyset();
         }
     }
 
@@ -275,6 +289,24 @@ public class DefaultQueryResult<T> implements QueryResult<T>
         return pageSize;
     }
 
+    private void addKeyset()
+    {
+        if (keyset != null)
+        {
+            context.addQueryStringPostProcessor(keyset);
+            context.addJpaQueryPostProcessor(keyset);
+        }
+    }
+
+    private void removeKeyset()
+    {
+        if (keyset != null)
+        {
+            context.getQueryStringPostProcessors().remove(keyset);
+            context.removeJpaQueryPostProcessor(keyset);
+        }
+    }
+
     private <X> QueryResult<T> changeOrder(ChangeOrder changeOrder)
     {
         for (QueryStringPostProcessor processor : context.getQueryStringPostProcessors())
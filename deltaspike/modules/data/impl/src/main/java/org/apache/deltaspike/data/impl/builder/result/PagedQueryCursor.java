@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.builder.result;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.persistence.Query;
+
+import org.apache.deltaspike.data.api.CloseableIterator;
+
+/**
+ * Reads a query result page by page, using first and max results on the query. Every page executes the
+ * query again, so the query has to be ordered by a unique key, otherwise results can be skipped or repeated
+ * between pages. Each page also has to skip all previous rows in the database, provider cursors are preferred.
+ */
+class PagedQueryCursor implements CloseableIterator<Object>
+{
+
+    private final Query query;
+    private final int fetchSize;
+    private final int firstResult;
+
+    private int remaining;
+    private int read;
+    private Iterator<?> page;
+    private boolean lastPage;
+
+    PagedQueryCursor(Query query, int fetchSize, int firstResult, int maxResults)
+    {
+        this.query = query;
+        this.fetchSize = fetchSize;
+        this.firstResult = firstResult;
+        this.remaining = maxResults;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if (page != null && page.hasNext())
+        {
+            return true;
+        }
+        if (lastPage || remaining <= 0)
+        {
+            page = null;
+            return false;
+        }
+        fetchPage();
+        return page.hasNext();
+    }
+
+    @Override
+    public Object next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close()
+    {
+        page = null;
+        lastPage = true;
+    }
+
+    private void fetchPage()
+    {
+        int size = Math.min(fetchSize, remaining);
+        query.setFirstResult(firstResult + read);
+        query.setMaxResults(size);
+        List<?> result = query.getResultList();
+        read += result.size();
+        remaining -= result.size();
+        lastPage = result.size() < size;
+        page = result.iterator();
+    }
+
+}
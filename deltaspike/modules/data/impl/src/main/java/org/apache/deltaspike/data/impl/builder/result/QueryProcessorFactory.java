@@ -19,11 +19,13 @@
 package org.apache.deltaspike.data.impl.builder.result;
 
 import java.lang.reflect.Method;
+import java.util.Iterator;
 import java.util.List;
 
 import javax.persistence.NoResultException;
 import javax.persistence.Query;
 
+import org.apache.deltaspike.data.api.CloseableIterator;
 import org.apache.deltaspike.data.api.Modifying;
 import org.apache.deltaspike.data.api.QueryResult;
 import org.apache.deltaspike.data.api.SingleResultType;
@@ -50,6 +52,10 @@ public final class QueryProcessorFactory
         {
             return new NoOpQueryProcessor();
         }
+        if (isStreaming())
+        {
+            return newStreamingQueryProcessor();
+        }
         if (returns(List.class))
         {
             return new ListQueryProcessor();
@@ -69,6 +75,34 @@ public final class QueryProcessorFactory
         return method.isAnnotationPresent(Modifying.class) && matchesType;
     }
 
+    private boolean isStreaming()
+    {
+        return returnsExactly(Iterator.class) || returnsExactly(CloseableIterator.class) ||
+                (returnsExactly(Iterable.class) && hasFetchSize());
+    }
+
+    private boolean hasFetchSize()
+    {
+        org.apache.deltaspike.data.api.Query query = method.getAnnotation(org.apache.deltaspike.data.api.Query.class);
+        return query != null && query.fetchSize() > 0;
+    }
+
+    private QueryProcessor newStreamingQueryProcessor()
+    {
+        Class<org.apache.deltaspike.data.api.Query> query = org.apache.deltaspike.data.api.Query.class;
+        if (method.isAnnotationPresent(query))
+        {
+            return new StreamingQueryProcessor(returnsExactly(Iterable.class),
+                    method.getAnnotation(query).fetchSize(), method.getAnnotation(query).clearBetweenFetches());
+        }
+        return new StreamingQueryProcessor(returnsExactly(Iterable.class), 0, false);
+    }
+
+    private boolean returnsExactly(Class<?> clazz)
+    {
+        return method.getReturnType().equals(clazz);
+    }
+
     private boolean returns(Class<?> clazz)
     {
         return method.getReturnType().isAssignableFrom(clazz);
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.builder.result;
+
+import java.util.regex.Pattern;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+import org.apache.deltaspike.data.impl.handler.CdiQueryInvocationContext;
+import org.apache.deltaspike.data.impl.util.jpa.QueryStringExtractorFactory;
+
+/**
+ * Returns the query result as {@link java.util.Iterator} or {@link Iterable} which is read lazily.
+ */
+final class StreamingQueryProcessor implements QueryProcessor
+{
+
+    /**
+     * Number of results fetched at once if not defined by {@link org.apache.deltaspike.data.api.Query#fetchSize()}.
+     */
+    static final String FETCH_SIZE = "deltaspike.data.streaming.fetch_size";
+
+    /**
+     * Use provider specific cursors (Hibernate scrollable results, EclipseLink cursored streams)
+     * instead of paging. Enabled by default; paging re-executes the query with a growing offset
+     * and is only used if the provider isn't supported or this is set to {@code false}.
+     */
+    static final String PROVIDER_SCROLLING = "deltaspike.data.streaming.provider_scrolling";
+
+    private static final int DEFAULT_FETCH_SIZE = 100;
+
+    private static final ConfigResolver.TypedResolver<Integer> DEFAULT_FETCH_SIZE_CONFIG =
+        ConfigResolver.resolve(FETCH_SIZE).as(Integer.class).withDefault(DEFAULT_FETCH_SIZE);
+
+    private static final ConfigResolver.TypedResolver<Boolean> PROVIDER_SCROLLING_CONFIG =
+        ConfigResolver.resolve(PROVIDER_SCROLLING).as(Boolean.class).withDefault(Boolean.TRUE);
+
+    private static final Pattern ORDER_BY = Pattern.compile("\\border\\s+by\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final QueryStringExtractorFactory EXTRACTORS = new QueryStringExtractorFactory();
+
+    private final boolean iterable;
+    private final int fetchSize;
+    private final boolean clearBetweenFetches;
+
+    StreamingQueryProcessor(boolean iterable, int fetchSize, boolean clearBetweenFetches)
+    {
+        this.iterable = iterable;
+        this.fetchSize = fetchSize;
+        this.clearBetweenFetches = clearBetweenFetches;
+    }
+
+    @Override
+    public Object executeQuery(Query query, CdiQueryInvocationContext context)
+    {
+        int size = fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE_CONFIG.getValue();
+        boolean scroll = PROVIDER_SCROLLING_CONFIG.getValue();
+        boolean ordered = isOrdered(query, context);
+        EntityManager clearedEntityManager = clearBetweenFetches ? context.getEntityManager() : null;
+        if (iterable)
+        {
+            return new StreamingResultIterable(query, size, scroll, ordered, clearedEntityManager);
+        }
+        return StreamingResultIterator.open(query, size, query.getFirstResult(), query.getMaxResults(),
+                scroll, ordered, clearedEntityManager);
+    }
+
+    /**
+     * Paging is only deterministic if the query has an order by clause, see {@link PagedQueryCursor}.
+     */
+    private static boolean isOrdered(Query query, CdiQueryInvocationContext context)
+    {
+        String queryString = context.getQueryString();
+        if (queryString == null)
+        {
+            try
+            {
+                queryString = EXTRACTORS.extract(query);
+            }
+            catch (RuntimeException e)
+            {
+                return false;
+            }
+        }
+        return queryString != null && ORDER_BY.matcher(queryString).find();
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.builder.result;
+
+import java.util.Iterator;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.apache.deltaspike.data.api.mapping.QueryInOutMapper;
+
+/**
+ * Iterable returned to the caller of a streaming repository method. Every call to {@link #iterator()}
+ * executes the query again.
+ */
+public final class StreamingResultIterable implements Iterable<Object>, StreamingResult
+{
+
+    private final Query query;
+    private final int fetchSize;
+    private final int firstResult;
+    private final int maxResults;
+    private final boolean scroll;
+    private final boolean ordered;
+    private final EntityManager clearedEntityManager;
+
+    private QueryInOutMapper<Object> mapper;
+
+    StreamingResultIterable(Query query, int fetchSize, boolean scroll, boolean ordered,
+            EntityManager clearedEntityManager)
+    {
+        this.query = query;
+        this.fetchSize = fetchSize;
+        // the paged cursor modifies the query, so the original window has to be kept
+        this.firstResult = query.getFirstResult();
+        this.maxResults = query.getMaxResults();
+        this.scroll = scroll;
+        this.ordered = ordered;
+        this.clearedEntityManager = clearedEntityManager;
+    }
+
+    @Override
+    public void mapWith(QueryInOutMapper<Object> mapper)
+    {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Iterator<Object> iterator()
+    {
+        StreamingResultIterator result = StreamingResultIterator.open(query, fetchSize, firstResult, maxResults,
+                scroll, ordered, clearedEntityManager);
+        result.mapWith(mapper);
+        return result;
+    }
+
+}
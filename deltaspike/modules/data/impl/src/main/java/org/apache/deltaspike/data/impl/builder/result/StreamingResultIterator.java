@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.builder.result;
+
+import java.util.NoSuchElementException;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.apache.deltaspike.data.api.CloseableIterator;
+import org.apache.deltaspike.data.api.mapping.QueryInOutMapper;
+import org.apache.deltaspike.data.impl.util.jpa.QueryScrollerFactory;
+
+/**
+ * Iterator returned to the caller of a streaming repository method. Reads from either a provider
+ * cursor or a {@link PagedQueryCursor}, optionally clears the persistence context after each fetch
+ * and closes the cursor once the result is exhausted.
+ */
+public final class StreamingResultIterator implements CloseableIterator<Object>, StreamingResult
+{
+
+    private static final QueryScrollerFactory SCROLLERS = new QueryScrollerFactory();
+
+    private final CloseableIterator<Object> cursor;
+    private final int fetchSize;
+    private final EntityManager clearedEntityManager;
+
+    private QueryInOutMapper<Object> mapper;
+    private int read;
+    private int clearedAt;
+    private boolean closed;
+
+    private StreamingResultIterator(CloseableIterator<Object> cursor, int fetchSize,
+            EntityManager clearedEntityManager)
+    {
+        this.cursor = cursor;
+        this.fetchSize = fetchSize;
+        this.clearedEntityManager = clearedEntityManager;
+    }
+
+    /**
+     * Opens a new iterator on the query result.
+     *
+     * @param query                 The query to stream.
+     * @param fetchSize             Number of results fetched at once.
+     * @param firstResult           Position of the first result to read.
+     * @param maxResults            Maximum number of results to read.
+     * @param scroll                Use a provider cursor if the persistence provider supports it.
+     * @param ordered               Whether the query has an order by clause. Without a provider cursor,
+     *                              an unordered result is only read if it fits into one fetch.
+     * @param clearedEntityManager  Entity manager to clear after each fetch, {@code null} to keep
+     *                              the fetched entities managed.
+     * @return The result iterator.
+     * @throws IllegalStateException If the result would be paged, but the query is not ordered.
+     */
+    static StreamingResultIterator open(Query query, int fetchSize, int firstResult, int maxResults,
+            boolean scroll, boolean ordered, EntityManager clearedEntityManager)
+    {
+        CloseableIterator<Object> cursor = null;
+        if (scroll)
+        {
+            if (query.getFirstResult() != firstResult)
+            {
+                query.setFirstResult(firstResult);
+            }
+            if (query.getMaxResults() != maxResults)
+            {
+                query.setMaxResults(maxResults);
+            }
+            cursor = SCROLLERS.scroll(query, fetchSize);
+        }
+        if (cursor == null)
+        {
+            if (!ordered && maxResults > fetchSize)
+            {
+                throw new IllegalStateException("Streaming without a provider cursor reads the result page by page, "
+                        + "which requires an order by clause on a unique key to not skip or repeat results");
+            }
+            cursor = new PagedQueryCursor(query, fetchSize, firstResult, maxResults);
+        }
+        return new StreamingResultIterator(cursor, fetchSize, clearedEntityManager);
+    }
+
+    @Override
+    public void mapWith(QueryInOutMapper<Object> mapper)
+    {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if (closed)
+        {
+            return false;
+        }
+        // clear before the cursor fetches the next chunk, otherwise it would get detached as well
+        if (clearedEntityManager != null && read > clearedAt && read % fetchSize == 0)
+        {
+            clearedEntityManager.clear();
+            clearedAt = read;
+        }
+        if (cursor.hasNext())
+        {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public Object next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+        Object result = cursor.next();
+        read++;
+        return mapper != null ? mapper.mapResult(result) : result;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close()
+    {
+        if (!closed)
+        {
+            closed = true;
+            cursor.close();
+        }
+    }
+
+}
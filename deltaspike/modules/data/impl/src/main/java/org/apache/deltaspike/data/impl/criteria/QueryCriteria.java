@@ -57,6 +57,7 @@ import org.apache.deltaspike.data.impl.criteria.predicate.IsNotEmpty;
 import org.apache.deltaspike.data.impl.criteria.predicate.IsNotNull;
 import org.apache.deltaspike.data.impl.criteria.predicate.IsNull;
 import org.apache.deltaspike.data.impl.criteria.predicate.JoinBuilder;
+import org.apache.deltaspike.data.impl.criteria.predicate.KeysetBuilder;
 import org.apache.deltaspike.data.impl.criteria.predicate.LessThan;
 import org.apache.deltaspike.data.impl.criteria.predicate.LessThanOrEqual;
 import org.apache.deltaspike.data.impl.criteria.predicate.Like;
@@ -78,6 +79,7 @@ public class QueryCriteria<C, R> implements Criteria<C, R>
     private JoinType joinType;
     private final boolean ignoreNull = true;
     private boolean distinct = false;
+    private Object[] keyset;
 
     private final List<PredicateBuilder<C>> builders = new LinkedList<PredicateBuilder<C>>();
     private final List<QueryProcessor<C>> processors = new LinkedList<QueryProcessor<C>>();
@@ -145,6 +147,10 @@ public class QueryCriteria<C, R> implements Criteria<C, R>
                 query.multiselect(prepareSelections(query, builder, root));
             }
             List<Predicate> predicates = predicates(builder, root);
+            if (keyset != null)
+            {
+                predicates.addAll(new KeysetBuilder<C>(orderBy(), keyset).build(builder, root));
+            }
             query.distinct(distinct);
             if (!predicates.isEmpty())
             {
@@ -250,6 +256,25 @@ public class QueryCriteria<C, R> implements Criteria<C, R>
         return this;
     }
 
+    @Override
+    public Criteria<C, R> afterKey(Object... lastValues)
+    {
+        if (lastValues == null || lastValues.length == 0)
+        {
+            throw new IllegalArgumentException("Key must have at least one value");
+        }
+        for (int i = 0; i < lastValues.length; i++)
+        {
+            if (lastValues[i] == null)
+            {
+                // a comparison with null matches no row
+                throw new IllegalArgumentException("Key value " + i + " is null, sort attributes must not be null");
+            }
+        }
+        keyset = lastValues;
+        return this;
+    }
+
     @Override
     public Criteria<C, R> distinct()
     {
@@ -263,6 +288,7 @@ public class QueryCriteria<C, R> implements Criteria<C, R>
         QueryCriteria<C, N> result = new QueryCriteria<C, N>(entityClass, resultClass, entityManager, joinType);
         result.builders.addAll(this.builders);
         result.distinct = this.distinct;
+        result.keyset = this.keyset;
         result.processors.addAll(this.processors);
         result.selections.addAll(Arrays.asList(selection));
         return result;
@@ -333,6 +359,19 @@ public class QueryCriteria<C, R> implements Criteria<C, R>
         processors.add(proc);
     }
 
+    private List<OrderBy<C, ?>> orderBy()
+    {
+        List<OrderBy<C, ?>> result = new ArrayList<OrderBy<C, ?>>();
+        for (QueryProcessor<C> proc : processors)
+        {
+            if (proc instanceof OrderBy)
+            {
+                result.add((OrderBy<C, ?>) proc);
+            }
+        }
+        return result;
+    }
+
     private Selection<?>[] prepareSelections(CriteriaQuery<R> query, CriteriaBuilder builder, From<C, C> root)
     {
         List<Selection<?>> result = new ArrayList<Selection<?>>(selections.size());
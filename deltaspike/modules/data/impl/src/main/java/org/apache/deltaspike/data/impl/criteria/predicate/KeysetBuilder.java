@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.criteria.predicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+
+import org.apache.deltaspike.data.impl.builder.OrderDirection;
+import org.apache.deltaspike.data.impl.criteria.processor.OrderBy;
+
+/**
+ * Seek predicate for keyset pagination, expanding {@code (a, b) > (x, y)}
+ * to {@code (a > x) or (a = x and b > y)}.
+ */
+public class KeysetBuilder<P> implements PredicateBuilder<P>
+{
+
+    private final List<OrderBy<P, ?>> orderBy;
+    private final Object[] values;
+
+    public KeysetBuilder(List<OrderBy<P, ?>> orderBy, Object... values)
+    {
+        if (orderBy.size() != values.length)
+        {
+            throw new IllegalArgumentException("Key has " + values.length + " values but the query is ordered by "
+                    + orderBy.size() + " attributes");
+        }
+        this.orderBy = orderBy;
+        this.values = values;
+    }
+
+    @Override
+    public List<Predicate> build(CriteriaBuilder builder, Path<P> path)
+    {
+        List<Predicate> or = new ArrayList<Predicate>(values.length);
+        for (int i = 0; i < values.length; i++)
+        {
+            List<Predicate> and = new ArrayList<Predicate>(i + 1);
+            for (int j = 0; j < i; j++)
+            {
+                and.add(builder.equal(path.get(orderBy.get(j).getAttribute()), values[j]));
+            }
+            and.add(compare(builder, path, orderBy.get(i), values[i]));
+            or.add(builder.and(and.toArray(new Predicate[0])));
+        }
+        return Arrays.asList(builder.or(or.toArray(new Predicate[0])));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate compare(CriteriaBuilder builder, Path<P> path, OrderBy<P, ?> order, Object value)
+    {
+        Path<Comparable> attribute = (Path<Comparable>) path.get(order.getAttribute());
+        if (order.getDirection() == OrderDirection.ASC)
+        {
+            return builder.greaterThan(attribute, (Comparable) value);
+        }
+        return builder.lessThan(attribute, (Comparable) value);
+    }
+
+}
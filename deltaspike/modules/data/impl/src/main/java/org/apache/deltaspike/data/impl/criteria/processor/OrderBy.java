@@ -18,8 +18,12 @@
  */
 package org.apache.deltaspike.data.impl.criteria.processor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Path;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -40,14 +44,30 @@ public class OrderBy<P, V> implements QueryProcessor<P>
     @Override
     public <R> void process(CriteriaQuery<R> query, CriteriaBuilder builder, Path<P> path)
     {
+        List<Order> orders = new ArrayList<Order>();
+        if (query.getOrderList() != null)
+        {
+            orders.addAll(query.getOrderList());
+        }
         switch (dir)
         {
             case ASC:
-                query.orderBy(builder.asc(path.get(att)));
+                orders.add(builder.asc(path.get(att)));
                 break;
             default:
-                query.orderBy(builder.desc(path.get(att)));
+                orders.add(builder.desc(path.get(att)));
         }
+        query.orderBy(orders);
+    }
+
+    public SingularAttribute<? super P, V> getAttribute()
+    {
+        return att;
+    }
+
+    public OrderDirection getDirection()
+    {
+        return dir;
     }
 
 }
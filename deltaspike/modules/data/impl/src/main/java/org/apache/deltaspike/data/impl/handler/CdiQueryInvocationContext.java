@@ -53,7 +53,7 @@ public class CdiQueryInvocationContext implements QueryInvocationContext
     {
         this.entityManager = entityManager;
         this.args = args == null ? new Object[] {} : args;
-        this.params = Parameters.create(method, this.args);
+        this.params = Parameters.create(repoMethod.getParameterBindings(), this.args);
         this.proxy = proxy;
         this.method = method;
         this.repoMethod = repoMethod;
@@ -18,7 +18,6 @@
  */
 package org.apache.deltaspike.data.impl.handler;
 
-import static org.apache.deltaspike.data.impl.util.EntityUtils.entityName;
 import static org.apache.deltaspike.data.impl.util.QueryUtils.isEmpty;
 import static org.apache.deltaspike.data.impl.util.QueryUtils.isString;
 
@@ -36,13 +35,14 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.metamodel.SingularAttribute;
 
 import org.apache.deltaspike.data.api.EntityRepository;
-import org.apache.deltaspike.data.impl.builder.QueryBuilder;
+import org.apache.deltaspike.data.impl.meta.RepositoryComponent;
 import org.apache.deltaspike.data.impl.meta.RequiresTransaction;
 import org.apache.deltaspike.data.impl.property.Property;
 import org.apache.deltaspike.data.impl.property.query.NamedPropertyCriteria;
 import org.apache.deltaspike.data.impl.property.query.PropertyQueries;
+import org.apache.deltaspike.data.impl.util.jpa.JdbcBatchSize;
+import org.apache.deltaspike.data.impl.util.jpa.NamedQueryRegistry;
 import org.apache.deltaspike.data.spi.DelegateQueryHandler;
-import org.apache.deltaspike.data.spi.QueryInvocationContext;
 
 /**
  * Implement basic functionality from the {@link EntityRepository}.
@@ -56,8 +56,11 @@ public class EntityRepositoryHandler<E, PK extends Serializable>
 
     private static final Logger log = Logger.getLogger(EntityRepositoryHandler.class.getName());
 
+    private static final String QUERY_ALL = "all";
+    private static final String QUERY_COUNT = "count";
+
     @Inject
-    private QueryInvocationContext context;
+    private CdiQueryInvocationContext context;
 
     @Override
     @RequiresTransaction
@@ -89,6 +92,35 @@ public class EntityRepositoryHandler<E, PK extends Serializable>
         return result;
     }
 
+    @Override
+    @RequiresTransaction
+    public void saveAll(Iterable<E> entities)
+    {
+        int batchSize = repository().getBatchSize();
+        JdbcBatchSize jdbcBatchSize = JdbcBatchSize.apply(entityManager(), batchSize);
+        try
+        {
+            int count = 0;
+            for (E entity : entities)
+            {
+                save(entity);
+                flushAndClearBatch(++count, batchSize);
+            }
+        }
+        finally
+        {
+            jdbcBatchSize.restore();
+        }
+    }
+
+    @Override
+    @RequiresTransaction
+    public void saveAllAndFlush(Iterable<E> entities)
+    {
+        saveAll(entities);
+        flush();
+    }
+
     @Override
     @RequiresTransaction
     public void refresh(E entity)
@@ -129,13 +161,13 @@ public class EntityRepositoryHandler<E, PK extends Serializable>
     @Override
     public List<E> findAll()
     {
-        return entityManager().createQuery(allQuery(), entityClass()).getResultList();
+        return createQuery(QUERY_ALL, allQuery(), entityClass()).getResultList();
     }
 
     @Override
     public List<E> findAll(int start, int max)
     {
-        TypedQuery<E> query = entityManager().createQuery(allQuery(), entityClass());
+        TypedQuery<E> query = createQuery(QUERY_ALL, allQuery(), entityClass());
         if (start > 0)
         {
             query.setFirstResult(start);
@@ -150,7 +182,7 @@ public class EntityRepositoryHandler<E, PK extends Serializable>
     @Override
     public Long count()
     {
-        return entityManager().createQuery(countQuery(), Long.class).getSingleResult();
+        return createQuery(QUERY_COUNT, countQuery(), Long.class).getSingleResult();
     }
 
     @Override
@@ -172,6 +204,29 @@ public class EntityRepositoryHandler<E, PK extends Serializable>
         entityManager().remove(entity);
     }
 
+    @Override
+    @RequiresTransaction
+    public void removeAll(Iterable<E> entities)
+    {
+        EntityManager entityManager = entityManager();
+        int batchSize = repository().getBatchSize();
+        JdbcBatchSize jdbcBatchSize = JdbcBatchSize.apply(entityManager, batchSize);
+        try
+        {
+            int count = 0;
+            for (E entity : entities)
+            {
+                // entities of a previous batch got detached by the clear
+                entityManager.remove(entityManager.contains(entity) ? entity : entityManager.merge(entity));
+                flushAndClearBatch(++count, batchSize);
+            }
+        }
+        finally
+        {
+            jdbcBatchSize.restore();
+        }
+    }
+
     @Override
     @RequiresTransaction
     public void removeAndFlush(E entity)
@@ -207,14 +262,60 @@ public class EntityRepositoryHandler<E, PK extends Serializable>
     // PRIVATE
     // ----------------------------------------------------------------------------
 
+    private RepositoryComponent repository()
+    {
+        return context.getRepositoryMethod().getRepository();
+    }
+
+    private void flushAndClearBatch(int count, int batchSize)
+    {
+        if (batchSize > 0 && count % batchSize == 0)
+        {
+            EntityManager entityManager = entityManager();
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
     private String allQuery()
     {
-        return QueryBuilder.selectQuery(entityName(entityClass()));
+        return repository().getSelectQuery();
     }
 
     private String countQuery()
     {
-        return QueryBuilder.countQuery(entityName(entityClass()));
+        return repository().getCountQuery();
+    }
+
+    private <T> TypedQuery<T> createQuery(String name, String jpql, Class<T> resultClass)
+    {
+        RepositoryComponent repository = repository();
+        if (repository.isNamedQueries())
+        {
+            return NamedQueryRegistry.createQuery(entityManager(), repository.namedQueryName(name), jpql, resultClass);
+        }
+        return entityManager().createQuery(jpql, resultClass);
+    }
+
+    private ExampleQuery exampleQuery(String queryName, String queryBase, boolean useLikeOperator,
+            SingularAttribute<E, ?>... attributes)
+    {
+        StringBuilder key = new StringBuilder(queryName).append(useLikeOperator ? "Like" : "");
+        for (SingularAttribute<E, ?> attribute : attributes)
+        {
+            key.append('_').append(attribute.getName());
+        }
+        String cacheKey = key.toString();
+        RepositoryComponent repository = repository();
+        ExampleQuery result = repository.lookupExampleQuery(cacheKey);
+        if (result == null)
+        {
+            List<Property<Object>> properties = extractProperties(attributes);
+            String jpqlQuery = exampleQuery(queryBase, properties, useLikeOperator);
+            log.log(Level.FINER, "{0}: Created query {1}", new Object[] { cacheKey, jpqlQuery });
+            result = repository.cacheExampleQuery(cacheKey, new ExampleQuery(cacheKey, jpqlQuery, properties));
+        }
+        return result;
     }
 
     private String exampleQuery(String queryBase, List<Property<Object>> properties, boolean useLikeOperator)
@@ -296,10 +397,8 @@ public class EntityRepositoryHandler<E, PK extends Serializable>
             return findAll(start, max);
         }
 
-        List<Property<Object>> properties = extractProperties(attributes);
-        String jpqlQuery = exampleQuery(allQuery(), properties, useLikeOperator);
-        log.log(Level.FINER, "findBy|findByLike: Created query {0}", jpqlQuery);
-        TypedQuery<E> query = entityManager().createQuery(jpqlQuery, entityClass());
+        ExampleQuery exampleQuery = exampleQuery(QUERY_ALL, allQuery(), useLikeOperator, attributes);
+        TypedQuery<E> query = createQuery(exampleQuery.getName(), exampleQuery.getJpql(), entityClass());
 
         // set starting position
         if (start > 0)
@@ -313,7 +412,7 @@ public class EntityRepositoryHandler<E, PK extends Serializable>
             query.setMaxResults(max);
         }
 
-        addParameters(query, example, properties, useLikeOperator);
+        addParameters(query, example, exampleQuery.getProperties(), useLikeOperator);
         return query.getResultList();
     }
 
@@ -323,11 +422,9 @@ public class EntityRepositoryHandler<E, PK extends Serializable>
         {
             return count();
         }
-        List<Property<Object>> properties = extractProperties(attributes);
-        String jpqlQuery = exampleQuery(countQuery(), properties, useLikeOperator);
-        log.log(Level.FINER, "count: Created query {0}", jpqlQuery);
-        TypedQuery<Long> query = entityManager().createQuery(jpqlQuery, Long.class);
-        addParameters(query, example, properties, useLikeOperator);
+        ExampleQuery exampleQuery = exampleQuery(QUERY_COUNT, countQuery(), useLikeOperator, attributes);
+        TypedQuery<Long> query = createQuery(exampleQuery.getName(), exampleQuery.getJpql(), Long.class);
+        addParameters(query, example, exampleQuery.getProperties(), useLikeOperator);
         return query.getSingleResult();
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.handler;
+
+import java.util.List;
+
+import org.apache.deltaspike.data.impl.property.Property;
+
+/**
+ * A generated query by example. The query string only depends on the entity, the query base
+ * (select or count), the operator and the set of example attributes, so instances get cached
+ * per {@link org.apache.deltaspike.data.impl.meta.RepositoryComponent} and reused for all example
+ * values.
+ */
+public final class ExampleQuery
+{
+
+    private final String name;
+    private final String jpql;
+    private final List<Property<Object>> properties;
+
+    public ExampleQuery(String name, String jpql, List<Property<Object>> properties)
+    {
+        this.name = name;
+        this.jpql = jpql;
+        this.properties = properties;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public String getJpql()
+    {
+        return jpql;
+    }
+
+    public List<Property<Object>> getProperties()
+    {
+        return properties;
+    }
+
+}
@@ -18,12 +18,9 @@
  */
 package org.apache.deltaspike.data.impl.handler;
 
-import static org.apache.deltaspike.data.impl.util.ProxyUtils.extractFromProxy;
-
 import java.io.Serializable;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -72,9 +69,8 @@ public class QueryHandler implements Serializable, InvocationHandler
         CdiQueryInvocationContext queryContext = null;
         try
         {
-            List<Class<?>> candidates = extractFromProxy(proxy.getClass());
-            RepositoryComponent repo = components.lookupComponent(candidates);
-            RepositoryMethod repoMethod = components.lookupMethod(repo.getRepositoryClass(), method);
+            RepositoryComponent repo = components.lookupComponentForProxy(proxy.getClass());
+            RepositoryMethod repoMethod = repo.lookupMethod(method);
             queryContext = createContext(proxy, method, args, repo, repoMethod);
             QueryBuilder builder = queryBuilder.build(repoMethod, queryContext);
             Object result = runner.executeQuery(builder, queryContext);
@@ -27,6 +27,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,10 +36,13 @@ import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.persistence.FlushModeType;
 
+import org.apache.deltaspike.core.api.config.ConfigResolver;
 import org.apache.deltaspike.core.api.provider.BeanManagerProvider;
 import org.apache.deltaspike.data.api.EntityManagerConfig;
 import org.apache.deltaspike.data.api.EntityManagerResolver;
 import org.apache.deltaspike.data.api.Repository;
+import org.apache.deltaspike.data.impl.builder.QueryBuilder;
+import org.apache.deltaspike.data.impl.handler.ExampleQuery;
 import org.apache.deltaspike.data.impl.util.EntityUtils;
 
 /**
@@ -48,10 +53,27 @@ import org.apache.deltaspike.data.impl.util.EntityUtils;
  * <li>The primary key class</li>
  * <li>All methods of the Repository.</li>
  * </ul>
+ * Also caches the JPQL strings generated for the {@link org.apache.deltaspike.data.api.EntityRepository}
+ * methods, which only depend on the entity.
  */
 public class RepositoryComponent
 {
 
+    /**
+     * Register the generated {@link org.apache.deltaspike.data.api.EntityRepository} queries as named queries
+     * (requires a JPA 2.1 provider). Disabled by default.
+     */
+    public static final String NAMED_QUERIES_ENABLED = "deltaspike.data.named_queries.enabled";
+
+    /**
+     * Default batch size of {@link org.apache.deltaspike.data.api.EntityRepository#saveAll(Iterable)} and
+     * {@link org.apache.deltaspike.data.api.EntityRepository#removeAll(Iterable)}, if not configured with
+     * {@link EntityManagerConfig#batchSize()}.
+     */
+    public static final String BATCH_SIZE = "deltaspike.data.batch_size";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
     private static final Logger log = Logger.getLogger(RepositoryComponent.class.getName());
 
     private volatile Boolean entityManagerResolverIsNormalScope;
@@ -60,8 +82,16 @@ public class RepositoryComponent
     private final RepositoryEntity entityClass;
     private final Class<? extends EntityManagerResolver> entityManagerResolver;
     private final FlushModeType entityManagerFlushMode;
+    private final int entityManagerBatchSize;
 
     private final Map<Method, RepositoryMethod> methods = new HashMap<Method, RepositoryMethod>();
+    private final ConcurrentMap<String, ExampleQuery> exampleQueries = new ConcurrentHashMap<String, ExampleQuery>();
+
+    // written by initialize() before entityManagerResolverIsNormalScope gets published
+    private String selectQuery;
+    private String countQuery;
+    private boolean namedQueries;
+    private int batchSize;
 
     public RepositoryComponent(Class<?> repoClass, RepositoryEntity entityClass)
     {
@@ -73,6 +103,7 @@ public class RepositoryComponent
         this.entityClass = entityClass;
         this.entityManagerResolver = extractEntityManagerResolver(repoClass);
         this.entityManagerFlushMode = extractEntityManagerFlushMode(repoClass);
+        this.entityManagerBatchSize = extractEntityManagerBatchSize(repoClass);
     }
 
     //don't trigger this lookup during ProcessAnnotatedType
@@ -91,6 +122,10 @@ public class RepositoryComponent
             return;
         }
 
+        // the methods have to be available before the volatile field gets published,
+        // since lookupMethod doesn't lock
+        initialize();
+
         if (entityManagerResolver != null && beanManager != null)
         {
             final Set<Bean<?>> beans = beanManager.getBeans(entityManagerResolver);
@@ -101,8 +136,6 @@ public class RepositoryComponent
         {
             entityManagerResolverIsNormalScope = false;
         }
-
-        initialize();
     }
 
     public boolean isEntityManagerResolverIsNormalScope()
@@ -128,6 +161,85 @@ public class RepositoryComponent
         return methods.get(method);
     }
 
+    /**
+     * Gets the query selecting all entities, e.g. {@code select e from Simple e}.
+     *
+     * @return The JPQL query string.
+     */
+    public String getSelectQuery()
+    {
+        lazyInit();
+        return selectQuery;
+    }
+
+    /**
+     * Gets the query counting all entities, e.g. {@code select count(e) from Simple e}.
+     *
+     * @return The JPQL query string.
+     */
+    public String getCountQuery()
+    {
+        lazyInit();
+        return countQuery;
+    }
+
+    /**
+     * Whether the generated queries should be registered as named queries.
+     *
+     * @return {@code true} if {@value #NAMED_QUERIES_ENABLED} is set.
+     */
+    public boolean isNamedQueries()
+    {
+        lazyInit();
+        return namedQueries;
+    }
+
+    /**
+     * Number of entities after which batch operations flush and clear the EntityManager.
+     *
+     * @return The batch size.
+     */
+    public int getBatchSize()
+    {
+        lazyInit();
+        return batchSize;
+    }
+
+    /**
+     * Unique query name for a generated query of this Repository's entity.
+     *
+     * @param suffix    Name of the query within the entity.
+     * @return The named query name.
+     */
+    public String namedQueryName(String suffix)
+    {
+        return "deltaspike.data." + getEntityClass().getName() + "." + suffix;
+    }
+
+    /**
+     * Looks up a cached query by example.
+     *
+     * @param key       The example query key, built from query base, operator and attributes.
+     * @return The cached query, or {@code null} if it wasn't created yet.
+     */
+    public ExampleQuery lookupExampleQuery(String key)
+    {
+        return exampleQueries.get(key);
+    }
+
+    /**
+     * Caches a query by example, unless another thread was faster.
+     *
+     * @param key       The example query key.
+     * @param query     The query created for the key.
+     * @return The cached query.
+     */
+    public ExampleQuery cacheExampleQuery(String key, ExampleQuery query)
+    {
+        ExampleQuery existing = exampleQueries.putIfAbsent(key, query);
+        return existing != null ? existing : query;
+    }
+
     /**
      * Looks up the method type by a Method object.
      *
@@ -191,6 +303,14 @@ public class RepositoryComponent
 
     private void initialize()
     {
+        String entityName = getEntityName();
+        selectQuery = QueryBuilder.selectQuery(entityName);
+        countQuery = QueryBuilder.countQuery(entityName);
+        namedQueries = ConfigResolver.resolve(NAMED_QUERIES_ENABLED).as(Boolean.class).withDefault(Boolean.FALSE)
+                .getValue();
+        batchSize = entityManagerBatchSize > 0 ? entityManagerBatchSize :
+                ConfigResolver.resolve(BATCH_SIZE).as(Integer.class).withDefault(DEFAULT_BATCH_SIZE).getValue();
+
         Collection<Class<?>> allImplemented = collectClasses();
         for (Class<?> implemented : allImplemented)
         {
@@ -241,6 +361,16 @@ public class RepositoryComponent
         return null;
     }
 
+    private int extractEntityManagerBatchSize(Class<?> clazz)
+    {
+        EntityManagerConfig config = extractEntityManagerConfig(clazz);
+        if (config != null)
+        {
+            return config.batchSize();
+        }
+        return 0;
+    }
+
     private EntityManagerConfig extractEntityManagerConfig(Class<?> clazz)
     {
         if (clazz.isAnnotationPresent(EntityManagerConfig.class))
@@ -22,6 +22,7 @@ import org.apache.deltaspike.data.impl.RepositoryDefinitionException;
 import org.apache.deltaspike.data.impl.meta.extractor.AnnotationMetadataExtractor;
 import org.apache.deltaspike.data.impl.meta.extractor.MetadataExtractor;
 import org.apache.deltaspike.data.impl.meta.extractor.TypeMetadataExtractor;
+import org.apache.deltaspike.data.impl.util.ProxyUtils;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
@@ -29,6 +30,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Convenience class to access Repository and Repository method meta data.
@@ -41,6 +44,10 @@ public class RepositoryComponents implements Serializable
 
     private final Map<Class<?>, RepositoryComponent> repos = new HashMap<Class<?>, RepositoryComponent>();
 
+    // Repository proxy class -> component, avoids to inspect the proxy class with every invocation
+    private final ConcurrentMap<Class<?>, RepositoryComponent> proxyComponents =
+            new ConcurrentHashMap<Class<?>, RepositoryComponent>();
+
     private final List<MetadataExtractor> extractors = Arrays.asList(new AnnotationMetadataExtractor(),
             new TypeMetadataExtractor());
 
@@ -78,6 +85,24 @@ public class RepositoryComponents implements Serializable
         throw new RuntimeException("Unknown Repository classes " + candidateClasses);
     }
 
+    /**
+     * Repository access - lookup the Repository component meta data for a proxy of a Repository.
+     * The result is cached per proxy class.
+     *
+     * @param proxyClass  The class of the Repository proxy.
+     * @return A {@link RepositoryComponent} corresponding to the proxyClass parameter.
+     */
+    public RepositoryComponent lookupComponentForProxy(Class<?> proxyClass)
+    {
+        RepositoryComponent result = proxyComponents.get(proxyClass);
+        if (result == null)
+        {
+            result = lookupComponent(ProxyUtils.extractFromProxy(proxyClass));
+            proxyComponents.put(proxyClass, result);
+        }
+        return result;
+    }
+
     /**
      * Repository access - lookup the Repository component meta data for a specific Repository class.
      *
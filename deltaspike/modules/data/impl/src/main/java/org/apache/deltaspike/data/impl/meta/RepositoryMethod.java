@@ -18,6 +18,7 @@
  */
 package org.apache.deltaspike.data.impl.meta;
 
+import static org.apache.deltaspike.data.impl.util.ClassUtils.extract;
 import static org.apache.deltaspike.data.impl.util.QueryUtils.isNotEmpty;
 
 import java.lang.annotation.Annotation;
@@ -42,7 +43,10 @@ import org.apache.deltaspike.data.impl.builder.part.QueryRoot;
 import org.apache.deltaspike.data.impl.builder.result.QueryProcessor;
 import org.apache.deltaspike.data.impl.builder.result.QueryProcessorFactory;
 import org.apache.deltaspike.data.impl.handler.CdiQueryInvocationContext;
+import org.apache.deltaspike.data.impl.handler.EntityRepositoryHandler;
+import org.apache.deltaspike.data.impl.param.ParameterBindings;
 import org.apache.deltaspike.data.impl.util.bean.DependentProviderDestroyable;
+import org.apache.deltaspike.data.spi.DelegateQueryHandler;
 
 /**
  * Stores information about a specific method of a Repository:
@@ -51,7 +55,10 @@ import org.apache.deltaspike.data.impl.util.bean.DependentProviderDestroyable;
  * <li>Whether this method delegates, is annotated or is parsed</li>
  * <li>A reference to the parent Repository</li>
  * <li>For parsed Repository methods, also the JPQL string is cached</li>
+ * <li>How the method arguments get bound to the query</li>
  * </ul>
+ * Instances are created once per method, therefore everything which doesn't depend on the
+ * arguments of an invocation gets extracted here.
  */
 public class RepositoryMethod
 {
@@ -63,9 +70,15 @@ public class RepositoryMethod
     private final QueryRoot queryRoot;
     private final QueryProcessor queryProcessor;
     private final Class<? extends QueryInOutMapper> mapper;
+    private final ParameterBindings parameterBindings;
+    private final SingleResultType singleResultStyle;
+    private final boolean requiresTransaction;
 
     private volatile Boolean queryInOutMapperIsNormalScope;
 
+    // resolved lazily by the DelegateQueryBuilder
+    private volatile Bean<DelegateQueryHandler> delegateQueryHandlerBean;
+
     public RepositoryMethod(Method method, RepositoryComponent repo)
     {
         this.method = method;
@@ -75,6 +88,9 @@ public class RepositoryMethod
         this.queryRoot = initQueryRoot();
         this.queryProcessor = QueryProcessorFactory.newInstance(method).build();
         this.mapper = extractMapper(method, repo);
+        this.parameterBindings = ParameterBindings.create(method);
+        this.singleResultStyle = extractSingleResultStyle();
+        this.requiresTransaction = extractRequiresTransaction();
     }
 
     public boolean returns(Class<?> returnType)
@@ -223,7 +239,32 @@ public class RepositoryMethod
         return mapper != null;
     }
 
+    public ParameterBindings getParameterBindings()
+    {
+        return parameterBindings;
+    }
+
     public SingleResultType getSingleResultStyle()
+    {
+        return singleResultStyle;
+    }
+
+    public boolean requiresTransaction()
+    {
+        return requiresTransaction;
+    }
+
+    public Bean<DelegateQueryHandler> getDelegateQueryHandlerBean()
+    {
+        return delegateQueryHandlerBean;
+    }
+
+    public void setDelegateQueryHandlerBean(Bean<DelegateQueryHandler> delegateQueryHandlerBean)
+    {
+        this.delegateQueryHandlerBean = delegateQueryHandlerBean;
+    }
+
+    private SingleResultType extractSingleResultStyle()
     {
         if (method.isAnnotationPresent(Query.class))
         {
@@ -232,8 +273,13 @@ public class RepositoryMethod
         return methodPrefix.getSingleResultStyle();
     }
 
-    public boolean requiresTransaction()
+    private boolean extractRequiresTransaction()
     {
+        Method delegateMethod = extract(EntityRepositoryHandler.class, method);
+        if (delegateMethod != null && delegateMethod.isAnnotationPresent(RequiresTransaction.class))
+        {
+            return true;
+        }
         boolean hasLockMode = false;
         if (method.isAnnotationPresent(Query.class))
         {
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.param;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import org.apache.deltaspike.data.api.FirstResult;
+import org.apache.deltaspike.data.api.MaxResults;
+import org.apache.deltaspike.data.api.QueryParam;
+
+/**
+ * Describes how the arguments of a Repository method get bound to the query.
+ * Gets extracted once per method, since {@link Method#getParameterAnnotations()}
+ * copies all parameter annotations with every call.
+ */
+public final class ParameterBindings
+{
+
+    enum BindingType
+    {
+        INDEXED, NAMED, MAX_RESULTS, FIRST_RESULT
+    }
+
+    private final BindingType[] types;
+    private final String[] names;
+    private final int[] indexes;
+    private final int max;
+
+    private ParameterBindings(BindingType[] types, String[] names, int[] indexes, int max)
+    {
+        this.types = types;
+        this.names = names;
+        this.indexes = indexes;
+        this.max = max;
+    }
+
+    public static ParameterBindings create(Method method)
+    {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        BindingType[] types = new BindingType[annotations.length];
+        String[] names = new String[annotations.length];
+        int[] indexes = new int[annotations.length];
+        int paramIndex = 1;
+        for (int i = 0; i < annotations.length; i++)
+        {
+            if (extractFrom(annotations[i], MaxResults.class) != null)
+            {
+                types[i] = BindingType.MAX_RESULTS;
+            }
+            else if (extractFrom(annotations[i], FirstResult.class) != null)
+            {
+                types[i] = BindingType.FIRST_RESULT;
+            }
+            else
+            {
+                QueryParam qpAnnotation = extractFrom(annotations[i], QueryParam.class);
+                if (qpAnnotation != null)
+                {
+                    types[i] = BindingType.NAMED;
+                    names[i] = qpAnnotation.value();
+                }
+                else
+                {
+                    types[i] = BindingType.INDEXED;
+                    indexes[i] = paramIndex++;
+                }
+            }
+        }
+        return new ParameterBindings(types, names, indexes, extractSizeRestriction(method));
+    }
+
+    int size()
+    {
+        return types.length;
+    }
+
+    BindingType getType(int argIndex)
+    {
+        return types[argIndex];
+    }
+
+    String getName(int argIndex)
+    {
+        return names[argIndex];
+    }
+
+    int getIndex(int argIndex)
+    {
+        return indexes[argIndex];
+    }
+
+    int getMax()
+    {
+        return max;
+    }
+
+    private static int extractSizeRestriction(Method method)
+    {
+        if (method.isAnnotationPresent(org.apache.deltaspike.data.api.Query.class))
+        {
+            return method.getAnnotation(org.apache.deltaspike.data.api.Query.class).max();
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A extends Annotation> A extractFrom(Annotation[] annotations, Class<A> target)
+    {
+        for (Annotation annotation : annotations)
+        {
+            if (annotation.annotationType().isAssignableFrom(target))
+            {
+                return (A) annotation;
+            }
+        }
+        return null;
+    }
+
+}
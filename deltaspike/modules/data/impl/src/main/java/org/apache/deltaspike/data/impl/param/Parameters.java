@@ -19,7 +19,6 @@
 package org.apache.deltaspike.data.impl.param;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -30,7 +29,6 @@ import javax.persistence.Query;
 
 import org.apache.deltaspike.data.api.FirstResult;
 import org.apache.deltaspike.data.api.MaxResults;
-import org.apache.deltaspike.data.api.QueryParam;
 import org.apache.deltaspike.data.api.mapping.QueryInOutMapper;
 
 /**
@@ -61,31 +59,27 @@ public final class Parameters
         return new Parameters(empty, DEFAULT_MAX, DEFAULT_FIRST);
     }
 
-    public static Parameters create(Method method, Object[] parameters)
+    public static Parameters create(ParameterBindings bindings, Object[] parameters)
     {
-        int max = extractSizeRestriction(method);
+        int max = bindings.getMax();
         int first = DEFAULT_FIRST;
         List<Parameter> result = new ArrayList<Parameter>(parameters.length);
-        int paramIndex = 1;
-        Annotation[][] annotations = method.getParameterAnnotations();
-        for (int i = 0; i < parameters.length; i++)
+        for (int i = 0; i < parameters.length && i < bindings.size(); i++)
         {
-            if (isParameter(method.getParameterAnnotations()[i]))
+            switch (bindings.getType(i))
             {
-                QueryParam qpAnnotation = extractFrom(annotations[i], QueryParam.class);
-                if (qpAnnotation != null)
-                {
-                    result.add(new NamedParameter(qpAnnotation.value(), parameters[i], i));
-                }
-                else
-                {
-                    result.add(new IndexedParameter(paramIndex++, parameters[i], i));
-                }
-            }
-            else
-            {
-                max = extractInt(parameters[i], annotations[i], MaxResults.class, max);
-                first = extractInt(parameters[i], annotations[i], FirstResult.class, first);
+                case NAMED:
+                    result.add(new NamedParameter(bindings.getName(i), parameters[i], i));
+                    break;
+                case INDEXED:
+                    result.add(new IndexedParameter(bindings.getIndex(i), parameters[i], i));
+                    break;
+                case MAX_RESULTS:
+                    max = extractInt(parameters[i], MaxResults.class, max);
+                    break;
+                default: // FIRST_RESULT
+                    first = extractInt(parameters[i], FirstResult.class, first);
+                    break;
             }
         }
         return new Parameters(result, max, first);
@@ -128,55 +122,22 @@ public final class Parameters
         return firstResult;
     }
 
-    private static int extractSizeRestriction(Method method)
-    {
-        if (method.isAnnotationPresent(org.apache.deltaspike.data.api.Query.class))
-        {
-            return method.getAnnotation(org.apache.deltaspike.data.api.Query.class).max();
-        }
-        return 0;
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <A extends Annotation> A extractFrom(Annotation[] annotations, Class<A> target)
+    private static int extractInt(Object parameter, Class<? extends Annotation> target, int defaultVal)
     {
-        for (Annotation annotation : annotations)
+        if (parameter != null)
         {
-            if (annotation.annotationType().isAssignableFrom(target))
+            if (parameter instanceof Integer)
             {
-                return (A) annotation;
+                return (Integer) parameter;
             }
-        }
-        return null;
-    }
-
-    private static <A extends Annotation> int extractInt(Object parameter, Annotation[] annotations,
-            Class<A> target, int defaultVal)
-    {
-        if (parameter != null)
-        {
-            A result = extractFrom(annotations, target);
-            if (result != null)
+            else
             {
-                if (parameter instanceof Integer)
-                {
-                    return (Integer) parameter;
-                }
-                else
-                {
-                    LOG.log(Level.WARNING, "Method parameter extraction: " +
-                            "Param type must be int: {0}->is:{1}",
-                            new Object[] { target, parameter.getClass() });
-                }
+                LOG.log(Level.WARNING, "Method parameter extraction: " +
+                        "Param type must be int: {0}->is:{1}",
+                        new Object[] { target, parameter.getClass() });
             }
         }
         return defaultVal;
     }
 
-    private static boolean isParameter(Annotation[] annotations)
-    {
-        return extractFrom(annotations, MaxResults.class) == null &&
-                extractFrom(annotations, FirstResult.class) == null;
-    }
-
 }
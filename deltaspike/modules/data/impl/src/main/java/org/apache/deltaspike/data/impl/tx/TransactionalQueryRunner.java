@@ -18,18 +18,11 @@
  */
 package org.apache.deltaspike.data.impl.tx;
 
-import static org.apache.deltaspike.data.impl.util.ClassUtils.contains;
-import static org.apache.deltaspike.data.impl.util.ClassUtils.extract;
-
-import java.lang.reflect.Method;
-
 import javax.inject.Inject;
 
 import org.apache.deltaspike.data.impl.builder.QueryBuilder;
 import org.apache.deltaspike.data.impl.handler.CdiQueryInvocationContext;
-import org.apache.deltaspike.data.impl.handler.EntityRepositoryHandler;
 import org.apache.deltaspike.data.impl.handler.QueryRunner;
-import org.apache.deltaspike.data.impl.meta.RequiresTransaction;
 import org.apache.deltaspike.jpa.spi.entitymanager.ActiveEntityManagerHolder;
 import org.apache.deltaspike.jpa.spi.transaction.TransactionStrategy;
 
@@ -81,14 +74,7 @@ public class TransactionalQueryRunner implements QueryRunner
 
     private boolean needsTransaction(CdiQueryInvocationContext context)
     {
-        boolean requiresTx = false;
-        Method method = context.getMethod();
-        if (contains(EntityRepositoryHandler.class, method))
-        {
-            Method executed = extract(EntityRepositoryHandler.class, method);
-            requiresTx = executed.isAnnotationPresent(RequiresTransaction.class);
-        }
-        return requiresTx || context.getRepositoryMethod().requiresTransaction();
+        return context.getRepositoryMethod().requiresTransaction();
     }
 
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.util.jpa;
+
+import java.util.Iterator;
+
+import javax.persistence.Query;
+
+import org.apache.deltaspike.data.api.CloseableIterator;
+
+/**
+ * Uses the EclipseLink {@code CursoredStream} returned for queries with the {@code eclipselink.cursor} hint.
+ */
+@ProviderSpecific("org.eclipse.persistence.jpa.JpaQuery")
+public class EclipseLinkQueryScroller implements QueryScroller
+{
+
+    private static final String HINT_CURSOR = "eclipselink.cursor";
+    private static final String HINT_CURSOR_PAGE_SIZE = "eclipselink.cursor.page-size";
+
+    @Override
+    public CloseableIterator<Object> scroll(Query query, Object providerQuery, int fetchSize)
+    {
+        query.setHint(HINT_CURSOR, Boolean.TRUE);
+        query.setHint(HINT_CURSOR_PAGE_SIZE, fetchSize);
+        return new CursorIterator((Iterator<?>) query.getSingleResult());
+    }
+
+    private static final class CursorIterator implements CloseableIterator<Object>
+    {
+
+        private final Iterator<?> cursor;
+
+        private boolean closed;
+
+        private CursorIterator(Iterator<?> cursor)
+        {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return !closed && cursor.hasNext();
+        }
+
+        @Override
+        public Object next()
+        {
+            return cursor.next();
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close()
+        {
+            if (!closed)
+            {
+                closed = true;
+                try
+                {
+                    cursor.getClass().getMethod("close").invoke(cursor);
+                }
+                catch (Exception e)
+                {
+                    throw new IllegalStateException("Failed to close EclipseLink cursor", e);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.util.jpa;
+
+/**
+ * Uses {@code org.hibernate.query.Query#scroll(ScrollMode.FORWARD_ONLY)}. Hibernate 5.2 removed
+ * {@code org.hibernate.ejb.HibernateQuery}, its JPA queries implement {@code org.hibernate.query.Query} directly.
+ */
+@ProviderSpecific("org.hibernate.query.Query")
+public class Hibernate52QueryScroller extends HibernateQueryScroller
+{
+
+    @Override
+    protected Object toHibernateQuery(Object providerQuery)
+    {
+        return providerQuery;
+    }
+
+    @Override
+    protected String getHibernateQueryClassName()
+    {
+        return "org.hibernate.query.Query";
+    }
+
+}
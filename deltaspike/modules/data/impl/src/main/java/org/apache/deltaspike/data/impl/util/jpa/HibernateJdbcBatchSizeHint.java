@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.util.jpa;
+
+import java.lang.reflect.Method;
+
+/**
+ * Uses {@code Session#setJdbcBatchSize}, available as of Hibernate 5.2.
+ */
+@ProviderSpecific("org.hibernate.Session")
+public class HibernateJdbcBatchSizeHint implements JdbcBatchSizeHint
+{
+
+    @Override
+    public boolean isSupported(Object providerEntityManager)
+    {
+        return method(providerEntityManager, "getJdbcBatchSize") != null;
+    }
+
+    @Override
+    public Integer getBatchSize(Object providerEntityManager)
+    {
+        return (Integer) invoke(method(providerEntityManager, "getJdbcBatchSize"), providerEntityManager);
+    }
+
+    @Override
+    public void setBatchSize(Object providerEntityManager, Integer batchSize)
+    {
+        invoke(method(providerEntityManager, "setJdbcBatchSize", Integer.class), providerEntityManager, batchSize);
+    }
+
+    private static Method method(Object session, String name, Class<?>... parameterTypes)
+    {
+        try
+        {
+            return Class.forName("org.hibernate.Session", true, session.getClass().getClassLoader())
+                    .getMethod(name, parameterTypes);
+        }
+        catch (Exception e)
+        {
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object session, Object... args)
+    {
+        try
+        {
+            return method.invoke(session, args);
+        }
+        catch (Exception e)
+        {
+            throw new IllegalStateException("Failed to access the Hibernate JDBC batch size", e);
+        }
+    }
+
+}
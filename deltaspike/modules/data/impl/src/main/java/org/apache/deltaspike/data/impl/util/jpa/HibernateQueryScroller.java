@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.util.jpa;
+
+import java.lang.reflect.Method;
+import java.util.NoSuchElementException;
+
+import javax.persistence.Query;
+
+import org.apache.deltaspike.data.api.CloseableIterator;
+
+/**
+ * Uses {@code org.hibernate.Query#scroll(ScrollMode.FORWARD_ONLY)} on the query wrapped by
+ * {@code org.hibernate.ejb.HibernateQuery} (Hibernate up to 5.1).
+ */
+@ProviderSpecific("org.hibernate.ejb.HibernateQuery")
+public class HibernateQueryScroller implements QueryScroller
+{
+
+    @Override
+    public CloseableIterator<Object> scroll(Query query, Object providerQuery, int fetchSize)
+    {
+        try
+        {
+            Object hibernateQuery = toHibernateQuery(providerQuery);
+            ClassLoader loader = hibernateQuery.getClass().getClassLoader();
+            Class<?> queryClass = Class.forName(getHibernateQueryClassName(), true, loader);
+            Class<?> scrollModeClass = Class.forName("org.hibernate.ScrollMode", true, loader);
+            Class<?> resultsClass = Class.forName("org.hibernate.ScrollableResults", true, loader);
+
+            queryClass.getMethod("setFetchSize", int.class).invoke(hibernateQuery, fetchSize);
+            Object forwardOnly = scrollModeClass.getField("FORWARD_ONLY").get(null);
+            Object results = queryClass.getMethod("scroll", scrollModeClass).invoke(hibernateQuery, forwardOnly);
+            return new ScrollableResultsIterator(results, resultsClass);
+        }
+        catch (Exception e)
+        {
+            throw new IllegalStateException("Failed to scroll Hibernate query", e);
+        }
+    }
+
+    protected Object toHibernateQuery(Object providerQuery) throws Exception
+    {
+        return providerQuery.getClass().getMethod("getHibernateQuery").invoke(providerQuery);
+    }
+
+    protected String getHibernateQueryClassName()
+    {
+        return "org.hibernate.Query";
+    }
+
+    private static final class ScrollableResultsIterator implements CloseableIterator<Object>
+    {
+
+        private final Object results;
+        private final Method next;
+        private final Method get;
+        private final Method close;
+
+        private boolean fetched;
+        private boolean hasNext;
+        private boolean closed;
+
+        private ScrollableResultsIterator(Object results, Class<?> resultsClass) throws NoSuchMethodException
+        {
+            this.results = results;
+            this.next = resultsClass.getMethod("next");
+            this.get = resultsClass.getMethod("get");
+            this.close = resultsClass.getMethod("close");
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (!fetched && !closed)
+            {
+                hasNext = (Boolean) invoke(next);
+                fetched = true;
+            }
+            return hasNext && !closed;
+        }
+
+        @Override
+        public Object next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            Object[] row = (Object[]) invoke(get);
+            return row.length == 1 ? row[0] : row;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close()
+        {
+            if (!closed)
+            {
+                closed = true;
+                invoke(close);
+            }
+        }
+
+        private Object invoke(Method method)
+        {
+            try
+            {
+                return method.invoke(results);
+            }
+            catch (Exception e)
+            {
+                throw new IllegalStateException("Failed to read Hibernate scrollable results", e);
+            }
+        }
+    }
+
+}
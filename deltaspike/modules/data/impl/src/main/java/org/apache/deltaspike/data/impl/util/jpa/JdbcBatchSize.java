@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.util.jpa;
+
+import javax.persistence.EntityManager;
+
+/**
+ * JDBC batch size applied to an entity manager for the duration of a batch operation.
+ * Providers without a {@link JdbcBatchSizeHint} use the batch size configured in the
+ * persistence unit.
+ */
+public final class JdbcBatchSize
+{
+
+    private static final JdbcBatchSizeHint[] HINTS = new JdbcBatchSizeHint[]
+    {
+        new HibernateJdbcBatchSizeHint()
+    };
+
+    private static final JdbcBatchSize NONE = new JdbcBatchSize(null, null, null);
+
+    private final JdbcBatchSizeHint hint;
+    private final Object providerEntityManager;
+    private final Integer previous;
+
+    private JdbcBatchSize(JdbcBatchSizeHint hint, Object providerEntityManager, Integer previous)
+    {
+        this.hint = hint;
+        this.providerEntityManager = providerEntityManager;
+        this.previous = previous;
+    }
+
+    /**
+     * Sets the JDBC batch size if the persistence provider supports it.
+     *
+     * @param entityManager The entity manager.
+     * @param batchSize     The JDBC batch size.
+     * @return Handle to {@link #restore()} the previous batch size.
+     */
+    public static JdbcBatchSize apply(EntityManager entityManager, int batchSize)
+    {
+        if (batchSize <= 0)
+        {
+            return NONE;
+        }
+        for (JdbcBatchSizeHint hint : HINTS)
+        {
+            String compare = hint.getClass().getAnnotation(ProviderSpecific.class).value();
+            Object providerEntityManager = toProviderEntityManager(compare, entityManager);
+            if (providerEntityManager != null && hint.isSupported(providerEntityManager))
+            {
+                Integer previous = hint.getBatchSize(providerEntityManager);
+                hint.setBatchSize(providerEntityManager, batchSize);
+                return new JdbcBatchSize(hint, providerEntityManager, previous);
+            }
+        }
+        return NONE;
+    }
+
+    public void restore()
+    {
+        if (hint != null)
+        {
+            hint.setBatchSize(providerEntityManager, previous);
+        }
+    }
+
+    private static Object toProviderEntityManager(String clazzName, EntityManager entityManager)
+    {
+        try
+        {
+            return entityManager.unwrap(Class.forName(clazzName));
+        }
+        catch (Exception e)
+        {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.util.jpa;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+
+/**
+ * Registers generated JPQL queries as named queries, so the persistence provider can reuse the parsed
+ * query plan instead of parsing the JPQL string again on every call.
+ * <p/>
+ * Relies on {@code EntityManagerFactory#addNamedQuery}, which is only available as of JPA 2.1. The method
+ * is looked up on the provider's factory, so a JPA 2.1 provider is used even with a JPA 2.0 API on the
+ * classpath. With an older provider (or if the registration fails) the plain JPQL query is created instead.
+ */
+public final class NamedQueryRegistry
+{
+
+    private static final Logger log = Logger.getLogger(NamedQueryRegistry.class.getName());
+
+    // registration outcome per query name, so a failed registration isn't retried on every call
+    private static final Map<EntityManagerFactory, ConcurrentMap<String, Boolean>> REGISTERED =
+            Collections.synchronizedMap(new WeakHashMap<EntityManagerFactory, ConcurrentMap<String, Boolean>>());
+
+    private NamedQueryRegistry()
+    {
+    }
+
+    /**
+     * Creates a query for the given JPQL string, registering it under the given name first if it hasn't
+     * been registered with the {@link EntityManagerFactory} yet.
+     *
+     * @param entityManager The entity manager to create the query with.
+     * @param name          Unique name of the query.
+     * @param jpql          The query string.
+     * @param resultClass   Query result type.
+     * @return The named query, or a plain JPQL query if named queries can't be registered.
+     */
+    public static <T> TypedQuery<T> createQuery(EntityManager entityManager, String name, String jpql,
+            Class<T> resultClass)
+    {
+        if (register(entityManager, name, jpql))
+        {
+            return entityManager.createNamedQuery(name, resultClass);
+        }
+        return entityManager.createQuery(jpql, resultClass);
+    }
+
+    private static boolean register(EntityManager entityManager, String name, String jpql)
+    {
+        EntityManagerFactory factory = entityManager.getEntityManagerFactory();
+        ConcurrentMap<String, Boolean> names = REGISTERED.get(factory);
+        if (names == null)
+        {
+            synchronized (REGISTERED)
+            {
+                names = REGISTERED.get(factory);
+                if (names == null)
+                {
+                    names = new ConcurrentHashMap<String, Boolean>();
+                    REGISTERED.put(factory, names);
+                }
+            }
+        }
+        Boolean registered = names.get(name);
+        if (registered != null)
+        {
+            return registered;
+        }
+        try
+        {
+            Method addNamedQuery = factory.getClass().getMethod("addNamedQuery", String.class, Query.class);
+            addNamedQuery.invoke(factory, name, entityManager.createQuery(jpql));
+            log.log(Level.FINER, "Registered named query {0}: {1}", new Object[] { name, jpql });
+            registered = Boolean.TRUE;
+        }
+        catch (NoSuchMethodException e)
+        {
+            log.log(Level.FINE, "{0} doesn't support named query registration, using plain JPQL instead",
+                    factory.getClass().getName());
+            registered = Boolean.FALSE;
+        }
+        catch (Exception e)
+        {
+            log.log(Level.FINE, "Failed to register named query " + name + ", using plain JPQL instead", e);
+            registered = Boolean.FALSE;
+        }
+        names.put(name, registered);
+        return registered;
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.util.jpa;
+
+import javax.persistence.Query;
+
+import org.apache.deltaspike.data.api.CloseableIterator;
+
+/**
+ * Streams a query result through a provider specific cursor.
+ */
+public interface QueryScroller
+{
+
+    /**
+     * Executes the query and opens a cursor on the result.
+     *
+     * @param query         The JPA query.
+     * @param providerQuery The query unwrapped to the {@link ProviderSpecific} type.
+     * @param fetchSize     Number of rows the provider should fetch at once.
+     * @return Cursor on the query result, one element per result row.
+     */
+    CloseableIterator<Object> scroll(Query query, Object providerQuery, int fetchSize);
+
+}
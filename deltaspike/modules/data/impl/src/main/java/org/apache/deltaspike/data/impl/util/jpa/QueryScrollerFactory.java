@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.util.jpa;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.persistence.Query;
+
+import org.apache.deltaspike.data.api.CloseableIterator;
+
+/**
+ * Selects the {@link QueryScroller} for the persistence provider of a query.
+ * Returns {@code null} if the provider doesn't support scrolling.
+ */
+public class QueryScrollerFactory
+{
+
+    private final QueryScroller[] scrollers = new QueryScroller[]
+    {
+        new HibernateQueryScroller(),
+        new Hibernate52QueryScroller(),
+        new EclipseLinkQueryScroller()
+    };
+
+    // scroller index per query implementation, -1 if none of the scrollers matches
+    private final ConcurrentMap<Class<?>, Integer> scrollerIndexes = new ConcurrentHashMap<Class<?>, Integer>();
+
+    /**
+     * Opens a provider cursor for the given query.
+     *
+     * @param query         The JPA query.
+     * @param fetchSize     Number of rows the provider should fetch at once.
+     * @return The cursor, or {@code null} if the persistence provider is not supported.
+     */
+    public CloseableIterator<Object> scroll(final Query query, final int fetchSize)
+    {
+        final Integer known = scrollerIndexes.get(query.getClass());
+        if (known != null && known < 0)
+        {
+            return null;
+        }
+        for (int i = known != null ? known : 0; i < scrollers.length; i++)
+        {
+            final QueryScroller scroller = scrollers[i];
+            final String compare = scroller.getClass().getAnnotation(ProviderSpecific.class).value();
+            final Object providerQuery = toProviderQuery(compare, query);
+            if (providerQuery != null)
+            {
+                scrollerIndexes.putIfAbsent(query.getClass(), i);
+                return scroller.scroll(query, providerQuery, fetchSize);
+            }
+        }
+        scrollerIndexes.putIfAbsent(query.getClass(), -1);
+        return null;
+    }
+
+    private static Object toProviderQuery(final String clazzName, final Query query)
+    {
+        try
+        {
+            Class<?> toClass = Class.forName(clazzName);
+            try
+            {
+                // throw a persistence exception if not possible
+                return query.unwrap(toClass);
+            }
+            catch (Exception e)
+            {
+                toClass.cast(query);
+                return query;
+            }
+        }
+        catch (Exception e)
+        {
+            return null;
+        }
+    }
+
+}
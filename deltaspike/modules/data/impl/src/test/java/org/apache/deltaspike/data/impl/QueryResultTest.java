@@ -25,6 +25,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.enterprise.inject.Produces;
@@ -231,6 +232,82 @@ public class QueryResultTest extends TransactionalTestCase
 
     }
 
+    @Test
+    public void should_page_with_keyset()
+    {
+        // given
+        final String name = "testPageKeyset";
+        builder.createSimple(name, Integer.valueOf(22));
+        builder.createSimple(name, Integer.valueOf(56));
+        builder.createSimple(name, Integer.valueOf(56));
+        builder.createSimple(name, Integer.valueOf(56));
+        builder.createSimple(name, Integer.valueOf(99));
+        builder.createSimple(name, Integer.valueOf(123));
+        builder.createSimple(name, Integer.valueOf(229));
+
+        // when
+        List<Simple> expected = repo.findByName(name)
+                .orderDesc(Simple_.counter)
+                .orderAsc(Simple_.id)
+                .getResultList();
+        QueryResult<Simple> pagedQuery = repo.findByName(name)
+                .orderDesc(Simple_.counter)
+                .orderAsc(Simple_.id)
+                .maxResults(2);
+        List<Simple> result = new ArrayList<Simple>(pagedQuery.getResultList());
+        while (result.size() < expected.size())
+        {
+            Simple last = result.get(result.size() - 1);
+            List<Simple> page = pagedQuery.afterKey(last.getCounter(), last.getId()).getResultList();
+            assertFalse(page.isEmpty());
+            result.addAll(page);
+        }
+        Simple last = result.get(result.size() - 1);
+        List<Simple> end = pagedQuery.afterKey(last.getCounter(), last.getId()).getResultList();
+        long count = pagedQuery.count();
+
+        // then
+        assertEquals(7, expected.size());
+        assertEquals(new ArrayList<Simple>(expected), result);
+        assertTrue(end.isEmpty());
+        assertEquals(7, count);
+    }
+
+    @Test
+    public void should_page_named_query_with_keyset()
+    {
+        // given
+        final String name = "testPageNamedKeyset";
+        builder.createSimple(name + 0);
+        builder.createSimple(name + 1);
+        builder.createSimple(name + 2);
+
+        // when
+        List<Simple> result = repo.queryResultWithNamed(name + "%")
+                .orderAsc("name")
+                .afterKey(name + 0)
+                .getResultList();
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(name + 1, result.get(0).getName());
+        assertEquals(name + 2, result.get(1).getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_fail_keyset_without_matching_order()
+    {
+        // given
+        final String name = "testKeysetWithoutOrder";
+        builder.createSimple(name);
+
+        // when
+        repo.findByName(name)
+                .orderAsc(Simple_.id)
+                .afterKey(Integer.valueOf(1), Long.valueOf(1))
+                .getResultList();
+    }
+
     @Test
     public void should_modify_named_query()
     {
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.builder.postprocessor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.deltaspike.data.impl.builder.OrderDirection;
+import org.apache.deltaspike.data.impl.handler.QueryStringPostProcessor;
+import org.junit.Test;
+
+public class KeysetQueryStringPostProcessorTest
+{
+
+    @Test
+    public void should_append_seek_predicate_to_positional_query()
+    {
+        // given
+        final String query = "select e from Simple e where e.name = ?1 or e.enabled = ?2";
+        final String expected = "select e from Simple e where (e.name = ?1 or e.enabled = ?2) and "
+                + "((e.counter < ?3) or (e.counter = ?3 and e.id > ?4)) order by e.counter DESC,e.id ASC";
+        List<QueryStringPostProcessor> processors = new LinkedList<QueryStringPostProcessor>();
+        processors.add(new OrderByQueryStringPostProcessor("counter", OrderDirection.DESC));
+        processors.add(new KeysetQueryStringPostProcessor(processors, 10, 5L));
+        processors.add(new OrderByQueryStringPostProcessor("id", OrderDirection.ASC));
+
+        // when
+        String result = apply(processors, query);
+
+        // then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void should_add_where_clause_with_named_parameters()
+    {
+        // given
+        final String query = "select e from Simple e WHERE e.id in (select s.id from Simple s where s.enabled = true)";
+        final String plain = "select e from Simple e";
+        List<QueryStringPostProcessor> processors = new LinkedList<QueryStringPostProcessor>();
+        processors.add(new KeysetQueryStringPostProcessor(processors, "a"));
+        processors.add(new OrderByQueryStringPostProcessor("name", OrderDirection.ASC));
+
+        // when
+        String result1 = apply(processors, plain);
+        String result2 = apply(processors, query);
+
+        // then
+        assertEquals("select e from Simple e where ((e.name > :deltaspikeKey0)) order by e.name ASC", result1);
+        assertEquals("select e from Simple e WHERE (e.id in (select s.id from Simple s where s.enabled = true)) "
+                + "and ((e.name > :deltaspikeKey0)) order by e.name ASC", result2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_fail_on_key_size_mismatch()
+    {
+        List<QueryStringPostProcessor> processors = new LinkedList<QueryStringPostProcessor>();
+        processors.add(new OrderByQueryStringPostProcessor("name", OrderDirection.ASC));
+        processors.add(new KeysetQueryStringPostProcessor(processors, "a", 1L));
+
+        apply(processors, "select e from Simple e");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_fail_on_empty_key()
+    {
+        List<QueryStringPostProcessor> processors = new LinkedList<QueryStringPostProcessor>();
+        processors.add(new KeysetQueryStringPostProcessor(processors));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_fail_on_null_key_value()
+    {
+        List<QueryStringPostProcessor> processors = new LinkedList<QueryStringPostProcessor>();
+        processors.add(new KeysetQueryStringPostProcessor(processors, "a", null));
+    }
+
+    private String apply(List<QueryStringPostProcessor> processors, String query)
+    {
+        String result = query;
+        for (QueryStringPostProcessor processor : processors)
+        {
+            result = processor.postProcess(result);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.builder.result;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.junit.Test;
+
+public class StreamingResultIteratorTest
+{
+
+    private final List<Integer> executions = new ArrayList<Integer>();
+    // number of executed queries per clear
+    private final List<Integer> clears = new ArrayList<Integer>();
+
+    @Test
+    public void should_read_result_page_by_page()
+    {
+        // given
+        Query query = query(7);
+
+        // when
+        StreamingResultIterator result = StreamingResultIterator.open(query, 3, 0, Integer.MAX_VALUE, false, true,
+                null);
+
+        // then
+        assertEquals(list(0, 1, 2, 3, 4, 5, 6), readAll(result));
+        assertEquals(list(0, 3, 6), executions);
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    public void should_respect_first_and_max_results()
+    {
+        // given
+        Query query = query(20);
+
+        // when
+        StreamingResultIterator result = StreamingResultIterator.open(query, 3, 2, 5, false, true, null);
+
+        // then
+        assertEquals(list(2, 3, 4, 5, 6), readAll(result));
+        assertEquals(list(2, 5), executions);
+    }
+
+    @Test
+    public void should_clear_before_fetching_next_page()
+    {
+        // given
+        Query query = query(5);
+        EntityManager entityManager = entityManager();
+
+        // when
+        StreamingResultIterator result = StreamingResultIterator.open(query, 2, 0, Integer.MAX_VALUE, false, true,
+                entityManager);
+        result.hasNext();
+        result.next();
+        result.hasNext();
+        result.next();
+        result.hasNext();
+        result.hasNext();
+
+        // then
+        assertEquals(list(1), clears);
+        assertEquals(list(0, 2), executions);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void should_not_page_unordered_result()
+    {
+        // given
+        Query query = query(7);
+
+        // when
+        StreamingResultIterator.open(query, 3, 0, Integer.MAX_VALUE, false, false, null);
+    }
+
+    @Test
+    public void should_read_unordered_result_within_one_fetch()
+    {
+        // given
+        Query query = query(7);
+
+        // when
+        StreamingResultIterator result = StreamingResultIterator.open(query, 3, 0, 3, false, false, null);
+
+        // then
+        assertEquals(list(0, 1, 2), readAll(result));
+        assertEquals(list(0), executions);
+    }
+
+    @Test
+    public void should_stop_reading_when_closed()
+    {
+        // given
+        Query query = query(5);
+        StreamingResultIterator result = StreamingResultIterator.open(query, 2, 0, Integer.MAX_VALUE, false, true,
+                null);
+        result.next();
+
+        // when
+        result.close();
+
+        // then
+        assertFalse(result.hasNext());
+        assertEquals(list(0), executions);
+    }
+
+    private List<Object> readAll(StreamingResultIterator iterator)
+    {
+        List<Object> result = new ArrayList<Object>();
+        while (iterator.hasNext())
+        {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    private static List<Object> list(Integer... values)
+    {
+        List<Object> result = new ArrayList<Object>();
+        for (Integer value : values)
+        {
+            result.add(value);
+        }
+        return result;
+    }
+
+    private Query query(final int size)
+    {
+        return (Query) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Query.class },
+                new InvocationHandler()
+                {
+                    private int first;
+                    private int max = Integer.MAX_VALUE;
+
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        String name = method.getName();
+                        if ("setFirstResult".equals(name))
+                        {
+                            first = (Integer) args[0];
+                        }
+                        else if ("setMaxResults".equals(name))
+                        {
+                            max = (Integer) args[0];
+                        }
+                        else if ("getFirstResult".equals(name))
+                        {
+                            return first;
+                        }
+                        else if ("getMaxResults".equals(name))
+                        {
+                            return max;
+                        }
+                        else if ("getResultList".equals(name))
+                        {
+                            executions.add(first);
+                            List<Object> result = new ArrayList<Object>();
+                            for (int i = first; i < size && result.size() < max; i++)
+                            {
+                                result.add(i);
+                            }
+                            return result;
+                        }
+                        return proxy;
+                    }
+                });
+    }
+
+    private EntityManager entityManager()
+    {
+        return (EntityManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { EntityManager.class },
+                new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        if ("clear".equals(method.getName()))
+                        {
+                            clears.add(executions.size());
+                        }
+                        return null;
+                    }
+                });
+    }
+
+}
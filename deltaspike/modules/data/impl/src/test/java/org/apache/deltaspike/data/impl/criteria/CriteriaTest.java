@@ -24,6 +24,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.enterprise.inject.Produces;
@@ -169,6 +170,57 @@ public class CriteriaTest extends TransactionalTestCase
         assertEquals(name + "99", result.get(3).getName());
     }
 
+    @Test
+    public void should_create_keyset_query()
+    {
+        // given
+        final String name = "testCreateKeysetQuery";
+        createSimple(name, 22);
+        createSimple(name, 56);
+        createSimple(name, 56);
+        createSimple(name, 99);
+        createSimple(name, 123);
+
+        // when
+        List<Simple> expected = repo.queryAfterKey(name, null, null, 10);
+        List<Simple> result = new ArrayList<Simple>(repo.queryAfterKey(name, null, null, 2));
+        while (result.size() < expected.size())
+        {
+            Simple last = result.get(result.size() - 1);
+            List<Simple> page = repo.queryAfterKey(name, last.getCounter(), last.getId(), 2);
+            assertTrue(page.size() > 0);
+            result.addAll(page);
+        }
+
+        // then
+        assertEquals(5, expected.size());
+        assertEquals(123, expected.get(0).getCounter().intValue());
+        assertTrue(expected.get(2).getId() < expected.get(3).getId());
+        assertEquals(new ArrayList<Simple>(expected), result);
+    }
+
+    @Test(expected = InvocationTargetException.class)
+    public void should_fail_keyset_query_with_empty_key()
+    {
+        // given
+        final String name = "testKeysetQueryWithEmptyKey";
+        createSimple(name, 22);
+
+        // when
+        repo.queryAfterEmptyKey(name);
+    }
+
+    @Test(expected = InvocationTargetException.class)
+    public void should_fail_keyset_query_with_null_key_value()
+    {
+        // given
+        final String name = "testKeysetQueryWithNullKeyValue";
+        createSimple(name, 22);
+
+        // when
+        repo.queryAfterNullKey(name);
+    }
+
     @Test
     public void should_create_query_wihtout_nulls()
     {
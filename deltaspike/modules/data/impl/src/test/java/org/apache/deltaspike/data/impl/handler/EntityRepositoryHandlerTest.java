@@ -22,7 +22,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import javax.enterprise.inject.Produces;
@@ -31,6 +36,8 @@ import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.metamodel.SingularAttribute;
 
+import org.apache.deltaspike.data.impl.meta.RepositoryComponent;
+import org.apache.deltaspike.data.impl.meta.RepositoryComponentsFactory;
 import org.apache.deltaspike.data.test.TransactionalTestCase;
 import org.apache.deltaspike.data.test.domain.Simple;
 import org.apache.deltaspike.data.test.domain.Simple_;
@@ -46,6 +53,9 @@ import org.junit.experimental.categories.Category;
 public class EntityRepositoryHandlerTest extends TransactionalTestCase
 {
 
+    // default of deltaspike.data.batch_size
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
     @Deployment
     public static Archive<?> deployment()
     {
@@ -74,6 +84,66 @@ public class EntityRepositoryHandlerTest extends TransactionalTestCase
         assertNotNull(simple.getId());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_save_all_and_flush() throws Exception
+    {
+        // given
+        List<Simple> simples = new ArrayList<Simple>();
+        for (int i = 0; i < 5; i++)
+        {
+            simples.add(new Simple("testSaveAll"));
+        }
+
+        // when
+        repo.saveAllAndFlush(simples);
+
+        // then
+        for (Simple simple : simples)
+        {
+            assertNotNull(simple.getId());
+        }
+        assertEquals(Long.valueOf(5), repo.count(new Simple("testSaveAll"), Simple_.name));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_flush_and_clear_at_batch_boundaries() throws Exception
+    {
+        // given
+        final String name = "testSaveAllBatches";
+        final int total = 3 * DEFAULT_BATCH_SIZE;
+
+        // when
+        List<String> violations = saveAllInBatches(name, total);
+
+        // then
+        assertTrue(violations.toString(), violations.isEmpty());
+        assertEquals(Long.valueOf(total), repo.count(new Simple(name), Simple_.name));
+    }
+
+    /**
+     * Saves 100k entities to check the persistence context stays bounded. Takes minutes on some providers,
+     * so it only runs with {@code -Ddeltaspike.data.test.large_batches=true} passed to the container JVM.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_save_all_with_bounded_persistence_context() throws Exception
+    {
+        assumeTrue(Boolean.getBoolean("deltaspike.data.test.large_batches"));
+
+        // given
+        final String name = "testSaveAllBounded";
+        final int total = 100000;
+
+        // when
+        List<String> violations = saveAllInBatches(name, total);
+
+        // then
+        assertTrue(violations.toString(), violations.isEmpty());
+        assertEquals(Long.valueOf(total), repo.count(new Simple(name), Simple_.name));
+    }
+
     @Test
     public void should_merge() throws Exception
     {
@@ -152,6 +222,31 @@ public class EntityRepositoryHandlerTest extends TransactionalTestCase
         assertEquals(simple.getName(), find.get(0).getName());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_find_by_example_reusing_cached_query() throws Exception
+    {
+        // given
+        Simple first = createSimple("testFindByExampleCached1");
+        Simple second = createSimple("testFindByExampleCached2");
+
+        RepositoryComponent component = RepositoryComponentsFactory.instance()
+                .lookupComponent(ExtendedRepositoryInterface.class);
+
+        // when
+        List<Simple> findFirst = repo.findBy(first, Simple_.name);
+        ExampleQuery cached = component.lookupExampleQuery("all_name");
+        List<Simple> findSecond = repo.findBy(second, Simple_.name);
+
+        // then
+        assertNotNull(cached);
+        assertSame(cached, component.lookupExampleQuery("all_name"));
+        assertEquals(1, findFirst.size());
+        assertEquals(first.getName(), findFirst.get(0).getName());
+        assertEquals(1, findSecond.size());
+        assertEquals(second.getName(), findSecond.get(0).getName());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void should_find_by_example_with_start_and_max() throws Exception
@@ -339,6 +434,26 @@ public class EntityRepositoryHandlerTest extends TransactionalTestCase
         assertNull(lookup);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_remove_all()
+    {
+        // given
+        List<Simple> simples = new ArrayList<Simple>();
+        for (int i = 0; i < 5; i++)
+        {
+            simples.add(createSimple("testRemoveAll"));
+        }
+        entityManager.clear();
+
+        // when
+        repo.removeAll(simples);
+        repo.flush();
+
+        // then
+        assertTrue(repo.findBy(new Simple("testRemoveAll"), Simple_.name).isEmpty());
+    }
+
     @Override
     protected EntityManager getEntityManager()
     {
@@ -359,4 +474,61 @@ public class EntityRepositoryHandlerTest extends TransactionalTestCase
         return result;
     }
 
+    /**
+     * Saves new entities with {@code saveAllAndFlush} and records each batch whose entities are still
+     * managed after the batch boundary, or got detached before it.
+     */
+    private List<String> saveAllInBatches(final String name, final int total)
+    {
+        final List<String> violations = new ArrayList<String>();
+        Iterable<Simple> simples = new Iterable<Simple>()
+        {
+            @Override
+            public Iterator<Simple> iterator()
+            {
+                return new Iterator<Simple>()
+                {
+                    private int created;
+                    private Simple firstOfBatch;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return created < total;
+                    }
+
+                    @Override
+                    public Simple next()
+                    {
+                        if (created % DEFAULT_BATCH_SIZE == 0 && firstOfBatch != null
+                                && entityManager.contains(firstOfBatch))
+                        {
+                            violations.add("not cleared after " + created);
+                        }
+                        if (created % DEFAULT_BATCH_SIZE == DEFAULT_BATCH_SIZE - 1
+                                && !entityManager.contains(firstOfBatch))
+                        {
+                            violations.add("cleared before " + (created + 1));
+                        }
+                        Simple result = new Simple(name);
+                        if (created % DEFAULT_BATCH_SIZE == 0)
+                        {
+                            firstOfBatch = result;
+                        }
+                        created++;
+                        return result;
+                    }
+
+                    @Override
+                    public void remove()
+                    {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+        repo.saveAllAndFlush(simples);
+        return violations;
+    }
+
 }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.apache.deltaspike.data.impl.meta.RepositoryComponent;
+import org.apache.deltaspike.data.impl.meta.RepositoryComponentsFactory;
+import org.apache.deltaspike.data.test.TransactionalTestCase;
+import org.apache.deltaspike.data.test.domain.Simple;
+import org.apache.deltaspike.data.test.domain.Simple_;
+import org.apache.deltaspike.data.test.service.ExtendedRepositoryInterface;
+import org.apache.deltaspike.data.test.util.TestDeployments;
+import org.apache.deltaspike.test.category.WebProfileCategory;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePaths;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(WebProfileCategory.class)
+public class EntityRepositoryNamedQueryTest extends TransactionalTestCase
+{
+
+    @Deployment
+    public static Archive<?> deployment()
+    {
+        return TestDeployments.initDeployment()
+                .addClasses(ExtendedRepositoryInterface.class)
+                .addPackage(Simple.class.getPackage())
+                .addAsWebInfResource(new StringAsset(RepositoryComponent.NAMED_QUERIES_ENABLED + "=true"),
+                        ArchivePaths.create("classes/META-INF/apache-deltaspike.properties"));
+    }
+
+    @Inject
+    private ExtendedRepositoryInterface repo;
+
+    @Produces
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_query_with_named_queries_enabled()
+    {
+        // given
+        final String name = "testNamedQueriesEnabled";
+        createSimple(name);
+        createSimple(name);
+        createSimple(name + "Other");
+        RepositoryComponent component = RepositoryComponentsFactory.instance()
+                .lookupComponent(ExtendedRepositoryInterface.class);
+
+        // when
+        List<Simple> byExample = repo.findBy(new Simple(name), Simple_.name);
+        List<Simple> byExampleAgain = repo.findBy(new Simple(name), Simple_.name);
+        Long count = repo.count(new Simple(name), Simple_.name);
+        List<Simple> like = repo.findByLike(new Simple(name + "%"), Simple_.name);
+
+        // then
+        assertTrue(component.isNamedQueries());
+        assertEquals(2, byExample.size());
+        assertEquals(2, byExampleAgain.size());
+        assertEquals(Long.valueOf(2), count);
+        assertEquals(3, like.size());
+    }
+
+    @Override
+    protected EntityManager getEntityManager()
+    {
+        return entityManager;
+    }
+
+    private Simple createSimple(String name)
+    {
+        Simple result = new Simple(name);
+        entityManager.persist(result);
+        entityManager.flush();
+        return result;
+    }
+
+}
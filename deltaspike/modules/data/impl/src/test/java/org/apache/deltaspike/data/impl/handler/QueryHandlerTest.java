@@ -24,6 +24,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Iterator;
 import java.util.List;
 
 import javax.enterprise.inject.Produces;
@@ -101,6 +102,73 @@ public class QueryHandlerTest extends TransactionalTestCase
         assertEquals(name, result.get(0).getName());
     }
 
+    @Test
+    public void should_stream_query_result()
+    {
+        // given
+        final String name = "testStreamQueryResult";
+        for (int i = 0; i < 5; i++)
+        {
+            builder.createSimple(name);
+        }
+
+        // when
+        Iterator<Simple> result = repo.streamByName(name);
+
+        // then
+        int count = 0;
+        while (result.hasNext())
+        {
+            assertEquals(name, result.next().getName());
+            count++;
+        }
+        assertEquals(5, count);
+    }
+
+    @Test
+    public void should_stream_iterable_query_result()
+    {
+        // given
+        final String name = "testStreamIterableQueryResult";
+        for (int i = 0; i < 5; i++)
+        {
+            builder.createSimple(name);
+        }
+
+        // when
+        Iterable<Simple> result = repo.findByNameOrderByIdAsc(name, 1);
+
+        // then
+        for (int pass = 0; pass < 2; pass++)
+        {
+            int count = 0;
+            for (Simple simple : result)
+            {
+                assertEquals(name, simple.getName());
+                count++;
+            }
+            assertEquals(4, count);
+        }
+    }
+
+    @Test
+    public void should_return_loaded_list_for_iterable_without_fetch_size()
+    {
+        // given
+        final String name = "testIterableWithoutFetchSize";
+        for (int i = 0; i < 3; i++)
+        {
+            builder.createSimple(name);
+        }
+
+        // when
+        Iterable<Simple> result = repo.findByNameOrderByIdDesc(name);
+
+        // then
+        assertTrue(result instanceof List);
+        assertEquals(3, ((List<Simple>) result).size());
+    }
+
     @Test
     public void should_create_named_query_named()
     {
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.param;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.persistence.Query;
+
+import org.apache.deltaspike.data.api.FirstResult;
+import org.apache.deltaspike.data.api.MaxResults;
+import org.apache.deltaspike.data.api.QueryParam;
+import org.junit.Test;
+
+public class ParametersTest
+{
+
+    @Test
+    public void should_bind_indexed_and_named_parameters()
+    {
+        // given
+        ParameterBindings bindings = ParameterBindings.create(method("findByNameAndAge"));
+        Map<Object, Object> boundValues = new HashMap<Object, Object>();
+
+        // when
+        Parameters.create(bindings, new Object[] { "test", 5, "other" }).applyTo(recordingQuery(boundValues));
+
+        // then
+        assertEquals(3, boundValues.size());
+        assertEquals("test", boundValues.get(1));
+        assertEquals(5, boundValues.get("age"));
+        assertEquals("other", boundValues.get(2));
+    }
+
+    @Test
+    public void should_extract_restrictions()
+    {
+        // given
+        ParameterBindings bindings = ParameterBindings.create(method("findByName"));
+        Map<Object, Object> boundValues = new HashMap<Object, Object>();
+
+        // when
+        Parameters params = Parameters.create(bindings, new Object[] { 10, "test", 20 });
+        params.applyTo(recordingQuery(boundValues));
+
+        // then
+        assertTrue(params.hasSizeRestriction());
+        assertEquals(10, params.getSizeRestriciton());
+        assertTrue(params.hasFirstResult());
+        assertEquals(20, params.getFirstResult());
+        assertEquals(1, boundValues.size());
+        assertEquals("test", boundValues.get(1));
+    }
+
+    @Test
+    public void should_ignore_missing_restrictions()
+    {
+        // given
+        ParameterBindings bindings = ParameterBindings.create(method("findByName"));
+
+        // when
+        Parameters params = Parameters.create(bindings, new Object[] { null, "test", null });
+
+        // then
+        assertFalse(params.hasSizeRestriction());
+        assertFalse(params.hasFirstResult());
+    }
+
+    private static Method method(String name)
+    {
+        for (Method method : ParameterTestRepository.class.getDeclaredMethods())
+        {
+            if (method.getName().equals(name))
+            {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private static Query recordingQuery(final Map<Object, Object> boundValues)
+    {
+        return (Query) Proxy.newProxyInstance(ParametersTest.class.getClassLoader(), new Class<?>[] { Query.class },
+                new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        if ("setParameter".equals(method.getName()))
+                        {
+                            boundValues.put(args[0], args[1]);
+                        }
+                        return proxy;
+                    }
+                });
+    }
+
+    interface ParameterTestRepository
+    {
+        Object findByNameAndAge(String name, @QueryParam("age") Integer age, String other);
+
+        Object findByName(@MaxResults Integer max, String name, @FirstResult Integer first);
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.deltaspike.data.impl.util.jpa;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+
+import org.junit.Test;
+
+public class NamedQueryRegistryTest
+{
+
+    @Test
+    public void should_register_query_once_and_create_named_query()
+    {
+        // given
+        List<String> calls = new ArrayList<String>();
+        EntityManager entityManager = entityManager(factory(NamedQueryFactory.class, calls, false), calls);
+
+        // when
+        NamedQueryRegistry.createQuery(entityManager, "test.register", "select e from Simple e", Object.class);
+        NamedQueryRegistry.createQuery(entityManager, "test.register", "select e from Simple e", Object.class);
+
+        // then
+        assertEquals(3, calls.size());
+        assertEquals("addNamedQuery test.register", calls.get(0));
+        assertEquals("createNamedQuery test.register", calls.get(1));
+        assertEquals("createNamedQuery test.register", calls.get(2));
+    }
+
+    @Test
+    public void should_fall_back_to_jpql_without_registration_support()
+    {
+        // given
+        List<String> calls = new ArrayList<String>();
+        EntityManager entityManager = entityManager(factory(EntityManagerFactory.class, calls, false), calls);
+
+        // when
+        NamedQueryRegistry.createQuery(entityManager, "test.unsupported", "select e from Simple e", Object.class);
+
+        // then
+        assertEquals(1, calls.size());
+        assertEquals("createQuery select e from Simple e", calls.get(0));
+    }
+
+    @Test
+    public void should_fall_back_to_jpql_and_not_retry_failed_registration()
+    {
+        // given
+        List<String> calls = new ArrayList<String>();
+        EntityManager entityManager = entityManager(factory(NamedQueryFactory.class, calls, true), calls);
+
+        // when
+        NamedQueryRegistry.createQuery(entityManager, "test.failing", "select e from Simple e", Object.class);
+        NamedQueryRegistry.createQuery(entityManager, "test.failing", "select e from Simple e", Object.class);
+
+        // then
+        assertEquals(3, calls.size());
+        assertEquals("addNamedQuery test.failing", calls.get(0));
+        assertEquals("createQuery select e from Simple e", calls.get(1));
+        assertEquals("createQuery select e from Simple e", calls.get(2));
+    }
+
+    private static EntityManagerFactory factory(Class<? extends EntityManagerFactory> type, final List<String> calls,
+            final boolean failing)
+    {
+        return (EntityManagerFactory) Proxy.newProxyInstance(NamedQueryRegistryTest.class.getClassLoader(),
+                new Class<?>[] { type }, new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        if ("addNamedQuery".equals(method.getName()))
+                        {
+                            calls.add("addNamedQuery " + args[0]);
+                            if (failing)
+                            {
+                                throw new IllegalStateException("registration failed");
+                            }
+                            return null;
+                        }
+                        if ("hashCode".equals(method.getName()))
+                        {
+                            return System.identityHashCode(proxy);
+                        }
+                        if ("equals".equals(method.getName()))
+                        {
+                            return proxy == args[0];
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    private static EntityManager entityManager(final EntityManagerFactory factory, final List<String> calls)
+    {
+        return (EntityManager) Proxy.newProxyInstance(NamedQueryRegistryTest.class.getClassLoader(),
+                new Class<?>[] { EntityManager.class }, new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        if ("getEntityManagerFactory".equals(method.getName()))
+                        {
+                            return factory;
+                        }
+                        if (args != null && args.length == 2)
+                        {
+                            calls.add(method.getName() + " " + args[0]);
+                        }
+                        return Proxy.newProxyInstance(NamedQueryRegistryTest.class.getClassLoader(),
+                                new Class<?>[] { TypedQuery.class }, new InvocationHandler()
+                                {
+                                    @Override
+                                    public Object invoke(Object proxy, Method method, Object[] args)
+                                    {
+                                        return null;
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * JPA 2.1 factory, the test classpath only has the JPA 2.0 API.
+     */
+    public interface NamedQueryFactory extends EntityManagerFactory
+    {
+        void addNamedQuery(String name, Query query);
+    }
+
+}
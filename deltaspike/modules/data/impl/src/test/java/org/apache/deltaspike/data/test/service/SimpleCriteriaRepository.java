@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.apache.deltaspike.data.api.AbstractEntityRepository;
 import org.apache.deltaspike.data.api.Repository;
+import org.apache.deltaspike.data.api.criteria.Criteria;
 import org.apache.deltaspike.data.api.criteria.CriteriaSupport;
 import org.apache.deltaspike.data.test.domain.Simple;
 import org.apache.deltaspike.data.test.domain.Simple_;
@@ -40,6 +41,39 @@ public abstract class SimpleCriteriaRepository extends AbstractEntityRepository<
                 .getResultList();
     }
 
+    public List<Simple> queryAfterKey(String name, Integer counter, Long id, int max)
+    {
+        Criteria<Simple, Simple> criteria = criteria()
+                .eq(Simple_.name, name)
+                .orderDesc(Simple_.counter)
+                .orderAsc(Simple_.id);
+        if (id != null)
+        {
+            criteria.afterKey(counter, id);
+        }
+        return criteria.createQuery()
+                .setMaxResults(max)
+                .getResultList();
+    }
+
+    public List<Simple> queryAfterEmptyKey(String name)
+    {
+        return criteria()
+                .eq(Simple_.name, name)
+                .afterKey()
+                .getResultList();
+    }
+
+    public List<Simple> queryAfterNullKey(String name)
+    {
+        return criteria()
+                .eq(Simple_.name, name)
+                .orderDesc(Simple_.counter)
+                .orderAsc(Simple_.id)
+                .afterKey(null, Long.valueOf(1))
+                .getResultList();
+    }
+
     public Simple queryOptional(String name)
     {
         return criteria()
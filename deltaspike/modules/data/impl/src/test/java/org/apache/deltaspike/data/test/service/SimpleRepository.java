@@ -22,6 +22,7 @@ import static javax.persistence.LockModeType.PESSIMISTIC_WRITE;
 import static org.apache.deltaspike.data.api.SingleResultType.ANY;
 import static org.apache.deltaspike.data.api.SingleResultType.OPTIONAL;
 
+import java.util.Iterator;
 import java.util.List;
 
 import javax.persistence.EntityManager;
@@ -91,6 +92,14 @@ public abstract class SimpleRepository extends AbstractEntityRepository<Simple,
 
     public abstract QueryResult<Simple> findByName(String name);
 
+    @Query(value = "select s from Simple s where s.name = ?1 order by s.id", fetchSize = 2, clearBetweenFetches = true)
+    public abstract Iterator<Simple> streamByName(String name);
+
+    @Query(fetchSize = 2)
+    public abstract Iterable<Simple> findByNameOrderByIdAsc(String name, @FirstResult int first);
+
+    public abstract Iterable<Simple> findByNameOrderByIdDesc(String name);
+
     @Override
     protected abstract EntityManager entityManager();
 
@@ -19,6 +19,7 @@
 package org.apache.deltaspike.data.test.util;
 
 import org.apache.deltaspike.data.api.AbstractEntityRepository;
+import org.apache.deltaspike.data.api.CloseableIterator;
 import org.apache.deltaspike.data.api.EntityManagerConfig;
 import org.apache.deltaspike.data.api.EntityManagerResolver;
 import org.apache.deltaspike.data.api.EntityRepository;
@@ -136,7 +137,7 @@ public abstract class TestDeployments
                         FirstResult.class, MaxResults.class, Modifying.class,
                         Query.class, QueryParam.class, QueryResult.class,
                         EntityManagerConfig.class, EntityManagerResolver.class, SingleResultType.class,
-                        QueryInvocationException.class)
+                        QueryInvocationException.class, CloseableIterator.class)
                 .addClasses(Criteria.class, QuerySelection.class, CriteriaSupport.class)
                 .addClasses(CreatedOn.class, CurrentUser.class, ModifiedBy.class, ModifiedOn.class)
                 .addClasses(MappingConfig.class, QueryInOutMapper.class)